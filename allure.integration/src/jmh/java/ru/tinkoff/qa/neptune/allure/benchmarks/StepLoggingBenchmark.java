@@ -0,0 +1,103 @@
+package ru.tinkoff.qa.neptune.allure.benchmarks;
+
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.TestResult;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.tinkoff.qa.neptune.core.api.CreateWith;
+import ru.tinkoff.qa.neptune.core.api.GetStep;
+import ru.tinkoff.qa.neptune.core.api.ProviderOfEmptyParameters;
+import ru.tinkoff.qa.neptune.core.api.proxy.ProxyFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static io.qameta.allure.Allure.getLifecycle;
+import static java.lang.String.format;
+import static java.lang.System.setProperty;
+import static java.util.UUID.randomUUID;
+import static ru.tinkoff.qa.neptune.core.api.StoryWriter.toGet;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.flushEvents;
+import static ru.tinkoff.qa.neptune.core.api.properties.AsyncEventFiringProperty.ASYNC_EVENT_FIRING_PROPERTY;
+
+/**
+ * Measures throughput of steps which are logged by {@link ru.tinkoff.qa.neptune.allure.AllureEventLogger}.
+ * Each invocation is a test case of {@link #STEPS} steps. Events of the test case are flushed and the test case
+ * is written to the results directory at the end of the invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StepLoggingBenchmark {
+
+    private static final int STEPS = 20;
+
+    /**
+     * Value of the property {@code async.event.firing}
+     */
+    @Param({"false", "true"})
+    public boolean async;
+
+    /**
+     * Amount of work which is done by each step
+     */
+    @Param({"0", "5000"})
+    public int tokens;
+
+    private Path resultsDirectory;
+    private AllureLifecycle lifecycle;
+    private LoggedStep step;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        resultsDirectory = Files.createTempDirectory("allure-results");
+        setProperty("allure.results.directory", resultsDirectory.toString());
+        setProperty(ASYNC_EVENT_FIRING_PROPERTY.getPropertyName(), String.valueOf(async));
+        lifecycle = getLifecycle();
+        step = ProxyFactory.getProxied(LoggedStep.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(resultsDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public void loggedSteps(Blackhole blackhole) {
+        String uuid = randomUUID().toString();
+        lifecycle.scheduleTestCase(new TestResult().withUuid(uuid).withName("Benchmark"));
+        lifecycle.startTestCase(uuid);
+        try {
+            for (int i = 0; i < STEPS; i++) {
+                int number = i;
+                blackhole.consume(step.get(toGet(format("Step %s", number), s -> {
+                    Blackhole.consumeCPU(tokens);
+                    return number;
+                })));
+            }
+        }
+        finally {
+            flushEvents();
+            lifecycle.stopTestCase(uuid);
+            lifecycle.writeTestCase(uuid);
+        }
+    }
+
+    @CreateWith(provider = ProviderOfEmptyParameters.class)
+    public static class LoggedStep implements GetStep<LoggedStep> {
+
+        protected LoggedStep() {
+            super();
+        }
+    }
+}
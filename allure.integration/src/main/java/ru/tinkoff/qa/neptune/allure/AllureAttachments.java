@@ -0,0 +1,85 @@
+package ru.tinkoff.qa.neptune.allure;
+
+import io.qameta.allure.model.Attachment;
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.AttachmentStore;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+import static io.qameta.allure.Allure.getLifecycle;
+import static io.qameta.allure.util.PropertiesUtils.loadAllureProperties;
+import static java.lang.String.format;
+import static java.nio.file.Files.exists;
+import static java.nio.file.Paths.get;
+import static ru.tinkoff.qa.neptune.allure.AllureEventLogger.getCurrentRoot;
+import static ru.tinkoff.qa.neptune.allure.AllureEventLogger.getCurrentStep;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.CapturedDataProcessing.processInBackground;
+
+/**
+ * Adds attachments to the current step. Files of attachments are named by digests of their content and extensions.
+ * Identical content is written once and all attachments refer to the same file. The file is written again when it
+ * is deleted from the directory of results, e.g. when the directory is cleaned between runs.
+ */
+final class AllureAttachments {
+
+    private static final AttachmentStore STORE = new AttachmentStore();
+    private static final Path RESULTS_DIRECTORY = get(loadAllureProperties()
+            .getProperty("allure.results.directory", "allure-results"));
+
+    private AllureAttachments() {
+        super();
+    }
+
+    /**
+     * Adds an attachment. The attachment is linked to the current step at once. The content may be produced
+     * and written later by a background thread, which sets the source of the attachment. The test case or
+     * the fixture is not stopped until the source is set (see {@link AllureResultFinishing}).
+     *
+     * @param name of the attachment.
+     * @param type is MIME type of the attachment.
+     * @param fileExtension is an extension of the file, e.g. {@code "png"}.
+     * @param content supplies the content of the attachment.
+     */
+    static void addAttachment(String name, String type, String fileExtension, Supplier<byte[]> content) {
+        Attachment attachment = new Attachment().withName(name).withType(type);
+        String step = getCurrentStep();
+        String root = getCurrentRoot();
+        if (step != null) {
+            getLifecycle().updateStep(step, stepResult -> stepResult.getAttachments().add(attachment));
+        }
+        else if (root != null) {
+            //it is the background thread which has no context of Allure. The root is a test case or a fixture
+            try {
+                getLifecycle().updateTestCase(root, testResult -> testResult.getAttachments().add(attachment));
+            }
+            catch (IllegalStateException e) {
+                //Allure doesn't cast the fixture to the test case
+                getLifecycle().updateFixture(root, fixtureResult -> fixtureResult.getAttachments().add(attachment));
+            }
+        }
+        else {
+            //the attachment refers to the current step or test case of Allure
+            String source = getLifecycle().prepareAttachment(name, type, fileExtension);
+            processInBackground(() -> getLifecycle().writeAttachment(source, new ByteArrayInputStream(content.get())));
+            return;
+        }
+
+        String extension = extensionOf(fileExtension);
+        processInBackground(() -> {
+            byte[] bytes = content.get();
+            attachment.setSource(STORE.store(bytes, extension, hash -> {
+                String source = format("%s-attachment%s", hash, extension);
+                getLifecycle().writeAttachment(source, new ByteArrayInputStream(bytes));
+                return source;
+            }, source -> exists(RESULTS_DIRECTORY.resolve(source))));
+        });
+    }
+
+    private static String extensionOf(String fileExtension) {
+        if (fileExtension == null || fileExtension.isEmpty()) {
+            return "";
+        }
+        return fileExtension.charAt(0) == '.' ? fileExtension : "." + fileExtension;
+    }
+}
@@ -0,0 +1,14 @@
+package ru.tinkoff.qa.neptune.allure;
+
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.CapturedBytes;
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.CapturedBytesInjector;
+
+import static ru.tinkoff.qa.neptune.allure.AllureAttachments.addAttachment;
+
+public class AllureBytesInjector implements CapturedBytesInjector {
+
+    @Override
+    public void inject(CapturedBytes toBeInjected, String message) {
+        addAttachment(message, toBeInjected.getMimeType(), toBeInjected.getFileExtension(), toBeInjected::getBytes);
+    }
+}
@@ -18,9 +18,22 @@ import static java.lang.String.format;
 
 public class AllureEventLogger implements EventLogger {
 
+    /**
+     * Step which is run by the thread that logs events. It is the firing thread or the background thread
+     * when events are fired asynchronously. Injectors are invoked by the same thread.
+     */
+    private static final ThreadLocal<String> CURRENT_STEP = new ThreadLocal<>();
+
+    /**
+     * Test case or fixture which is run by the firing thread. It is known by the background thread only, when events
+     * are fired asynchronously.
+     */
+    private static final ThreadLocal<String> CURRENT_ROOT = new ThreadLocal<>();
+
     private AllureLifecycle allureLifecycle = getLifecycle();
     private final LinkedList<String> stepUIIDs = new LinkedList<>();
     private final HashMap<String, Status> results = new HashMap<>();
+    private String rootUuid;
 
     @Override
     public void fireTheEventStarting(String message) {
@@ -30,13 +43,19 @@ public class AllureEventLogger implements EventLogger {
                 .withParameters();
 
         if (stepUIIDs.size() == 0) {
-            allureLifecycle.startStep(uuid, result);
+            if (rootUuid != null) {
+                allureLifecycle.startStep(rootUuid, uuid, result);
+            }
+            else {
+                allureLifecycle.startStep(uuid, result);
+            }
         }
         else {
             allureLifecycle.startStep(stepUIIDs.getLast(), uuid, result);
         }
         stepUIIDs.addLast(uuid);
         results.put(uuid, null);
+        CURRENT_STEP.set(uuid);
     }
 
     @Override
@@ -80,5 +99,33 @@ public class AllureEventLogger implements EventLogger {
         });
         allureLifecycle.stopStep(uuid);
         stepUIIDs.removeLast();
+        if (stepUIIDs.size() == 0) {
+            CURRENT_STEP.remove();
+        }
+        else {
+            CURRENT_STEP.set(stepUIIDs.getLast());
+        }
+    }
+
+    static String getCurrentStep() {
+        return CURRENT_STEP.get();
+    }
+
+    static String getCurrentRoot() {
+        return CURRENT_ROOT.get();
+    }
+
+    /**
+     * Steps are started by the background thread when events are fired asynchronously. This thread
+     * doesn't know the test case or the fixture which is run by the firing thread. So the uuid of this
+     * test case|fixture is read here. Captured data which is injected without any step is attached to it.
+     */
+    @Override
+    public Runnable captureStateOfFiringThread() {
+        String root = allureLifecycle.getCurrentTestCase().orElse(null);
+        return () -> {
+            rootUuid = root;
+            CURRENT_ROOT.set(root);
+        };
     }
 }
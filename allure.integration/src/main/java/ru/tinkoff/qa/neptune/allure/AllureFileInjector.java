@@ -4,21 +4,23 @@ import ru.tinkoff.qa.neptune.core.api.event.firing.captors.CapturedFileInjector;
 import io.qameta.allure.AllureResultsWriteException;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.io.IOException;
 
 import static com.google.common.io.Files.getFileExtension;
-import static io.qameta.allure.Allure.addAttachment;
+import static java.nio.file.Files.readAllBytes;
+import static ru.tinkoff.qa.neptune.allure.AllureAttachments.addAttachment;
 
 public class AllureFileInjector implements CapturedFileInjector {
 
     @Override
     public void inject(File toBeInjected, String message) {
+        //the file may be changed or deleted later. Only the writing is performed in background
+        byte[] content;
         try {
-            addAttachment(message, null, new FileInputStream(toBeInjected),
-                    getFileExtension(toBeInjected.getAbsolutePath()));
-        } catch (FileNotFoundException e) {
+            content = readAllBytes(toBeInjected.toPath());
+        } catch (IOException e) {
             throw new AllureResultsWriteException(e.getMessage(), e);
         }
+        addAttachment(message, null, getFileExtension(toBeInjected.getAbsolutePath()), () -> content);
     }
 }
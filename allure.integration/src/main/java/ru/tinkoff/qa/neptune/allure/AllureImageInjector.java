@@ -7,35 +7,27 @@ import javax.imageio.ImageIO;
 import java.awt.image.*;
 import java.io.*;
 
-import static io.qameta.allure.Allure.addAttachment;
-import static java.io.File.createTempFile;
-import static java.util.Optional.ofNullable;
-import static java.util.UUID.randomUUID;
+import static ru.tinkoff.qa.neptune.allure.AllureAttachments.addAttachment;
 
+/**
+ * Encodes images to PNG. {@link AllureBytesInjector} should be preferred when a captor is able to
+ * return already encoded data.
+ */
 public class AllureImageInjector implements CapturedImageInjector {
 
-    private InputStream inputStream(BufferedImage image) {
-        File picForLog = null;
+    private static byte[] toPng(BufferedImage image) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         try {
-            picForLog = createTempFile("picture", randomUUID().toString() + ".png");
-            ImageIO.write(image, "png", picForLog);
-            return new FileInputStream(picForLog);
+            ImageIO.write(image, "png", outputStream);
+            return outputStream.toByteArray();
         }
         catch (IOException e) {
             throw new AllureResultsWriteException(e.getMessage(), e);
         }
-        finally {
-            ofNullable(picForLog).ifPresent(file -> {
-                if (file.exists()) {
-                    file.deleteOnExit();
-                }
-            });
-        }
     }
 
     @Override
     public void inject(BufferedImage toBeInjected, String message) {
-        InputStream inputStream = inputStream(toBeInjected);
-        addAttachment(message, "image/*", inputStream, "png");
+        addAttachment(message, "image/png", "png", () -> toPng(toBeInjected));
     }
 }
@@ -0,0 +1,28 @@
+package ru.tinkoff.qa.neptune.allure;
+
+import io.qameta.allure.listener.FixtureLifecycleListener;
+import io.qameta.allure.listener.TestLifecycleListener;
+import io.qameta.allure.model.FixtureResult;
+import io.qameta.allure.model.TestResult;
+
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.flushEvents;
+
+/**
+ * Attachments are linked to steps at once, but their content is written and sources of attachments are set
+ * by background threads (see {@link AllureAttachments}). Events may be fired to {@link AllureEventLogger}
+ * by a background thread too. A test case or a fixture is stopped by the thread which runs it, so this thread
+ * waits here until its events are fired and its attachments are written. Then the result is written with all
+ * steps and attachments whichever listener of the test framework stops it first.
+ */
+public class AllureResultFinishing implements TestLifecycleListener, FixtureLifecycleListener {
+
+    @Override
+    public void beforeTestStop(TestResult result) {
+        flushEvents();
+    }
+
+    @Override
+    public void beforeFixtureStop(FixtureResult result) {
+        flushEvents();
+    }
+}
@@ -2,12 +2,15 @@ package ru.tinkoff.qa.neptune.allure;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.CapturedStringInjector;
 
-import static io.qameta.allure.Allure.addAttachment;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static ru.tinkoff.qa.neptune.allure.AllureAttachments.addAttachment;
 
 public class AllureStringInjector implements CapturedStringInjector {
 
     @Override
     public void inject(StringBuilder toBeInjected, String message) {
-        addAttachment(message, toBeInjected.toString());
+        //the builder may be changed later. Only the encoding is performed in background
+        String text = toBeInjected.toString();
+        addAttachment(message, "text/plain", ".txt", () -> text.getBytes(UTF_8));
     }
 }
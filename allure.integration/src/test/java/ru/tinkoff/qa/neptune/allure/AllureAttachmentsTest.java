@@ -0,0 +1,193 @@
+package ru.tinkoff.qa.neptune.allure;
+
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.TestResult;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.StringCaptor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static io.qameta.allure.Allure.getLifecycle;
+import static io.qameta.allure.Allure.setLifecycle;
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.allure.AllureAttachments.addAttachment;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.addCaptors;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.catchResult;
+import static ru.tinkoff.qa.neptune.core.api.properties.AsyncEventFiringProperty.ASYNC_EVENT_FIRING_PROPERTY;
+import static ru.tinkoff.qa.neptune.core.api.properties.CaptureProcessingThreadsProperty.CAPTURE_PROCESSING_THREADS_PROPERTY;
+
+public class AllureAttachmentsTest {
+
+    private static final String RESULTS_DIRECTORY = "allure.results.directory";
+
+    private Path resultsDirectory;
+    private AllureLifecycle previousLifecycle;
+    private AllureLifecycle lifecycle;
+
+    private static byte[] slowContent(String content) {
+        try {
+            //the test case is stopped earlier than the content is written by the background thread
+            Thread.sleep(300);
+        }
+        catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+        return content.getBytes(UTF_8);
+    }
+
+    @BeforeClass
+    public void beforeAll() throws IOException {
+        resultsDirectory = Files.createTempDirectory("allure-results");
+        setProperty(RESULTS_DIRECTORY, resultsDirectory.toString());
+        setProperty(CAPTURE_PROCESSING_THREADS_PROPERTY.getPropertyName(), "2");
+        previousLifecycle = getLifecycle();
+        lifecycle = new AllureLifecycle();
+        setLifecycle(lifecycle);
+    }
+
+    @AfterClass
+    public void afterAll() throws IOException {
+        setLifecycle(previousLifecycle);
+        clearProperty(RESULTS_DIRECTORY);
+        clearProperty(CAPTURE_PROCESSING_THREADS_PROPERTY.getPropertyName());
+        try (Stream<Path> paths = Files.walk(resultsDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private TestResult runTestCase(Runnable body) {
+        String uuid = randomUUID().toString();
+        lifecycle.scheduleTestCase(new TestResult().withUuid(uuid).withName("Attachments"));
+        lifecycle.startTestCase(uuid);
+        try {
+            body.run();
+        }
+        finally {
+            lifecycle.stopTestCase(uuid);
+        }
+
+        AtomicReference<TestResult> result = new AtomicReference<>();
+        lifecycle.updateTestCase(uuid, result::set);
+        lifecycle.writeTestCase(uuid);
+        return result.get();
+    }
+
+    private static List<Attachment> attachmentsOfSteps(TestResult result) {
+        return result.getSteps().stream().flatMap(step -> step.getAttachments().stream()).collect(toList());
+    }
+
+    @Test
+    public void sourceIsSetBeforeTestCaseIsStoppedTest() {
+        AllureEventLogger logger = new AllureEventLogger();
+        TestResult result = runTestCase(() -> {
+            logger.fireTheEventStarting("Step with an attachment");
+            addAttachment("Text", "text/plain", "txt", () -> slowContent("Source is set"));
+            logger.fireEventFinishing();
+        });
+
+        List<Attachment> attachments = attachmentsOfSteps(result);
+        assertThat(attachments, hasSize(1));
+        assertThat(attachments.get(0).getSource(), not(nullValue()));
+        assertThat(Files.exists(resultsDirectory.resolve(attachments.get(0).getSource())), is(true));
+    }
+
+    @Test
+    public void identicalContentIsWrittenOnceTest() throws IOException {
+        AllureEventLogger logger = new AllureEventLogger();
+        TestResult result = runTestCase(() -> {
+            for (int i = 0; i < 3; i++) {
+                logger.fireTheEventStarting("Polling step");
+                addAttachment("Text", "text/plain", "txt", () -> "Identical content".getBytes(UTF_8));
+                logger.fireEventFinishing();
+            }
+            logger.fireTheEventStarting("Step with another extension");
+            addAttachment("Html", "text/html", "html", () -> "Identical content".getBytes(UTF_8));
+            logger.fireEventFinishing();
+        });
+
+        List<String> sources = attachmentsOfSteps(result).stream().map(Attachment::getSource).collect(toList());
+        assertThat(sources, hasSize(4));
+        assertThat(sources.subList(0, 3).stream().distinct().count(), is(1L));
+        assertThat(sources.get(3), not(equalTo(sources.get(0))));
+        try (Stream<Path> files = Files.list(resultsDirectory)) {
+            assertThat(files.map(path -> path.getFileName().toString()).filter(sources::contains).count(), is(2L));
+        }
+    }
+
+    @Test
+    public void removedFileIsWrittenAgainTest() throws IOException {
+        AllureEventLogger logger = new AllureEventLogger();
+        Runnable body = () -> {
+            logger.fireTheEventStarting("Step with an attachment");
+            addAttachment("Text", "text/plain", "txt", () -> "Content of the cleaned directory".getBytes(UTF_8));
+            logger.fireEventFinishing();
+        };
+
+        Path written = resultsDirectory.resolve(attachmentsOfSteps(runTestCase(body)).get(0).getSource());
+        //the directory of results is cleaned between runs
+        Files.delete(written);
+        Path writtenAgain = resultsDirectory.resolve(attachmentsOfSteps(runTestCase(body)).get(0).getSource());
+
+        assertThat(writtenAgain, equalTo(written));
+        assertThat(Files.exists(writtenAgain), is(true));
+    }
+
+    @Test
+    public void attachmentWithoutStepIsAddedToTestCaseAsynchronouslyTest() throws Exception {
+        setProperty(ASYNC_EVENT_FIRING_PROPERTY.getPropertyName(), "true");
+        addCaptors(List.of(new CapturedTextCaptor()));
+        AtomicReference<TestResult> result = new AtomicReference<>();
+        try {
+            //the property is read once by each thread which fires events
+            Thread thread = new Thread(() -> result.set(runTestCase(() ->
+                    catchResult(new CapturedText("Text without any step"), "Text"))));
+            thread.start();
+            thread.join();
+        }
+        finally {
+            clearProperty(ASYNC_EVENT_FIRING_PROPERTY.getPropertyName());
+        }
+
+        List<Attachment> attachments = result.get().getAttachments();
+        assertThat(attachments, hasSize(1));
+        assertThat(attachments.get(0).getSource(), not(nullValue()));
+        assertThat(new String(Files.readAllBytes(resultsDirectory.resolve(attachments.get(0).getSource())), UTF_8),
+                is("Text without any step"));
+    }
+
+    private static final class CapturedText {
+        private final String text;
+
+        private CapturedText(String text) {
+            this.text = text;
+        }
+    }
+
+    private static final class CapturedTextCaptor extends StringCaptor<CapturedText> {
+
+        @Override
+        protected StringBuilder getData(CapturedText caught) {
+            return new StringBuilder(caught.text);
+        }
+
+        @Override
+        public Class<CapturedText> getTypeToBeCaptured() {
+            return CapturedText.class;
+        }
+    }
+}
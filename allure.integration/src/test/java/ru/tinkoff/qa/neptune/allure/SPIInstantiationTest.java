@@ -1,6 +1,7 @@
 package ru.tinkoff.qa.neptune.allure;
 
 import ru.tinkoff.qa.neptune.core.api.event.firing.EventLogger;
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.CapturedBytesInjector;
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.CapturedFileInjector;
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.CapturedImageInjector;
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.CapturedStringInjector;
@@ -24,6 +25,12 @@ public class SPIInstantiationTest {
                 Matchers.is(true));
     }
 
+    @Test
+    public void instantiationOfBytesInjectorTest() {
+        assertThat(AllureBytesInjector.class.isAssignableFrom(loadSPI(CapturedBytesInjector.class).get(0).getClass()),
+                Matchers.is(true));
+    }
+
     @Test
     public void instantiationOfStringInjectorTest() {
         assertThat(AllureStringInjector.class.isAssignableFrom(loadSPI(CapturedStringInjector.class).get(0).getClass()),
@@ -0,0 +1,43 @@
+package ru.tinkoff.qa.neptune.core.api.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static ru.tinkoff.qa.neptune.core.api.StoryWriter.condition;
+import static ru.tinkoff.qa.neptune.core.api.conditions.ToGetSingleCheckedObject.getSingle;
+
+/**
+ * Measures the fluent waiting of a value which is suitable at the first attempt. It shows how much time
+ * is added to such waiting by the sleeping between attempts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FluentWaitBenchmark {
+
+    @Param({"0", "50"})
+    public long sleepingMillis;
+
+    private Function<String, Integer> waitForLength;
+
+    @Setup
+    public void setUp() {
+        Duration sleeping = ofMillis(sleepingMillis);
+        waitForLength = getSingle("Length of the string", String::length,
+                condition("is positive", (Integer i) -> i > 0), ofSeconds(5), sleeping, false,
+                () -> new IllegalStateException("Time is out"));
+    }
+
+    @Benchmark
+    public Integer immediateSuccess() {
+        return waitForLength.apply("Value");
+    }
+}
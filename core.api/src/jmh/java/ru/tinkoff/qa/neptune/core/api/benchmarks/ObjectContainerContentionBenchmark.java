@@ -0,0 +1,57 @@
+package ru.tinkoff.qa.neptune.core.api.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import ru.tinkoff.qa.neptune.core.api.GetStep;
+import ru.tinkoff.qa.neptune.core.api.concurency.ObjectContainer;
+import ru.tinkoff.qa.neptune.core.api.concurency.ObjectLease;
+
+import java.util.concurrent.TimeUnit;
+
+import static ru.tinkoff.qa.neptune.core.api.concurency.ObjectContainer.getAllObjects;
+import static ru.tinkoff.qa.neptune.core.api.concurency.ObjectContainer.setObjectBusy;
+import static ru.tinkoff.qa.neptune.core.api.concurency.ObjectLease.openLease;
+
+/**
+ * Measures the taking of free containers by {@link ObjectContainer#setObjectBusy(Class)} by 128 threads
+ * simultaneously. Taken containers are released by {@link ObjectLease}. The count of containers is defined by
+ * the parameter {@code containers}. When there are less containers than threads some attempts return nothing.
+ * {@code gradle :core.api:jmh -PjmhArgs='ObjectContainerContentionBenchmark'}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(128)
+@Fork(1)
+public class ObjectContainerContentionBenchmark {
+
+    @Param({"1", "16", "128"})
+    public int containers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        for (int i = 0; i < containers; i++) {
+            new ObjectContainer<>(new ContendedStep());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ObjectContainer.remove(getAllObjects(ContendedStep.class));
+    }
+
+    @Benchmark
+    public ObjectContainer<ContendedStep> takeAndRelease() {
+        ObjectLease lease = openLease();
+        try {
+            return setObjectBusy(ContendedStep.class);
+        }
+        finally {
+            lease.close();
+        }
+    }
+
+    public static class ContendedStep implements GetStep<ContendedStep> {
+    }
+}
@@ -0,0 +1,173 @@
+package ru.tinkoff.qa.neptune.core.api.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import ru.tinkoff.qa.neptune.core.api.GetStep;
+import ru.tinkoff.qa.neptune.core.api.concurency.ObjectContainer;
+import ru.tinkoff.qa.neptune.core.api.concurency.ObjectLease;
+
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.format;
+import static java.lang.Thread.currentThread;
+import static java.lang.management.ManagementFactory.getThreadMXBean;
+import static ru.tinkoff.qa.neptune.core.api.concurency.ObjectContainer.getAllObjects;
+import static ru.tinkoff.qa.neptune.core.api.concurency.ObjectContainer.setObjectBusy;
+import static ru.tinkoff.qa.neptune.core.api.concurency.ObjectLease.openLease;
+
+/**
+ * Measures throughput of the taking and the releasing of containers by 128 threads simultaneously.
+ * Each thread takes a free container by {@link ObjectContainer#setObjectBusy(Class)} or
+ * {@link ObjectContainer#setObjectBusy(Class, Object)} and releases it by {@link ObjectLease}.
+ * <ul>
+ *     <li>{@code shared} - all threads take containers which are not grouped. There are {@code containersPerGroup}
+ *     containers.</li>
+ *     <li>{@code grouped} - threads are split into {@code groups} groups, e.g. suites which are run in parallel.
+ *     Each group has {@code containersPerGroup} containers.</li>
+ * </ul>
+ * The release loop watches {@code liveOwners} threads which hold containers during the whole trial. CPU time of
+ * the loop and count of live threads are printed after each iteration.
+ * {@code gradle :core.api:jmh -PjmhArgs='ObjectContainerThroughputBenchmark'}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(128)
+@Fork(1)
+public class ObjectContainerThroughputBenchmark {
+
+    private static final String LOOP_NAME = "Neptune object container release loop";
+
+    @Param({"16"})
+    public int groups;
+
+    @Param({"1", "8"})
+    public int containersPerGroup;
+
+    @Param({"64"})
+    public int liveOwners;
+
+    private Object[] groupingObjects;
+    private final AtomicInteger threadCounter = new AtomicInteger();
+    private final ThreadMXBean threadMXBean = getThreadMXBean();
+    private final List<Thread> owners = new ArrayList<>();
+    private CountDownLatch ownersRelease;
+    private long loopId;
+    private long loopCpuNanos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        groupingObjects = new Object[groups];
+        for (int i = 0; i < groups; i++) {
+            groupingObjects[i] = "Group " + i;
+            for (int j = 0; j < containersPerGroup; j++) {
+                new ObjectContainer<>(new ThroughputStep(), groupingObjects[i], null);
+            }
+        }
+        for (int i = 0; i < containersPerGroup; i++) {
+            new ObjectContainer<>(new ThroughputStep());
+        }
+        startOwners();
+    }
+
+    private void startOwners() {
+        CountDownLatch taken = new CountDownLatch(liveOwners);
+        ownersRelease = new CountDownLatch(1);
+        for (int i = 0; i < liveOwners; i++) {
+            Thread owner = new Thread(() -> {
+                new ObjectContainer<>(new OwnedStep()).setBusy(currentThread());
+                taken.countDown();
+                try {
+                    ownersRelease.await();
+                }
+                catch (InterruptedException e) {
+                    currentThread().interrupt();
+                }
+            });
+            owner.setDaemon(true);
+            owners.add(owner);
+            owner.start();
+        }
+
+        try {
+            taken.await();
+        }
+        catch (InterruptedException e) {
+            currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        loopId = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals(LOOP_NAME))
+                .findFirst()
+                .map(Thread::getId)
+                .orElseThrow(() -> new IllegalStateException("The release loop is not started"));
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        loopCpuNanos = threadMXBean.getThreadCpuTime(loopId);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownIteration() {
+        System.out.println(format("Release loop: CPU time %s microseconds, live threads %s, live owners %s",
+                (threadMXBean.getThreadCpuTime(loopId) - loopCpuNanos) / 1000, threadMXBean.getThreadCount(),
+                owners.size()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        ownersRelease.countDown();
+        for (Thread owner: owners) {
+            owner.join();
+        }
+        owners.clear();
+        ObjectContainer.remove(getAllObjects(ThroughputStep.class));
+        ObjectContainer.remove(getAllObjects(OwnedStep.class));
+    }
+
+    @State(Scope.Thread)
+    public static class Group {
+        private Object groupingObject;
+
+        @Setup(Level.Trial)
+        public void setUp(ObjectContainerThroughputBenchmark benchmark) {
+            groupingObject = benchmark.groupingObjects[benchmark.threadCounter.getAndIncrement()
+                    % benchmark.groups];
+        }
+    }
+
+    @Benchmark
+    public ObjectContainer<ThroughputStep> shared() {
+        ObjectLease lease = openLease();
+        try {
+            return setObjectBusy(ThroughputStep.class);
+        }
+        finally {
+            lease.close();
+        }
+    }
+
+    @Benchmark
+    public ObjectContainer<ThroughputStep> grouped(Group group) {
+        ObjectLease lease = openLease();
+        try {
+            return setObjectBusy(ThroughputStep.class, group.groupingObject);
+        }
+        finally {
+            lease.close();
+        }
+    }
+
+    public static class ThroughputStep implements GetStep<ThroughputStep> {
+    }
+
+    public static class OwnedStep implements GetStep<OwnedStep> {
+    }
+}
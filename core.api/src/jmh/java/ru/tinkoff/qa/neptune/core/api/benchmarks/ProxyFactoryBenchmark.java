@@ -0,0 +1,54 @@
+package ru.tinkoff.qa.neptune.core.api.benchmarks;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.loading.InjectionClassLoader;
+import net.bytebuddy.implementation.StubMethod;
+import org.openjdk.jmh.annotations.*;
+import ru.tinkoff.qa.neptune.core.api.CreateWith;
+import ru.tinkoff.qa.neptune.core.api.GetStep;
+import ru.tinkoff.qa.neptune.core.api.ProviderOfEmptyParameters;
+import ru.tinkoff.qa.neptune.core.api.proxy.ProxyFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.any;
+
+/**
+ * Measures the cost of creation of a step proxy. {@link #generateProxyClass()} shows the cost of generation
+ * and loading of a new proxy class that was paid by each invocation of {@link ProxyFactory#getProxied(Class)}
+ * before proxy classes were cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProxyFactoryBenchmark {
+
+    @Benchmark
+    public BenchmarkStep getProxied() {
+        return ProxyFactory.getProxied(BenchmarkStep.class);
+    }
+
+    @Benchmark
+    public Class<?> generateProxyClass() throws IllegalAccessException {
+        return new ByteBuddy().subclass(BenchmarkStep.class)
+                .method(any())
+                .intercept(StubMethod.INSTANCE)
+                .make()
+                .load(InjectionClassLoader.getSystemClassLoader(), ClassLoadingStrategy.UsingLookup.of(MethodHandles
+                        .privateLookupIn(BenchmarkStep.class, MethodHandles.lookup())))
+                .getLoaded();
+    }
+
+    @CreateWith(provider = ProviderOfEmptyParameters.class)
+    public static class BenchmarkStep implements GetStep<BenchmarkStep> {
+
+        protected BenchmarkStep() {
+            super();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package ru.tinkoff.qa.neptune.core.api.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import ru.tinkoff.qa.neptune.core.api.CreateWith;
+import ru.tinkoff.qa.neptune.core.api.GetStep;
+import ru.tinkoff.qa.neptune.core.api.ProviderOfEmptyParameters;
+import ru.tinkoff.qa.neptune.core.api.proxy.ProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares invocation of a method of a step proxy with the direct invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProxyInvocationBenchmark {
+
+    private InvokedStep proxy;
+    private InvokedStep direct;
+    private int value;
+
+    @Setup
+    public void setUp() {
+        proxy = ProxyFactory.getProxied(InvokedStep.class);
+        direct = new InvokedStep();
+        proxy.add(1);
+    }
+
+    @Benchmark
+    public int directInvocation() {
+        return direct.add(value++);
+    }
+
+    @Benchmark
+    public int proxyInvocation() {
+        return proxy.add(value++);
+    }
+
+    @Benchmark
+    public InvokedStep proxyInvocationReturningSelf() {
+        return proxy.self();
+    }
+
+    @CreateWith(provider = ProviderOfEmptyParameters.class)
+    public static class InvokedStep implements GetStep<InvokedStep> {
+
+        protected InvokedStep() {
+            super();
+        }
+
+        public int add(int value) {
+            return value + 1;
+        }
+
+        public InvokedStep self() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package ru.tinkoff.qa.neptune.core.api.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import ru.tinkoff.qa.neptune.core.api.GetStep;
+import ru.tinkoff.qa.neptune.core.api.PerformActionStep;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static ru.tinkoff.qa.neptune.core.api.StoryWriter.action;
+import static ru.tinkoff.qa.neptune.core.api.StoryWriter.toGet;
+
+/**
+ * Measures steps when there are no event loggers and captors. The jmh source set has no SPI
+ * descriptors of loggers and captors. Run it with {@code -prof gc}: {@code gc.alloc.rate.norm} of
+ * the step wrappers is supposed to be equal to the direct invocation. Targets have an expensive
+ * {@code toString} which should not be invoked.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SilentStepBenchmark {
+
+    private final SilentStep step = new SilentStep();
+    private final Function<SilentStep, Integer> getStep = toGet("Value", SilentStep::next);
+    private final Function<Target, Integer> getFromTarget = toGet("Value of the target", Target::next);
+    private final Consumer<SilentStep> performStep = action("Increment", SilentStep::next);
+    private final Consumer<Target> performOnTarget = action("Increment of the target", Target::next);
+    private final Target target = new Target();
+
+    @Benchmark
+    public int directInvocation() {
+        return step.next();
+    }
+
+    @Benchmark
+    public Integer getStep() {
+        return step.get(getStep);
+    }
+
+    @Benchmark
+    public Integer stepFunctionWithTarget() {
+        return getFromTarget.apply(target);
+    }
+
+    @Benchmark
+    public SilentStep performStep() {
+        return step.perform(performStep);
+    }
+
+    @Benchmark
+    public Target stepActionWithTarget() {
+        performOnTarget.accept(target);
+        return target;
+    }
+
+    public static class SilentStep implements GetStep<SilentStep>, PerformActionStep<SilentStep> {
+        private int value;
+
+        public Integer next() {
+            //cached boxed values
+            value = (value + 1) & 0x7F;
+            return value;
+        }
+    }
+
+    public static class Target {
+        private int value;
+
+        public Integer next() {
+            value = (value + 1) & 0x7F;
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < 100; i++) {
+                builder.append("Target ").append(i).append(' ');
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package ru.tinkoff.qa.neptune.core.api.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static ru.tinkoff.qa.neptune.core.api.StoryWriter.toGet;
+
+/**
+ * Measures chains of functions which are built by {@code StepFunction.andThen} and {@code StepFunction.compose}
+ * depending on the depth of a chain. Both the building of a chain and the invocation of a built chain
+ * are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StepChainBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int depth;
+
+    private Function<Integer, Integer> increment;
+    private Function<Integer, Integer> andThenChain;
+    private Function<Integer, Integer> composeChain;
+
+    @Setup
+    public void setUp() {
+        increment = toGet("Incremented value", i -> i + 1);
+        andThenChain = buildAndThenChain();
+        composeChain = buildComposeChain();
+    }
+
+    @Benchmark
+    public Function<Integer, Integer> buildAndThenChain() {
+        Function<Integer, Integer> chain = increment;
+        for (int i = 1; i < depth; i++) {
+            chain = chain.andThen(increment);
+        }
+        return chain;
+    }
+
+    @Benchmark
+    public Function<Integer, Integer> buildComposeChain() {
+        Function<Integer, Integer> chain = increment;
+        for (int i = 1; i < depth; i++) {
+            chain = chain.compose(increment);
+        }
+        return chain;
+    }
+
+    @Benchmark
+    public Integer applyAndThenChain() {
+        return andThenChain.apply(1);
+    }
+
+    @Benchmark
+    public Integer applyComposeChain() {
+        return composeChain.apply(1);
+    }
+}
@@ -0,0 +1,84 @@
+package ru.tinkoff.qa.neptune.core.api.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import ru.tinkoff.qa.neptune.core.api.GetStep;
+import ru.tinkoff.qa.neptune.core.api.event.firing.EventLogger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static ru.tinkoff.qa.neptune.core.api.StoryWriter.toGet;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.ProviderRegistry.registryOf;
+
+/**
+ * Measures {@code StepFunction.apply} with and without an event logger. The logger does nothing, so
+ * the difference is the cost of building of messages and the firing of events. The logger is registered
+ * for the whole JVM, so the benchmark should be run in forked JVMs (each value of the parameter
+ * {@code logged} is measured by its own fork).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StepFunctionBenchmark {
+
+    @Param({"false", "true"})
+    public boolean logged;
+
+    private final ValueStep step = new ValueStep();
+    private final Function<ValueStep, Integer> getValue = toGet("Value", ValueStep::next);
+    private final Function<String, Integer> getLength = toGet("Length of the string", String::length);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (logged) {
+            registryOf(EventLogger.class).add(new SilentEventLogger());
+        }
+    }
+
+    @Benchmark
+    public Integer getStep() {
+        return step.get(getValue);
+    }
+
+    @Benchmark
+    public Integer stepFunctionWithTarget() {
+        return getLength.apply("Target");
+    }
+
+    public static class ValueStep implements GetStep<ValueStep> {
+        private int value;
+
+        public Integer next() {
+            value = (value + 1) & 0x7F;
+            return value;
+        }
+    }
+
+    private static class SilentEventLogger implements EventLogger {
+
+        private int events;
+
+        @Override
+        public void fireTheEventStarting(String message) {
+            events++;
+        }
+
+        @Override
+        public void fireThrownException(Throwable throwable) {
+            events++;
+        }
+
+        @Override
+        public void fireReturnedValue(Object returned) {
+            events++;
+        }
+
+        @Override
+        public void fireEventFinishing() {
+            events++;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package ru.tinkoff.qa.neptune.core.api.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import ru.tinkoff.qa.neptune.core.api.GetStepSupplier;
+import ru.tinkoff.qa.neptune.core.api.SequentialActionSupplier;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static ru.tinkoff.qa.neptune.core.api.StoryWriter.toGet;
+
+/**
+ * Measures {@link GetStepSupplier#set(Function)} and chains of actions which are built by
+ * {@link SequentialActionSupplier}. The length of a chain of actions is defined by the parameter {@code length}
+ * of {@link Chain}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StepSupplierBenchmark {
+
+    private final Function<Counter, Integer> getValue = toGet("Value of the counter", Counter::get);
+
+    private static Consumer<Counter> buildActions(int length) {
+        IncrementCounter supplier = new IncrementCounter();
+        for (int i = 0; i < length; i++) {
+            supplier.andThen("Increment", toGet("The counter", c -> c), i);
+        }
+        return supplier.get();
+    }
+
+    @Benchmark
+    public Function<Counter, Integer> setFunction() {
+        return new GetCounterValue().set(getValue).get();
+    }
+
+    @Benchmark
+    public Consumer<Counter> buildActions(Chain chain) {
+        return buildActions(chain.length);
+    }
+
+    @Benchmark
+    public Counter performActions(Chain chain) {
+        chain.actions.accept(chain.counter);
+        return chain.counter;
+    }
+
+    @State(Scope.Thread)
+    public static class Chain {
+
+        @Param({"1", "4", "16"})
+        public int length;
+
+        private final Counter counter = new Counter();
+        private Consumer<Counter> actions;
+
+        @Setup
+        public void setUp() {
+            actions = buildActions(length);
+        }
+    }
+
+    public static class Counter {
+        private int value;
+
+        public Integer get() {
+            return value & 0x7F;
+        }
+
+        private void add(int toAdd) {
+            value += toAdd;
+        }
+
+        @Override
+        public String toString() {
+            return "Counter";
+        }
+    }
+
+    private static class GetCounterValue extends GetStepSupplier<Counter, Integer, GetCounterValue> {
+
+        @Override
+        protected GetCounterValue set(Function<Counter, Integer> function) {
+            return super.set(function);
+        }
+    }
+
+    private static class IncrementCounter extends SequentialActionSupplier<Counter, Counter, IncrementCounter> {
+
+        @Override
+        protected IncrementCounter andThen(String actionDescription, Function<Counter, ? extends Counter> function,
+                                           Object... additionalArguments) {
+            return super.andThen(actionDescription, function, additionalArguments);
+        }
+
+        @Override
+        protected void performActionOn(Counter value, Object... additionalArgument) {
+            value.add((Integer) additionalArgument[0]);
+        }
+    }
+}
@@ -15,15 +15,16 @@ public interface GetStep<THIS extends GetStep<THIS>> {
     default  <T> T get(Function<THIS, T> function) {
         checkArgument(function != null,
                 "The function is not defined");
-        Preconditions.checkArgument(IsDescribedUtil.isDescribed(function),
-                "The function which returns the goal value should be described " +
-                        "by the StoryWriter.toGet method. Also you can override the toString method");
 
         StepFunction<THIS, T> stepFunction;
+        //functions created by StoryWriter.toGet are always described
         if (StepFunction.class.isAssignableFrom(function.getClass())) {
             stepFunction = StepFunction.class.cast(function);
         }
         else {
+            Preconditions.checkArgument(IsDescribedUtil.isDescribed(function),
+                    "The function which returns the goal value should be described " +
+                            "by the StoryWriter.toGet method. Also you can override the toString method");
             stepFunction = StepFunction.class.cast(StoryWriter.toGet(function.toString(), function));
         }
 
@@ -13,15 +13,16 @@ public interface PerformActionStep<THIS extends PerformActionStep<THIS>> {
 
     default THIS perform(Consumer<THIS> actionConsumer) {
         checkArgument(actionConsumer != null, "Action is not defined");
-        checkArgument(isDescribed(actionConsumer),
-                "Action should be described by the StoryWriter.action method." +
-                        "Also you can override the toString method");
 
         StepAction<THIS> stepAction;
+        //actions created by StoryWriter.action are always described
         if (StepAction.class.isAssignableFrom(actionConsumer.getClass())) {
             stepAction = StepAction.class.cast(actionConsumer);
         }
         else {
+            checkArgument(isDescribed(actionConsumer),
+                    "Action should be described by the StoryWriter.action method." +
+                            "Also you can override the toString method");
             stepAction = StepAction.class.cast(action(actionConsumer.toString(), actionConsumer));
         }
 
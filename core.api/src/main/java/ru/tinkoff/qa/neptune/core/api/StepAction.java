@@ -1,14 +1,21 @@
 package ru.tinkoff.qa.neptune.core.api;
 
+import ru.tinkoff.qa.neptune.core.api.event.timing.TimedEvent;
+
 import java.util.function.Consumer;
 
 import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.*;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.FlightRecorderEvents.stepEvent;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.StepLatencies.isCollecting;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.StepLatencies.record;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.TimedEvent.*;
 import static ru.tinkoff.qa.neptune.core.api.properties.DoCapturesOf.catchFailureEvent;
 import static ru.tinkoff.qa.neptune.core.api.properties.DoCapturesOf.catchSuccessEvent;
 import static ru.tinkoff.qa.neptune.core.api.utils.IsDescribedUtil.isDescribed;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.lang.String.format;
+import static java.lang.System.nanoTime;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 @SuppressWarnings("unchecked")
@@ -17,6 +24,8 @@ class StepAction<T> implements Consumer<T> {
     private final String description;
     private final Consumer<T> consumer;
     private boolean isComplex;
+    private String successMessage;
+    private String failureMessage;
 
     StepAction(String description, Consumer<T> consumer) {
         checkArgument(consumer != null, "Consumer should be defined");
@@ -42,7 +51,8 @@ class StepAction<T> implements Consumer<T> {
     }
 
     private void fireEventStartingIfNecessary(T t) {
-        if (isComplex) {
+        //messages are not built and the target is not converted to string when nobody logs them
+        if (isComplex || !hasEventLoggers()) {
             return;
         }
 
@@ -50,40 +60,71 @@ class StepAction<T> implements Consumer<T> {
             fireEventStarting(format("%s. Target: %s", description, t));
         }
         else {
-            fireEventStarting(format("%s", description));
+            fireEventStarting(description);
         }
     }
 
+    private boolean isCatchingNecessary() {
+        return !isComplex && !StepAction.class.isAssignableFrom(consumer.getClass()) && hasCaptors();
+    }
+
     private void fireThrownExceptionIfNecessary(Throwable thrown) {
         if (!isComplex) {
             fireThrownException(thrown);
         }
     }
 
-    private void fireEventFinishingIfNecessary() {
-        if (!isComplex) {
+    private boolean isTimingNecessary() {
+        return !isComplex && (isCollecting() || hasEventLoggers());
+    }
+
+    private void fireEventFinishingIfNecessary(boolean isTimed, long started) {
+        if (isComplex) {
+            return;
+        }
+
+        if (!isTimed) {
             fireEventFinishing();
+            return;
+        }
+
+        long duration = nanoTime() - started;
+        if (isCollecting()) {
+            record(description, duration);
         }
+        fireEventFinishing(duration);
     }
 
     @Override
     public void accept(T t) {
+        boolean isTimed = isTimingNecessary();
+        long started = isTimed ? nanoTime() : 0;
+        TimedEvent event = isComplex ? NO_EVENT : stepEvent(description);
+        String outcome = FAILED;
         try {
             fireEventStartingIfNecessary(t);
             consumer.accept(t);
-            if (catchSuccessEvent() && !isComplex && !StepAction.class.isAssignableFrom(consumer.getClass())) {
-                catchResult(t, format("Performing of '%s' succeed", description));
+            outcome = SUCCEEDED;
+            if (isCatchingNecessary() && catchSuccessEvent()) {
+                if (successMessage == null) {
+                    successMessage = format("Performing of '%s' succeed", description);
+                }
+                catchResult(t, successMessage);
             }
         }
         catch (Throwable thrown) {
             fireThrownExceptionIfNecessary(thrown);
-            if (catchFailureEvent() && !isComplex && !StepAction.class.isAssignableFrom(consumer.getClass())) {
-                catchResult(t, format("Performing of '%s' failed", description));
+            if (isCatchingNecessary() && catchFailureEvent()) {
+                if (failureMessage == null) {
+                    failureMessage = format("Performing of '%s' failed", description);
+                }
+                catchResult(t, failureMessage);
             }
             throw thrown;
         }
         finally {
-            fireEventFinishingIfNecessary();
+            event.finish(outcome);
+            fireEventFinishingIfNecessary(isTimed, started);
         }
     }
 
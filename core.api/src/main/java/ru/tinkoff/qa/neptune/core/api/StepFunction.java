@@ -1,5 +1,6 @@
 package ru.tinkoff.qa.neptune.core.api;
 
+import ru.tinkoff.qa.neptune.core.api.event.timing.TimedEvent;
 import ru.tinkoff.qa.neptune.core.api.exception.management.IgnoresThrowable;
 import ru.tinkoff.qa.neptune.core.api.exception.management.StopsIgnoreThrowable;
 
@@ -9,12 +10,17 @@ import java.util.Set;
 import java.util.function.Function;
 
 import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.*;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.FlightRecorderEvents.stepEvent;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.StepLatencies.isCollecting;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.StepLatencies.record;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.TimedEvent.*;
 import static ru.tinkoff.qa.neptune.core.api.properties.DoCapturesOf.catchFailureEvent;
 import static ru.tinkoff.qa.neptune.core.api.properties.DoCapturesOf.catchSuccessEvent;
 import static ru.tinkoff.qa.neptune.core.api.utils.IsDescribedUtil.isDescribed;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.lang.String.format;
+import static java.lang.System.nanoTime;
 import static java.util.List.of;
 import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -27,6 +33,9 @@ class StepFunction<T, R> implements Function<T, R>, IgnoresThrowable<StepFunctio
     private final Function<T, R> function;
     private final Set<Class<? extends Throwable>> ignored = new HashSet<>();
     private List<Function<?, ?>> functions;
+    private String startingMessage;
+    private String successMessage;
+    private String failureMessage;
 
     StepFunction(String description, Function<T, R> function) {
         checkArgument(function != null, "Function should be defined");
@@ -66,7 +75,8 @@ class StepFunction<T, R> implements Function<T, R>, IgnoresThrowable<StepFunctio
     }
 
     private void fireEventStartingIfNecessary(T t, boolean isComplex) {
-        if (isComplex) {
+        //messages are not built and the value is not converted to string when nobody logs them
+        if (isComplex || !hasEventLoggers()) {
             return;
         }
 
@@ -76,10 +86,17 @@ class StepFunction<T, R> implements Function<T, R>, IgnoresThrowable<StepFunctio
             fireEventStarting(format("From %s get %s", t, description));
         }
         else {
-            fireEventStarting(format("Get %s", description));
+            if (startingMessage == null) {
+                startingMessage = format("Get %s", description);
+            }
+            fireEventStarting(startingMessage);
         }
     }
 
+    private boolean isCatchingNecessary(boolean isComplex) {
+        return !isComplex && !StepFunction.class.isAssignableFrom(function.getClass()) && hasCaptors();
+    }
+
     private static <R> void fireReturnedValueIfNecessary(R r, boolean isComplex) {
         if (!isComplex) {
             fireReturnedValue(r);
@@ -92,39 +109,67 @@ class StepFunction<T, R> implements Function<T, R>, IgnoresThrowable<StepFunctio
         }
     }
 
-    private void fireEventFinishingIfNecessary(boolean isComplex) {
-        if (!isComplex) {
+    private static boolean isTimingNecessary(boolean isComplex) {
+        return !isComplex && (isCollecting() || hasEventLoggers());
+    }
+
+    private void fireEventFinishingIfNecessary(boolean isComplex, boolean isTimed, long started) {
+        if (isComplex) {
+            return;
+        }
+
+        if (!isTimed) {
             fireEventFinishing();
+            return;
         }
+
+        long duration = nanoTime() - started;
+        if (isCollecting()) {
+            record(description, duration);
+        }
+        fireEventFinishing(duration);
     }
 
     @Override
     public R apply(T t) {
         boolean isComplex = isComplex();
+        boolean isTimed = isTimingNecessary(isComplex);
+        long started = isTimed ? nanoTime() : 0;
+        TimedEvent event = isComplex ? NO_EVENT : stepEvent(description);
+        String outcome = FAILED;
         try {
             fireEventStartingIfNecessary(t, isComplex);
             R result = function.apply(t);
+            outcome = SUCCEEDED;
             fireReturnedValueIfNecessary(result, isComplex);
-            if (catchSuccessEvent() && !isComplex && !StepFunction.class.isAssignableFrom(function.getClass())) {
-                catchResult(result, format("Getting of '%s' succeed", description));
+            if (isCatchingNecessary(isComplex) && catchSuccessEvent()) {
+                if (successMessage == null) {
+                    successMessage = format("Getting of '%s' succeed", description);
+                }
+                catchResult(result, successMessage);
             }
             return result;
         }
         catch (Throwable thrown) {
             if (!shouldBeThrowableIgnored(thrown)) {
                 fireThrownExceptionIfNecessary(thrown, isComplex);
-                if (catchFailureEvent() && !isComplex && !StepFunction.class.isAssignableFrom(function.getClass())) {
-                    catchResult(t, format("Getting of '%s' failed", description));
+                if (isCatchingNecessary(isComplex) && catchFailureEvent()) {
+                    if (failureMessage == null) {
+                        failureMessage = format("Getting of '%s' failed", description);
+                    }
+                    catchResult(t, failureMessage);
                 }
                 throw thrown;
             }
             else {
+                outcome = IGNORED_FAILURE;
                 fireReturnedValueIfNecessary(null, isComplex);
                 return null;
             }
         }
         finally {
-            fireEventFinishingIfNecessary(isComplex);
+            event.finish(outcome);
+            fireEventFinishingIfNecessary(isComplex, isTimed, started);
         }
     }
 
@@ -0,0 +1,12 @@
+package ru.tinkoff.qa.neptune.core.api.cleaning;
+
+public interface PreWarmable {
+
+    /**
+     * Prepares an object before it is used by tests, e.g. starts a browser, opens a connection etc.
+     * It is invoked once when the object is created beforehand.
+     *
+     * @see ru.tinkoff.qa.neptune.core.api.proxy.ProxyFactory#createFreeObject(Class, Object)
+     */
+    void preWarm();
+}
@@ -0,0 +1,70 @@
+package ru.tinkoff.qa.neptune.core.api.concurency;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Creates pools of daemon threads which perform background work of Neptune (e.g. checks of conditions or
+ * processing of captured data). The queue of tasks of such pool is bounded. A thread which submits a task to
+ * the full queue performs this task itself. Idle threads are finished after 60 seconds, so the pool doesn't
+ * keep threads when it is not used.
+ */
+public final class BoundedDaemonPools {
+
+    private static final int QUEUE_CAPACITY_PER_THREAD = 16;
+
+    private BoundedDaemonPools() {
+        super();
+    }
+
+    /**
+     * Creates a bounded pool of daemon threads.
+     *
+     * @param threads is count of threads of the pool.
+     * @param threadName is a format of names of threads. It takes the number of a thread,
+     *                   e.g. {@code "Condition check %s"}.
+     * @param threadStarting is performed by each thread of the pool before tasks, e.g. to mark the thread.
+     * @return created pool.
+     */
+    public static ExecutorService newBoundedDaemonPool(int threads, String threadName, Runnable threadStarting) {
+        checkArgument(threads > 0, "Count of threads should be greater than 0");
+        checkNotNull(threadName);
+        checkNotNull(threadStarting);
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(threads, threads, 60, SECONDS,
+                new ArrayBlockingQueue<>(threads * QUEUE_CAPACITY_PER_THREAD),
+                new ThreadFactory() {
+                    private int count;
+
+                    @Override
+                    public synchronized Thread newThread(Runnable r) {
+                        Thread thread = new Thread(() -> {
+                            threadStarting.run();
+                            r.run();
+                        }, format(threadName, ++count));
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        return threadPoolExecutor;
+    }
+
+    /**
+     * Creates a bounded pool of daemon threads.
+     *
+     * @param threads is count of threads of the pool.
+     * @param threadName is a format of names of threads. It takes the number of a thread.
+     * @return created pool.
+     */
+    public static ExecutorService newBoundedDaemonPool(int threads, String threadName) {
+        return newBoundedDaemonPool(threads, threadName, () -> {});
+    }
+}
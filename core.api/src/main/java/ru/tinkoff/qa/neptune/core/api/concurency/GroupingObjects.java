@@ -1,8 +1,15 @@
 package ru.tinkoff.qa.neptune.core.api.concurency;
 
+import static ru.tinkoff.qa.neptune.core.api.concurency.ThreadContext.contextValue;
+
+/**
+ * Keeps the grouping object of step objects for the current thread. It is a part of {@link ThreadContext}, so
+ * a task which is submitted to another thread should be wrapped by {@code withCurrentContext(...)} to use step
+ * objects of the same group as the submitting thread does.
+ */
 public final class GroupingObjects {
 
-    private static final ThreadLocal<Object> GROUPING_OBJECTS = new ThreadLocal<>();
+    private static final ThreadLocal<Object> GROUPING_OBJECTS = contextValue();
 
     private GroupingObjects() {
         super();
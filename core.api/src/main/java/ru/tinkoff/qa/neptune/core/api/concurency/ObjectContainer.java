@@ -3,48 +3,57 @@ package ru.tinkoff.qa.neptune.core.api.concurency;
 import ru.tinkoff.qa.neptune.core.api.GetStep;
 import ru.tinkoff.qa.neptune.core.api.PerformActionStep;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
-import java.util.function.Predicate;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.lang.Thread.currentThread;
-import static java.util.Collections.synchronizedSet;
-import static java.util.stream.Collectors.toList;
 
 public class ObjectContainer<T> {
 
-    private static final Set<ObjectContainer<?>> containers = synchronizedSet(new HashSet<>());
-
     private final T t;
-    private Thread busyBy;
-    private Object groupBy;
+    private final AtomicReference<Thread> busyBy = new AtomicReference<>();
+    private volatile ObjectContainerRegistry.Bucket bucket;
+    private volatile boolean removed;
+    private volatile Thread lastOwner;
 
     public ObjectContainer(T t) {
+        this(t, null, null);
+    }
+
+    /**
+     * Creates a container which is grouped and taken by some thread at once. It is useful when
+     * a new object is created by a thread to be used by this thread. No other thread is able to take the container
+     * between its creation and the taking.
+     *
+     * @param t is an object to be wrapped.
+     * @param groupBy is the grouping object. It may be {@code null}.
+     * @param busyBy is a thread which takes the container. It may be {@code null}.
+     */
+    public ObjectContainer(T t, Object groupBy, Thread busyBy) {
         checkNotNull(t);
         checkArgument(PerformActionStep.class.isAssignableFrom(t.getClass()) ||
                 GetStep.class.isAssignableFrom(t.getClass()), "Class of an object should be " +
                 "assignable from ru.tinkoff.qa.neptune.core.api.GetStep and/or " +
                 "ru.tinkoff.qa.neptune.core.api.PerformActionStep.");
         this.t = t;
-        synchronized (containers) {
-            containers.add(this);
+        this.busyBy.set(busyBy);
+        synchronized (this) {
+            bucket = ObjectContainerRegistry.getBucket(t.getClass(), groupBy);
+            bucket.add(this, busyBy == null);
+        }
+        if (busyBy != null) {
+            taken(busyBy);
         }
     }
 
-    private static <T> List<ObjectContainer<?>> getAllObjects(Class<T> tClass,
-                                                              Predicate<ObjectContainer<?>> predicate) {
+    private static void checkClass(Class<?> tClass) {
         checkNotNull(tClass);
-        checkNotNull(predicate);
         checkArgument(PerformActionStep.class.isAssignableFrom(tClass) ||
                 GetStep.class.isAssignableFrom(tClass), "Class of an object should be " +
                 "assignable from ru.tinkoff.qa.neptune.core.api.GetStep and/or " +
                 "ru.tinkoff.qa.neptune.core.api.PerformActionStep.");
-        synchronized (containers) {
-            return containers.stream().filter(predicate).collect(toList());
-        }
     }
 
     /**
@@ -54,9 +63,9 @@ public class ObjectContainer<T> {
      * @param <T> is a type of wrapped objects.
      * @return filled or empty list of objects of {@link ObjectContainer}.
      */
-    public static synchronized <T> List<ObjectContainer<?>> getAllObjects(Class<T> tClass) {
-        return getAllObjects(tClass, objectContainer ->
-                tClass.isAssignableFrom(objectContainer.getWrappedObject().getClass()));
+    public static <T> List<ObjectContainer<?>> getAllObjects(Class<T> tClass) {
+        checkClass(tClass);
+        return ObjectContainerRegistry.getAll(tClass);
     }
 
     /**
@@ -67,11 +76,10 @@ public class ObjectContainer<T> {
      * @param <T> is a type of wrapped objects.
      * @return filled or empty list of objects of {@link ObjectContainer} grouped by some other object.
      */
-    public static synchronized <T> List<ObjectContainer<?>> getAllObjects(Class<T> tClass, Object groupingBy) {
+    public static <T> List<ObjectContainer<?>> getAllObjects(Class<T> tClass, Object groupingBy) {
         checkNotNull(groupingBy);
-        return getAllObjects(tClass, objectContainer ->
-                tClass.isAssignableFrom(objectContainer.getWrappedObject().getClass())
-                        && groupingBy.equals(objectContainer.getGroupBy()));
+        checkClass(tClass);
+        return ObjectContainerRegistry.getAll(tClass, groupingBy);
     }
 
     /**
@@ -82,14 +90,12 @@ public class ObjectContainer<T> {
      * @return an object of {@link ObjectContainer} that has become busy if there is some objects free of threads.
      */
     @SuppressWarnings("unchecked")
-    public static synchronized <T> ObjectContainer<T> setObjectBusy(Class<T> tClass) {
-        List<ObjectContainer<?>> freeObjects = getAllObjects(tClass, objectContainer ->
-                !objectContainer.isBusy() && tClass.isAssignableFrom(objectContainer.getWrappedObject().getClass()));
-        if (freeObjects.size() == 0) {
-            return null;
+    public static <T> ObjectContainer<T> setObjectBusy(Class<T> tClass) {
+        checkClass(tClass);
+        ObjectContainer<?> result = ObjectContainerRegistry.take(tClass, currentThread());
+        if (result == null && ThreadStateLoop.releaseDeadOwners()) {
+            result = ObjectContainerRegistry.take(tClass, currentThread());
         }
-        ObjectContainer<?> result = freeObjects.get(0);
-        result.setBusy(currentThread());
         return (ObjectContainer<T>) result;
     }
 
@@ -102,48 +108,116 @@ public class ObjectContainer<T> {
      * @return an object of {@link ObjectContainer} that has become busy if there is some objects free of threads.
      */
     @SuppressWarnings("unchecked")
-    public static synchronized  <T> ObjectContainer<T> setObjectBusy(Class<T> tClass, Object groupingBy) {
+    public static <T> ObjectContainer<T> setObjectBusy(Class<T> tClass, Object groupingBy) {
         checkNotNull(groupingBy);
-        List<ObjectContainer<?>> freeObjects =  getAllObjects(tClass, objectContainer ->
-                !objectContainer.isBusy() && tClass.isAssignableFrom(objectContainer.getWrappedObject().getClass())
-                        && groupingBy.equals(objectContainer.getGroupBy()));
-        if (freeObjects.size() == 0) {
-            return null;
+        checkClass(tClass);
+        ObjectContainer<?> result = ObjectContainerRegistry.take(tClass, groupingBy, currentThread());
+        if (result == null && ThreadStateLoop.releaseDeadOwners()) {
+            result = ObjectContainerRegistry.take(tClass, groupingBy, currentThread());
         }
-        ObjectContainer<?> result = freeObjects.get(0);
-        result.setBusy(currentThread());
         return (ObjectContainer<T>) result;
     }
 
-    public static synchronized void remove(List<ObjectContainer<?>> objectContainers) {
+    public static void remove(List<ObjectContainer<?>> objectContainers) {
         checkNotNull(objectContainers);
-        synchronized (containers) {
-            containers.removeAll(objectContainers);
+        ObjectContainerRegistry.removeAll(objectContainers);
+        ThreadStateLoop.stopListeningTo(objectContainers);
+    }
+
+    boolean isBusy() {
+        return busyBy.get() != null;
+    }
+
+    /**
+     * Checks whether the container may be used by given thread without taking. It is so when the container
+     * is busy by the thread or when the container was removed while the thread was its last owner.
+     * Removed containers are not shared between threads anymore.
+     *
+     * @param thread to check.
+     * @return {@code true} if the container is held by the thread. {@code false} otherwise.
+     */
+    public boolean isHeldBy(Thread thread) {
+        return busyBy.get() == thread || (removed && lastOwner == thread);
+    }
+
+    /**
+     * Tries to take the container by given thread again. It is useful to return the same object to a thread which
+     * has released it explicitly.
+     *
+     * @param thread is a thread which takes the container.
+     * @return {@code true} if the container has become busy by the thread. {@code false} when the container
+     * is busy by another thread or removed.
+     */
+    public boolean takeAgain(Thread thread) {
+        checkNotNull(thread);
+        return tryTake(bucket, thread);
+    }
+
+    private void taken(Thread thread) {
+        lastOwner = thread;
+        ThreadStateLoop.listenTo(thread, this);
+        if (thread == currentThread()) {
+            ObjectLease.leaseToCurrentThread(this);
         }
     }
 
-    private synchronized boolean isBusy() {
-        return busyBy != null;
+    /**
+     * Marks the container as busy by given thread. The container becomes free again when the thread dies
+     * or when the {@link ObjectLease} opened by the thread is closed.
+     *
+     * @param thread is a thread which takes the container.
+     */
+    public void setBusy(Thread thread) {
+        checkNotNull(thread);
+        busyBy.set(thread);
+        taken(thread);
+    }
+
+    boolean tryTake(ObjectContainerRegistry.Bucket from, Thread thread) {
+        if (removed || bucket != from || !busyBy.compareAndSet(null, thread)) {
+            return false;
+        }
+        taken(thread);
+        return true;
     }
 
-    public synchronized void setBusy(Thread thread) {
-        this.busyBy = thread;
-        new ThreadStateLoop(currentThread(), this).start();
+    void setFree(Thread thread) {
+        synchronized (this) {
+            if (!busyBy.compareAndSet(thread, null)) {
+                return;
+            }
+            //the container should be free before a waiting thread is woken up
+            if (!removed) {
+                bucket.offerFree(this);
+            }
+        }
+        //waiting threads are woken up out of the monitor because they regroup free containers
+        ObjectContainerPool.objectReleased(t.getClass());
     }
 
-    synchronized void setFree() {
-        this.busyBy = null;
+    void unregister() {
+        synchronized (this) {
+            removed = true;
+            bucket.remove(this);
+        }
+        ObjectContainerPool.objectReleased(t.getClass());
     }
 
     public T getWrappedObject() {
         return t;
     }
 
-    public void groupBy(Object groupBy) {
-        this.groupBy = groupBy;
-    }
+    public synchronized void groupBy(Object groupBy) {
+        if (removed) {
+            return;
+        }
 
-    private Object getGroupBy() {
-        return groupBy;
+        ObjectContainerRegistry.Bucket newBucket = ObjectContainerRegistry.getBucket(t.getClass(), groupBy);
+        if (newBucket == bucket) {
+            return;
+        }
+        bucket.remove(this);
+        bucket = newBucket;
+        newBucket.add(this, !isBusy());
     }
 }
@@ -0,0 +1,409 @@
+package ru.tinkoff.qa.neptune.core.api.concurency;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.time.Duration.ofNanos;
+import static java.util.Optional.ofNullable;
+import static ru.tinkoff.qa.neptune.core.api.concurency.GroupingObjects.getGroupingObject;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.*;
+import static ru.tinkoff.qa.neptune.core.api.properties.StepPoolCapacityProperty.getStepPoolCapacity;
+import static ru.tinkoff.qa.neptune.core.api.properties.StepPoolWaitingProperties.STEP_POOL_WAITING_DURATION;
+
+/**
+ * This class limits count of objects of some class that may exist simultaneously. Objects of all groups are counted,
+ * including objects which are created before they are needed (see
+ * {@link ru.tinkoff.qa.neptune.core.api.proxy.ProxyFactory#createFreeObject(Class, Object)}).
+ * The limit is defined by properties {@code "step.pool.capacity"} and
+ * {@code "step.pool.capacity.<full name of a class>"}. When the limit is reached then a thread takes a free object
+ * of another group or waits for some object is released by another thread. A thread which already holds an object of
+ * the class (e.g. by another proxy) gets the same object instead of the waiting. Waiting threads take released objects
+ * in the order of their arrival. Time of the waiting is defined by properties {@code "step.pool.waiting.time.unit"}
+ * and {@code "step.pool.waiting.time"}.
+ *
+ * @see ru.tinkoff.qa.neptune.core.api.properties.StepPoolCapacityProperty
+ * @see ru.tinkoff.qa.neptune.core.api.properties.StepPoolWaitingProperties
+ */
+public final class ObjectContainerPool {
+
+    private static final Map<Class<?>, ObjectContainerPool> POOLS = new ConcurrentHashMap<>();
+
+    private final Class<?> tClass;
+    private final Integer capacity;
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition released = lock.newCondition();
+    //count of objects which are being created. It is guarded by the lock
+    private int reserved;
+
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final LongAdder taken = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalWaitingNanos = new LongAdder();
+    private final AtomicLong maxWaitingNanos = new AtomicLong();
+
+    private ObjectContainerPool(Class<?> tClass, Integer capacity) {
+        this.tClass = tClass;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the pool of objects of the given class. Capacity of the pool is read when the pool
+     * is used first time.
+     *
+     * @param tClass is a class of step objects.
+     * @return the pool of objects of the given class.
+     */
+    public static ObjectContainerPool getPool(Class<?> tClass) {
+        checkNotNull(tClass);
+        return POOLS.computeIfAbsent(tClass, aClass -> new ObjectContainerPool(aClass, getStepPoolCapacity(aClass)));
+    }
+
+    /**
+     * Wakes up threads which wait for objects of the given class. It is invoked when an object becomes free
+     * or is removed.
+     *
+     * @param wrappedClass is a class of the released object.
+     */
+    static void objectReleased(Class<?> wrappedClass) {
+        POOLS.forEach((aClass, pool) -> {
+            if (pool.waiters.get() > 0 && aClass.isAssignableFrom(wrappedClass)) {
+                pool.signalWaiters();
+            }
+        });
+    }
+
+    private void signalWaiters() {
+        lock.lock();
+        try {
+            released.signalAll();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    private int countOfObjects() {
+        return ObjectContainerRegistry.count(tClass) + reserved;
+    }
+
+    /**
+     * Takes an object of {@link ObjectContainer}. When the capacity of the pool is reached then current thread
+     * takes a free object of another group, or the object which is held by current thread already, or waits until
+     * some object is released by another thread.
+     *
+     * @param toTakeFree is a supplier that takes a free container by current thread. It returns {@code null}
+     *                   when there is no such container.
+     * @param toCreate is a supplier that creates a new container which is busy by current thread.
+     * @param <T> is a type of a wrapped object.
+     * @return taken container.
+     * @throws PoolTimeOutException when no object is released during the time of the waiting
+     */
+    public <T> ObjectContainer<T> take(Supplier<ObjectContainer<T>> toTakeFree, Supplier<ObjectContainer<T>> toCreate) {
+        checkNotNull(toTakeFree);
+        checkNotNull(toCreate);
+        if (capacity == null) {
+            taken.increment();
+            return ofNullable(toTakeFree.get()).orElseGet(toCreate);
+        }
+
+        Taking<T> taking = new Taking<>(toTakeFree);
+        lock.lock();
+        try {
+            //threads which are waiting already take released objects first
+            if (waiters.get() > 0 || !taking.tryTake()) {
+                //the time is read before the thread is counted, so the failed reading doesn't leave it counted
+                taking.timeOut = STEP_POOL_WAITING_DURATION.get();
+                waiters.incrementAndGet();
+                taking.queued = true;
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+
+        if (taking.queued) {
+            waitFor(taking);
+        }
+        taken.increment();
+
+        if (!taking.toCreate) {
+            return taking.container;
+        }
+
+        try {
+            return toCreate.get();
+        }
+        finally {
+            lock.lock();
+            try {
+                reserved--;
+                released.signalAll();
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Creates a free object when the capacity of the pool is not reached. Current thread doesn't wait.
+     *
+     * @param toCreate is a supplier that creates a new container.
+     * @param <T> is a type of a wrapped object.
+     * @return created container. {@code null} is returned when the capacity of the pool is reached.
+     */
+    public <T> ObjectContainer<T> createIfPossible(Supplier<ObjectContainer<T>> toCreate) {
+        checkNotNull(toCreate);
+        if (capacity == null) {
+            return toCreate.get();
+        }
+
+        lock.lock();
+        try {
+            if (countOfObjects() >= capacity) {
+                return null;
+            }
+            reserved++;
+        }
+        finally {
+            lock.unlock();
+        }
+
+        try {
+            return toCreate.get();
+        }
+        finally {
+            lock.lock();
+            try {
+                reserved--;
+                released.signalAll();
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void waitFor(Taking<?> taking) {
+        Duration timeOut = taking.timeOut;
+        fireEventStarting(format("Waiting for a free object of %s. Capacity: %s. Waiting threads: %s",
+                tClass.getName(), capacity, waiters.get()));
+        long start = nanoTime();
+        ThreadStateLoop.waitingStarted();
+        try {
+            boolean done;
+            try {
+                done = await(taking, timeOut);
+            }
+            catch (InterruptedException e) {
+                currentThread().interrupt();
+                fireThrownException(e);
+                throw new RuntimeException(e);
+            }
+            finally {
+                ThreadStateLoop.waitingFinished();
+                long waitingNanos = nanoTime() - start;
+                waited.increment();
+                totalWaitingNanos.add(waitingNanos);
+                maxWaitingNanos.accumulateAndGet(waitingNanos, Math::max);
+            }
+
+            if (!done) {
+                timeouts.increment();
+                PoolTimeOutException e = new PoolTimeOutException(format("No object of %s was released " +
+                        "during %s. Capacity: %s", tClass.getName(), timeOut, capacity));
+                fireThrownException(e);
+                throw e;
+            }
+            fireReturnedValue(getMetrics());
+        }
+        finally {
+            fireEventFinishing();
+        }
+    }
+
+    private boolean await(Taking<?> taking, Duration timeOut) throws InterruptedException {
+        //objects of dead threads are released before the waiting
+        ThreadStateLoop.releaseDeadOwners();
+        long nanos = timeOut.toNanos();
+        lock.lock();
+        try {
+            while (!taking.tryTake()) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = released.awaitNanos(nanos);
+            }
+            return true;
+        }
+        finally {
+            waiters.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return snapshot of current state of the pool.
+     */
+    public Metrics getMetrics() {
+        int objects = capacity == null ? -1 : ObjectContainerRegistry.count(tClass);
+        int busy = capacity == null ? -1 : ObjectContainerRegistry.countBusy(tClass);
+        return new Metrics(capacity, objects, busy, waiters.get(), taken.sum(), waited.sum(), timeouts.sum(),
+                ofNanos(totalWaitingNanos.sum()), ofNanos(maxWaitingNanos.get()));
+    }
+
+    /**
+     * This is the way to get an object for current thread. It should be used while the lock is held.
+     */
+    private final class Taking<T> {
+        private final Supplier<ObjectContainer<T>> toTakeFree;
+        private ObjectContainer<T> container;
+        private boolean toCreate;
+        private boolean queued;
+        private Duration timeOut;
+
+        private Taking(Supplier<ObjectContainer<T>> toTakeFree) {
+            this.toTakeFree = toTakeFree;
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean tryTake() {
+            if ((container = toTakeFree.get()) != null) {
+                return true;
+            }
+
+            if (countOfObjects() < capacity) {
+                reserved++;
+                toCreate = true;
+                return true;
+            }
+
+            //free objects of other groups are taken when no more objects may be created
+            Object groupingObject = getGroupingObject();
+            container = (ObjectContainer<T>) ObjectContainer.setObjectBusy(tClass);
+            if (container != null) {
+                container.groupBy(groupingObject);
+                return true;
+            }
+
+            //the thread gets the object which it holds already instead of the waiting for itself
+            container = (ObjectContainer<T>) ObjectContainerRegistry.getAll(tClass).stream()
+                    .filter(c -> c.isHeldBy(currentThread()))
+                    .findFirst()
+                    .orElse(null);
+            return container != null;
+        }
+    }
+
+    /**
+     * This is the snapshot of the state of a pool.
+     */
+    public static final class Metrics {
+        private final Integer capacity;
+        private final int objects;
+        private final int busy;
+        private final int waiters;
+        private final long taken;
+        private final long waited;
+        private final long timeouts;
+        private final Duration totalWaitingTime;
+        private final Duration maxWaitingTime;
+
+        private Metrics(Integer capacity, int objects, int busy, int waiters, long taken, long waited, long timeouts,
+                        Duration totalWaitingTime, Duration maxWaitingTime) {
+            this.capacity = capacity;
+            this.objects = objects;
+            this.busy = busy;
+            this.waiters = waiters;
+            this.taken = taken;
+            this.waited = waited;
+            this.timeouts = timeouts;
+            this.totalWaitingTime = totalWaitingTime;
+            this.maxWaitingTime = maxWaitingTime;
+        }
+
+        /**
+         * @return max count of objects. {@code null} is returned when the count is not limited.
+         */
+        public Integer getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * @return count of existing objects of all groups. {@code -1} is returned when the count is not limited.
+         */
+        public int getObjects() {
+            return objects;
+        }
+
+        /**
+         * @return count of busy objects. {@code -1} is returned when the count is not limited.
+         */
+        public int getBusy() {
+            return busy;
+        }
+
+        /**
+         * @return count of threads that are waiting for a free object.
+         */
+        public int getWaiters() {
+            return waiters;
+        }
+
+        /**
+         * @return how many times objects were taken.
+         */
+        public long getTaken() {
+            return taken;
+        }
+
+        /**
+         * @return how many times threads had to wait for a free object.
+         */
+        public long getWaited() {
+            return waited;
+        }
+
+        /**
+         * @return how many times threads couldn't get a free object.
+         */
+        public long getTimeouts() {
+            return timeouts;
+        }
+
+        public Duration getTotalWaitingTime() {
+            return totalWaitingTime;
+        }
+
+        public Duration getMaxWaitingTime() {
+            return maxWaitingTime;
+        }
+
+        /**
+         * @return ratio of busy objects to the capacity. {@code -1} is returned when the count is not limited.
+         */
+        public double getUtilisation() {
+            return capacity == null ? -1 : (double) busy / capacity;
+        }
+
+        @Override
+        public String toString() {
+            return format("Capacity: %s. Objects: %s. Busy: %s. Waiting threads: %s. Taken: %s. Waited: %s. " +
+                            "Timeouts: %s. Total waiting time: %s. Max waiting time: %s", capacity, objects, busy,
+                    waiters, taken, waited,
+                    timeouts, totalWaitingTime, maxWaitingTime);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package ru.tinkoff.qa.neptune.core.api.concurency;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * This is the index of objects of {@link ObjectContainer}. Containers are grouped into buckets by the class
+ * of a wrapped object and by the grouping object. Each bucket keeps the queue of free containers so taking
+ * of a free container doesn't require the scanning of all known containers and global locking.
+ */
+final class ObjectContainerRegistry {
+
+    /**
+     * It is used as the grouping object of containers which are not grouped.
+     */
+    private static final Object NOT_GROUPED = new Object();
+
+    private static final Map<Class<?>, Map<Object, Bucket>> BUCKETS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, AssignableClasses> ASSIGNABLE_CLASSES = new ConcurrentHashMap<>();
+
+    private ObjectContainerRegistry() {
+        super();
+    }
+
+    private static Object groupKey(Object groupBy) {
+        return groupBy == null ? NOT_GROUPED : groupBy;
+    }
+
+    static Bucket getBucket(Class<?> wrappedClass, Object groupBy) {
+        return BUCKETS.computeIfAbsent(wrappedClass, aClass -> new ConcurrentHashMap<>())
+                .computeIfAbsent(groupKey(groupBy), o -> new Bucket());
+    }
+
+    private static List<Class<?>> getAssignableClasses(Class<?> tClass) {
+        int knownClasses = BUCKETS.size();
+        AssignableClasses assignable = ASSIGNABLE_CLASSES.get(tClass);
+        if (assignable != null && assignable.knownClasses == knownClasses) {
+            return assignable.classes;
+        }
+
+        assignable = new AssignableClasses(knownClasses, BUCKETS.keySet().stream()
+                .filter(tClass::isAssignableFrom).collect(toList()));
+        ASSIGNABLE_CLASSES.put(tClass, assignable);
+        return assignable.classes;
+    }
+
+    private static List<Bucket> getBuckets(Class<?> tClass) {
+        List<Bucket> result = new ArrayList<>();
+        getAssignableClasses(tClass).forEach(aClass -> result.addAll(BUCKETS.get(aClass).values()));
+        return result;
+    }
+
+    private static List<Bucket> getBuckets(Class<?> tClass, Object groupBy) {
+        Object key = groupKey(groupBy);
+        List<Bucket> result = new ArrayList<>();
+        getAssignableClasses(tClass).forEach(aClass -> {
+            Bucket bucket = BUCKETS.get(aClass).get(key);
+            if (bucket != null) {
+                result.add(bucket);
+            }
+        });
+        return result;
+    }
+
+    static List<ObjectContainer<?>> getAll(Class<?> tClass) {
+        List<ObjectContainer<?>> result = new ArrayList<>();
+        getBuckets(tClass).forEach(bucket -> result.addAll(bucket.all));
+        return result;
+    }
+
+    static List<ObjectContainer<?>> getAll(Class<?> tClass, Object groupBy) {
+        List<ObjectContainer<?>> result = new ArrayList<>();
+        getBuckets(tClass, groupBy).forEach(bucket -> result.addAll(bucket.all));
+        return result;
+    }
+
+    static int count(Class<?> tClass) {
+        int result = 0;
+        for (Bucket bucket: getBuckets(tClass)) {
+            result += bucket.all.size();
+        }
+        return result;
+    }
+
+    static int countBusy(Class<?> tClass) {
+        int result = 0;
+        for (Bucket bucket: getBuckets(tClass)) {
+            for (ObjectContainer<?> container: bucket.all) {
+                if (container.isBusy()) {
+                    result++;
+                }
+            }
+        }
+        return result;
+    }
+
+    static ObjectContainer<?> take(Class<?> tClass, Thread thread) {
+        for (Bucket bucket: getBuckets(tClass)) {
+            ObjectContainer<?> result = bucket.take(thread);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    static ObjectContainer<?> take(Class<?> tClass, Object groupBy, Thread thread) {
+        for (Bucket bucket: getBuckets(tClass, groupBy)) {
+            ObjectContainer<?> result = bucket.take(thread);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    static void removeAll(Collection<? extends ObjectContainer<?>> containers) {
+        containers.forEach(ObjectContainer::unregister);
+    }
+
+    /**
+     * Classes of wrapped objects that are assignable to some requested class. Classes are never removed
+     * from the index so the list is recalculated when count of known classes is changed.
+     */
+    private static final class AssignableClasses {
+        private final int knownClasses;
+        private final List<Class<?>> classes;
+
+        private AssignableClasses(int knownClasses, List<Class<?>> classes) {
+            this.knownClasses = knownClasses;
+            this.classes = classes;
+        }
+    }
+
+    /**
+     * Containers of the same class of a wrapped object and the same grouping object.
+     */
+    static final class Bucket {
+        private final Set<ObjectContainer<?>> all = ConcurrentHashMap.newKeySet();
+        private final Queue<ObjectContainer<?>> free = new ConcurrentLinkedQueue<>();
+
+        void add(ObjectContainer<?> container, boolean isFree) {
+            all.add(container);
+            if (isFree) {
+                free.add(container);
+            }
+        }
+
+        void remove(ObjectContainer<?> container) {
+            all.remove(container);
+            free.remove(container);
+        }
+
+        void offerFree(ObjectContainer<?> container) {
+            free.add(container);
+        }
+
+        private ObjectContainer<?> take(Thread thread) {
+            ObjectContainer<?> container;
+            while ((container = free.poll()) != null) {
+                if (container.tryTake(this, thread)) {
+                    return container;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package ru.tinkoff.qa.neptune.core.api.concurency;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkState;
+import static java.lang.Thread.currentThread;
+import static java.util.Collections.newSetFromMap;
+
+/**
+ * This class is designed to release objects of {@link ObjectContainer} explicitly, independently of
+ * the lifetime of a thread. Containers that are taken by a thread while a lease is opened by this thread
+ * become free when the lease is closed. Containers which were taken before the lease was opened
+ * are not affected.
+ * <p>
+ *     It is useful for pools of threads (e.g. threads of TestNG or {@link java.util.concurrent.ExecutorService})
+ *     which are never finished:
+ * </p>
+ * <pre>{@code
+ *     try (ObjectLease lease = ObjectLease.openLease()) {
+ *         //using of step objects
+ *     }
+ * }</pre>
+ */
+public final class ObjectLease implements AutoCloseable {
+
+    private static final ThreadLocal<ObjectLease> CURRENT_LEASE = new ThreadLocal<>();
+
+    private final Thread owner;
+    private final ObjectLease parent;
+    private final Set<ObjectContainer<?>> containers = newSetFromMap(new IdentityHashMap<>());
+    private boolean closed;
+
+    private ObjectLease(Thread owner, ObjectLease parent) {
+        this.owner = owner;
+        this.parent = parent;
+    }
+
+    /**
+     * Opens a lease for current thread. Leases may be nested. Containers taken while the nested lease
+     * is opened are released when the nested lease is closed. When leases are closed out of order then
+     * containers are added to the nearest lease which is not closed yet.
+     *
+     * @return opened lease.
+     */
+    public static ObjectLease openLease() {
+        ObjectLease lease = new ObjectLease(currentThread(), CURRENT_LEASE.get());
+        CURRENT_LEASE.set(lease);
+        return lease;
+    }
+
+    /**
+     * Adds the container to the lease opened by current thread if there is such lease.
+     *
+     * @param container which has been taken by current thread.
+     */
+    static void leaseToCurrentThread(ObjectContainer<?> container) {
+        ObjectLease lease = CURRENT_LEASE.get();
+        if (lease != null) {
+            lease.containers.add(container);
+        }
+    }
+
+    /**
+     * Makes all containers taken during the lease free. It should be invoked by the thread which has opened
+     * the lease.
+     */
+    @Override
+    public void close() {
+        checkState(currentThread() == owner, "The lease should be closed by the thread which has opened it");
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        List<ObjectContainer<?>> toRelease = new ArrayList<>(containers);
+        containers.clear();
+        ThreadStateLoop.stopListeningTo(owner, toRelease);
+        toRelease.forEach(container -> container.setFree(owner));
+
+        if (CURRENT_LEASE.get() == this) {
+            //outer leases may be closed before this one
+            ObjectLease opened = parent;
+            while (opened != null && opened.closed) {
+                opened = opened.parent;
+            }
+
+            if (opened != null) {
+                CURRENT_LEASE.set(opened);
+            }
+            else {
+                CURRENT_LEASE.remove();
+            }
+        }
+    }
+}
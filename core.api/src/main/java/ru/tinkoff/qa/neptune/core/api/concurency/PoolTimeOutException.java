@@ -0,0 +1,15 @@
+package ru.tinkoff.qa.neptune.core.api.concurency;
+
+/**
+ * It is thrown when no object of a pool is released during the time of the waiting.
+ *
+ * @see ObjectContainerPool
+ * @see ru.tinkoff.qa.neptune.core.api.properties.StepPoolWaitingProperties
+ */
+public class PoolTimeOutException extends RuntimeException {
+    private static final long serialVersionUID = -2390719421581398537L;
+
+    PoolTimeOutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,150 @@
+package ru.tinkoff.qa.neptune.core.api.concurency;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * This is the snapshot of thread local values which are used by steps: the grouping object of step objects,
+ * the deadline of the waiting and the attempt to get a valuable result. Values are not inherited by other threads.
+ * Threads of pools (e.g. {@link java.util.concurrent.ExecutorService}, {@link java.util.concurrent.ForkJoinPool})
+ * are reused, so a task that is submitted to a pool or to a new thread should be wrapped by
+ * {@code withCurrentContext(...)} to get values of the submitting thread. Values of the thread which runs the task
+ * are restored when the task is finished.
+ */
+public final class ThreadContext {
+
+    private static final List<ThreadLocal<?>> PROPAGATED = new CopyOnWriteArrayList<>();
+
+    private final ThreadLocal<?>[] threadLocals;
+    private final Object[] values;
+
+    private ThreadContext(ThreadLocal<?>[] threadLocals) {
+        this.threadLocals = threadLocals;
+        values = new Object[threadLocals.length];
+        for (int i = 0; i < threadLocals.length; i++) {
+            values[i] = threadLocals[i].get();
+        }
+    }
+
+    /**
+     * Creates a thread local variable whose value is a part of the context.
+     *
+     * @param <T> is a type of the value.
+     * @return new thread local variable.
+     */
+    public static <T> ThreadLocal<T> contextValue() {
+        ThreadLocal<T> threadLocal = new ThreadLocal<>();
+        PROPAGATED.add(threadLocal);
+        return threadLocal;
+    }
+
+    /**
+     * Makes the snapshot of the context of the current thread.
+     *
+     * @return the snapshot.
+     */
+    public static ThreadContext currentContext() {
+        return new ThreadContext(PROPAGATED.toArray(new ThreadLocal<?>[0]));
+    }
+
+    /**
+     * Sets values of the snapshot to the current thread.
+     *
+     * @return the snapshot of the context which the current thread had before. It is used to restore values.
+     */
+    @SuppressWarnings("unchecked")
+    public ThreadContext restore() {
+        ThreadContext previous = new ThreadContext(threadLocals);
+        for (int i = 0; i < threadLocals.length; i++) {
+            ThreadLocal<Object> threadLocal = (ThreadLocal<Object>) threadLocals[i];
+            if (values[i] == null) {
+                threadLocal.remove();
+            }
+            else {
+                threadLocal.set(values[i]);
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * Wraps a callable. The context of the current thread is used by the thread which invokes the wrapped
+     * callable.
+     *
+     * @param callable to be wrapped.
+     * @param <V> is a type of a result.
+     * @return wrapped callable.
+     */
+    public static <V> Callable<V> withCurrentContext(Callable<V> callable) {
+        checkNotNull(callable);
+        ThreadContext context = currentContext();
+        return () -> {
+            ThreadContext previous = context.restore();
+            try {
+                return callable.call();
+            }
+            finally {
+                previous.restore();
+            }
+        };
+    }
+
+    /**
+     * Wraps a runnable. The context of the current thread is used by the thread which runs the wrapped
+     * runnable.
+     *
+     * @param runnable to be wrapped.
+     * @return wrapped runnable.
+     */
+    public static Runnable withCurrentContext(Runnable runnable) {
+        checkNotNull(runnable);
+        ThreadContext context = currentContext();
+        return () -> {
+            ThreadContext previous = context.restore();
+            try {
+                runnable.run();
+            }
+            finally {
+                previous.restore();
+            }
+        };
+    }
+
+    /**
+     * Wraps a predicate. The context of the current thread is used by threads which test values by
+     * the wrapped predicate, e.g. threads of a parallel stream.
+     *
+     * @param predicate to be wrapped.
+     * @param <T> is a type of values to test.
+     * @return wrapped predicate.
+     */
+    public static <T> Predicate<T> withCurrentContext(Predicate<T> predicate) {
+        checkNotNull(predicate);
+        ThreadContext context = currentContext();
+        return t -> {
+            ThreadContext previous = context.restore();
+            try {
+                return predicate.test(t);
+            }
+            finally {
+                previous.restore();
+            }
+        };
+    }
+
+    /**
+     * Wraps an executor. Each task is run with the context of a thread which submits the task.
+     *
+     * @param executor to be wrapped.
+     * @return wrapped executor.
+     */
+    public static Executor withSubmitterContext(Executor executor) {
+        checkNotNull(executor);
+        return command -> executor.execute(withCurrentContext(command));
+    }
+}
@@ -1,27 +1,184 @@
 package ru.tinkoff.qa.neptune.core.api.concurency;
 
-class ThreadStateLoop extends Thread {
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
-    private final Thread threadToListenTo;
-    private final ObjectContainer<?> container;
+import static java.lang.Thread.currentThread;
 
-    ThreadStateLoop(Thread threadToListenTo, ObjectContainer<?> container) {
-        this.threadToListenTo = threadToListenTo;
-        this.container = container;
+/**
+ * This is the single daemon thread which makes objects of {@link ObjectContainer} free when threads that
+ * have taken them die. It costs nothing while owners are alive. Each owner keeps a sentinel object in
+ * a thread local variable. The sentinel becomes unreachable when the owner dies and the garbage collector
+ * puts its phantom reference into the queue which the loop is blocked on. Registration of a container neither
+ * takes a global lock nor wakes the loop up.
+ * <p>
+ *     The garbage collector may enqueue references late. So dead owners are also looked for on demand, when
+ *     a thread finds no free container to take. While some thread waits for a free object of
+ *     {@link ObjectContainerPool} the loop also looks for dead owners periodically. Containers which are taken for
+ *     threads other than the current one are released these ways only.
+ * </p>
+ */
+final class ThreadStateLoop extends Thread {
+
+    private static final ReferenceQueue<Object> DEAD_OWNERS = new ReferenceQueue<>();
+    private static final Map<Thread, Owner> OWNERS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Sentinel> SENTINEL = new ThreadLocal<>();
+    private static final long CHECK_INTERVAL_MILLIS = 5;
+    private static final AtomicInteger WAITERS = new AtomicInteger();
+    private static final ThreadStateLoop LOOP = new ThreadStateLoop();
+
+    static {
+        LOOP.start();
+    }
+
+    private ThreadStateLoop() {
+        super("Neptune object container release loop");
+        setDaemon(true);
+    }
+
+    private static Owner currentOwner() {
+        Sentinel sentinel = SENTINEL.get();
+        if (sentinel == null) {
+            sentinel = new Sentinel();
+            Owner owner = new Owner(currentThread(), sentinel);
+            sentinel.owner = owner;
+            SENTINEL.set(sentinel);
+            //containers which were taken for the thread by other threads are moved atomically, so a container
+            //which is added by another thread meanwhile is not lost
+            OWNERS.compute(currentThread(), (thread, previous) -> {
+                if (previous != null) {
+                    owner.containers.addAll(previous.containers);
+                }
+                return owner;
+            });
+        }
+        return sentinel.owner;
+    }
+
+    /**
+     * Makes given container free when given thread dies.
+     *
+     * @param owner is a thread which has taken the container.
+     * @param container is a container to be freed.
+     */
+    static void listenTo(Thread owner, ObjectContainer<?> container) {
+        if (owner == currentThread()) {
+            currentOwner().containers.add(container);
+            return;
+        }
+
+        //the container is added under the lock of the mapping. The owner may replace the mapped object meanwhile
+        OWNERS.compute(owner, (thread, listened) -> {
+            Owner result = listened == null ? new Owner(thread, null) : listened;
+            result.containers.add(container);
+            return result;
+        });
+    }
+
+    /**
+     * Stops listening to given containers. It is used when containers are removed.
+     *
+     * @param containers to stop listening to.
+     */
+    static void stopListeningTo(Collection<? extends ObjectContainer<?>> containers) {
+        OWNERS.values().forEach(owner -> owner.containers.removeAll(containers));
+    }
+
+    /**
+     * Stops listening to given containers taken by given thread. It is used when containers
+     * are released explicitly.
+     *
+     * @param owner is a thread which has taken containers.
+     * @param containers to stop listening to.
+     */
+    static void stopListeningTo(Thread owner, Collection<? extends ObjectContainer<?>> containers) {
+        Owner listened = OWNERS.get(owner);
+        if (listened != null) {
+            listened.containers.removeAll(containers);
+        }
+    }
+
+    /**
+     * Makes containers of dead threads free without waiting for the garbage collector.
+     *
+     * @return {@code true} when some thread is found dead. {@code false} otherwise.
+     */
+    static boolean releaseDeadOwners() {
+        boolean released = false;
+        for (Owner owner: OWNERS.values()) {
+            if (!owner.thread.isAlive()) {
+                released |= owner.release();
+            }
+        }
+        return released;
+    }
+
+    /**
+     * Makes the loop look for dead owners periodically until {@link #waitingFinished()} is invoked.
+     * It is used by threads which wait for a free object of {@link ObjectContainerPool}.
+     */
+    static void waitingStarted() {
+        if (WAITERS.getAndIncrement() == 0) {
+            //the loop may be blocked on the queue without any timeout
+            LOOP.interrupt();
+        }
+    }
+
+    static void waitingFinished() {
+        WAITERS.decrementAndGet();
     }
 
     @Override
     public void run() {
-        boolean isAlive = true;
-         do {
-            isAlive = threadToListenTo.isAlive();
-            if (isAlive) {
-                try {
-                    sleep(1);
-                } catch (InterruptedException ignored) {
+        while (true) {
+            try {
+                Reference<?> dead = WAITERS.get() > 0 ? DEAD_OWNERS.remove(CHECK_INTERVAL_MILLIS)
+                        : DEAD_OWNERS.remove();
+                if (dead != null) {
+                    ((Owner) dead).release();
                 }
+            } catch (InterruptedException e) {
+                //the loop is interrupted when somebody starts waiting for a free object
+            }
+
+            if (WAITERS.get() > 0) {
+                releaseDeadOwners();
+            }
+        }
+    }
+
+    /**
+     * This object is reachable only from the thread local variable of an owner.
+     */
+    private static final class Sentinel {
+        private Owner owner;
+    }
+
+    /**
+     * Containers taken by a thread.
+     */
+    private static final class Owner extends PhantomReference<Object> {
+        private final Thread thread;
+        private final Set<ObjectContainer<?>> containers = ConcurrentHashMap.newKeySet();
+
+        private Owner(Thread thread, Sentinel sentinel) {
+            super(sentinel, sentinel == null ? null : DEAD_OWNERS);
+            this.thread = thread;
+        }
+
+        private boolean release() {
+            if (!OWNERS.remove(thread, this)) {
+                return false;
             }
-         } while (isAlive);
-        container.setFree();
+            containers.forEach(container -> container.setFree(thread));
+            containers.clear();
+            return true;
+        }
     }
 }
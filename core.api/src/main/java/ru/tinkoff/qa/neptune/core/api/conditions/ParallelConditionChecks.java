@@ -0,0 +1,185 @@
+package ru.tinkoff.qa.neptune.core.api.conditions;
+
+import ru.tinkoff.qa.neptune.core.api.event.timing.TimedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Suppliers.memoize;
+import static java.lang.String.format;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.StreamSupport.stream;
+import static ru.tinkoff.qa.neptune.core.api.concurency.BoundedDaemonPools.newBoundedDaemonPool;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.FlightRecorderEvents.conditionCheckEvent;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.StepLatencies.isCollecting;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.StepLatencies.record;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.TimedEvent.*;
+import static ru.tinkoff.qa.neptune.core.api.properties.ConditionCheckThreadsProperty.CONDITION_CHECK_THREADS_PROPERTY;
+
+/**
+ * This class is designed to check items of iterables and arrays in parallel. Checks are usually blocked by I/O
+ * (e.g. by requests to a browser), so they are performed by the dedicated pool instead of the common
+ * {@link ForkJoinPool}. Count of threads is defined by the property {@code "condition.check.threads"}. The queue
+ * of checks is bounded. A thread which submits a check to the full queue performs this check itself.
+ * <p>
+ *     Items are checked in their order. Checks which are not necessary anymore (the first suitable item is found or
+ *     some check has thrown an exception) are cancelled. Checks which are submitted by threads of the pool are
+ *     performed sequentially, so the pool is not blocked by nested checks.
+ * </p>
+ * <p>
+ *     Each parallel check emits the event of Java Flight Recorder. Latencies of checks are also collected
+ *     when the property {@code "step.latency.report"} is defined.
+ * </p>
+ */
+final class ParallelConditionChecks {
+
+    private static final String THREAD_NAME = "Condition check %s";
+    private static final ThreadLocal<Boolean> IS_POOL_THREAD = new ThreadLocal<>();
+    private static volatile ExecutorService executor;
+
+    private ParallelConditionChecks() {
+        super();
+    }
+
+    private static ExecutorService getExecutor() {
+        if (executor != null) {
+            return executor;
+        }
+
+        synchronized (ParallelConditionChecks.class) {
+            if (executor == null) {
+                executor = newBoundedDaemonPool(CONDITION_CHECK_THREADS_PROPERTY.get(), THREAD_NAME,
+                        () -> IS_POOL_THREAD.set(true));
+            }
+            return executor;
+        }
+    }
+
+    private static boolean isSequential(List<?> items) {
+        return items.size() < 2 || IS_POOL_THREAD.get() != null;
+    }
+
+    private static <R> boolean timedCheck(Predicate<? super R> check, R item, Supplier<String> description) {
+        boolean isTimed = isCollecting();
+        long started = isTimed ? nanoTime() : 0;
+        TimedEvent event = conditionCheckEvent(description);
+        String outcome = FAILED;
+        try {
+            boolean result = check.test(item);
+            outcome = result ? SUCCEEDED : NOT_SUITABLE;
+            return result;
+        }
+        finally {
+            event.finish(outcome);
+            if (isTimed) {
+                record(format("Check: %s", description.get()), nanoTime() - started);
+            }
+        }
+    }
+
+    private static <R> List<Future<Boolean>> submit(List<R> items, Predicate<? super R> check, Object condition) {
+        ExecutorService executorService = getExecutor();
+        //the description is built once when it is necessary for the events or latencies
+        Supplier<String> description = memoize(() -> String.valueOf(condition));
+        List<Future<Boolean>> futures = new ArrayList<>(items.size());
+        for (R item: items) {
+            futures.add(executorService.submit(() -> timedCheck(check, item, description)));
+        }
+        return futures;
+    }
+
+    private static void cancel(List<Future<Boolean>> futures) {
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    private static boolean result(Future<Boolean> future, List<Future<Boolean>> futures) {
+        try {
+            return future.get();
+        }
+        catch (InterruptedException e) {
+            cancel(futures);
+            currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e) {
+            cancel(futures);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    private static <R> R findFirstInParallel(List<R> items, Predicate<? super R> check, Object condition) {
+        List<Future<Boolean>> futures = submit(items, check, condition);
+        for (int i = 0; i < futures.size(); i++) {
+            if (result(futures.get(i), futures)) {
+                cancel(futures);
+                return items.get(i);
+            }
+        }
+        return null;
+    }
+
+    private static <R> List<R> filterInParallel(List<R> items, Predicate<? super R> check, Object condition) {
+        List<Future<Boolean>> futures = submit(items, check, condition);
+        List<R> result = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            if (result(futures.get(i), futures)) {
+                result.add(items.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first item which suits the condition. Checks of the following items are cancelled when the item
+     * is found.
+     *
+     * @param iterable is items to check
+     * @param check is the check of an item
+     * @param inParallel is {@code true} when items should be checked in parallel
+     * @param condition is the condition to describe checks
+     * @return the first suitable item or {@code null} when there is no such item.
+     */
+    static <R> R findFirst(Iterable<R> iterable, Predicate<? super R> check, boolean inParallel, Object condition) {
+        if (inParallel) {
+            List<R> items = stream(iterable.spliterator(), false).collect(toList());
+            if (!isSequential(items)) {
+                return findFirstInParallel(items, check, condition);
+            }
+        }
+        return stream(iterable.spliterator(), false).filter(check).findFirst().orElse(null);
+    }
+
+    /**
+     * Returns items which suit the condition.
+     *
+     * @param iterable is items to check
+     * @param check is the check of an item
+     * @param inParallel is {@code true} when items should be checked in parallel
+     * @param condition is the condition to describe checks
+     * @return suitable items in the same order.
+     */
+    static <R> List<R> filter(Iterable<R> iterable, Predicate<? super R> check, boolean inParallel, Object condition) {
+        if (inParallel) {
+            List<R> items = stream(iterable.spliterator(), false).collect(toList());
+            if (!isSequential(items)) {
+                return filterInParallel(items, check, condition);
+            }
+        }
+        return stream(iterable.spliterator(), false).filter(check).collect(toList());
+    }
+}
@@ -0,0 +1,70 @@
+package ru.tinkoff.qa.neptune.core.api.conditions;
+
+import ru.tinkoff.qa.neptune.core.api.concurency.ThreadContext;
+
+import java.util.Optional;
+
+import static java.util.Optional.ofNullable;
+import static ru.tinkoff.qa.neptune.core.api.concurency.ThreadContext.contextValue;
+
+/**
+ * Identifies the attempt to get some valuable result which is performed by the current thread. Values which are
+ * read during the same attempt (e.g. properties of elements of a page which are checked by several conditions)
+ * may be memoized until the attempt is finished. The next attempt reads them again.
+ * <p>
+ *     The attempt of the waiting which is performed inside another attempt is identified separately. The outer
+ *     attempt gets the new identifier when the inner waiting is finished, because values could be changed
+ *     during the inner waiting.
+ * </p>
+ * <p>
+ *     The attempt is a part of {@link ThreadContext}, so a condition which is checked by another thread should be
+ *     wrapped by {@code withCurrentContext(...)} to use the attempt of the thread which waits for the result.
+ * </p>
+ */
+public final class PollingAttempt {
+
+    private static final ThreadLocal<Object> ATTEMPTS = contextValue();
+
+    private PollingAttempt() {
+        super();
+    }
+
+    /**
+     * Returns the identifier of the attempt which is performed by the current thread.
+     *
+     * @return the object which identifies the attempt. It is the same object until the attempt is finished.
+     * Empty value is returned when the current thread doesn't try to get anything.
+     */
+    public static Optional<Object> currentAttempt() {
+        return ofNullable(ATTEMPTS.get());
+    }
+
+    /**
+     * Starts the new attempt in the current thread.
+     *
+     * @return the attempt which was performed by the current thread before.
+     */
+    static Object startAttempt() {
+        return replaceAttempt(new Object());
+    }
+
+    /**
+     * Finishes the attempt of the current thread.
+     *
+     * @param outer is the attempt which was performed by the current thread before. It gets the new identifier.
+     */
+    static void finishAttempt(Object outer) {
+        replaceAttempt(outer == null ? null : new Object());
+    }
+
+    private static Object replaceAttempt(Object attempt) {
+        Object previous = ATTEMPTS.get();
+        if (attempt == null) {
+            ATTEMPTS.remove();
+        }
+        else {
+            ATTEMPTS.set(attempt);
+        }
+        return previous;
+    }
+}
@@ -0,0 +1,114 @@
+package ru.tinkoff.qa.neptune.core.api.conditions;
+
+import java.time.Duration;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.time.Duration.ZERO;
+import static java.time.Duration.ofNanos;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * This interface defines how long a function waits between attempts to get some valuable result.
+ * The function returns the result as soon as it is received. It does not sleep after the successful attempt.
+ * The attempt which is finished after the expiration of the waiting time is the last one. The first failed
+ * attempt is retried anyway when the waiting time is positive.
+ *
+ * @see ru.tinkoff.qa.neptune.core.api.properties.PollingStrategyProperty
+ */
+@FunctionalInterface
+public interface PollingStrategy {
+
+    /**
+     * Returns duration of the sleeping after an attempt which has not returned any valuable result.
+     *
+     * @param attempt is the number of the failed attempt. The first attempt has the number {@code 1}.
+     * @return duration of the sleeping before the next attempt.
+     */
+    Duration sleepingAfter(int attempt);
+
+    /**
+     * Waits after an attempt which has not returned any valuable result. It sleeps for {@link #sleepingAfter(int)}
+     * by default. A strategy may wait for changes of the input value instead, e.g. for changes of a web page.
+     * Strategies created by {@link #withJitter(double)} and {@link #afterImmediateAttempts(int)} always sleep.
+     * The waiting should not be longer than the remaining time, so the last attempt is made when the waiting
+     * time is expired instead of a whole sleeping later. The attempt after the waiting which is cut to the remaining
+     * time is the last one, even when a strategy finishes the waiting earlier.
+     *
+     * @param input is the value which the waiting function is applied to. It may be {@code null}.
+     * @param attempt is the number of the failed attempt. The first attempt has the number {@code 1}.
+     * @param remainingNanos is the remaining time of the waiting in nanoseconds. It is zero or negative when
+     *                       the waiting time is expired.
+     * @throws InterruptedException when the thread is interrupted while it waits.
+     */
+    default void waitBeforeNextAttempt(Object input, int attempt, long remainingNanos) throws InterruptedException {
+        long sleepingNanos = min(sleepingAfter(attempt).toNanos(), remainingNanos);
+        if (sleepingNanos > 0) {
+            NANOSECONDS.sleep(sleepingNanos);
+        }
+    }
+
+    /**
+     * Creates a strategy which sleeps the same time after each failed attempt.
+     *
+     * @param sleeping is a duration of the sleeping between attempts
+     * @return created strategy.
+     */
+    static PollingStrategy fixed(Duration sleeping) {
+        checkArgument(sleeping != null, "Time of the sleeping is not defined");
+        checkArgument(!sleeping.isNegative(), "Time of the sleeping should not be negative");
+        return attempt -> sleeping;
+    }
+
+    /**
+     * Creates a strategy which doubles the sleeping after each failed attempt until the max value is reached.
+     * It is useful when the result is usually received fast but sometimes it takes much more time.
+     *
+     * @param initial is a duration of the sleeping after the first failed attempt
+     * @param max is the max duration of the sleeping
+     * @return created strategy.
+     */
+    static PollingStrategy exponential(Duration initial, Duration max) {
+        checkArgument(initial != null && !initial.isNegative() && !initial.isZero(),
+                "Initial time of the sleeping should be a positive duration");
+        checkArgument(max != null && max.compareTo(initial) >= 0,
+                "Max time of the sleeping should not be less than the initial one");
+        long initialNanos = initial.toNanos();
+        long maxNanos = max.toNanos();
+        return attempt -> {
+            //the shift is limited to avoid overflow
+            int shift = min(attempt - 1, Long.numberOfLeadingZeros(initialNanos) - 1);
+            return ofNanos(min(initialNanos << shift, maxNanos));
+        };
+    }
+
+    /**
+     * Creates a strategy which shortens the sleeping of this strategy by a random part. It is useful when many
+     * threads poll the same resource, so their attempts are not made simultaneously.
+     *
+     * @param ratio is the max part of the sleeping which may be cut off. It should be in range (0, 1].
+     * @return created strategy.
+     */
+    default PollingStrategy withJitter(double ratio) {
+        checkArgument(ratio > 0 && ratio <= 1, format("Ratio of the jitter should be in range (0, 1]. " +
+                "%s was defined", ratio));
+        return attempt -> {
+            Duration sleeping = sleepingAfter(attempt);
+            return sleeping.minusNanos((long) (sleeping.toNanos() * ratio * current().nextDouble()));
+        };
+    }
+
+    /**
+     * Creates a strategy which makes the next attempts without sleeping after first failed ones. Then it sleeps as
+     * this strategy does. It is useful when the result is usually ready almost at once.
+     *
+     * @param count is a number of first failed attempts which are not followed by the sleeping
+     * @return created strategy.
+     */
+    default PollingStrategy afterImmediateAttempts(int count) {
+        checkArgument(count >= 0, "Count of immediate attempts should not be negative");
+        return attempt -> attempt <= count ? ZERO : sleepingAfter(attempt - count);
+    }
+}
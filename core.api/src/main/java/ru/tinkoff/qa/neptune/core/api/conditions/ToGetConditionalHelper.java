@@ -3,6 +3,7 @@ package ru.tinkoff.qa.neptune.core.api.conditions;
 import com.google.common.base.Preconditions;
 import ru.tinkoff.qa.neptune.core.api.AsIsCondition;
 import ru.tinkoff.qa.neptune.core.api.StoryWriter;
+import ru.tinkoff.qa.neptune.core.api.event.timing.TimedEvent;
 import ru.tinkoff.qa.neptune.core.api.utils.IsDescribedUtil;
 
 import javax.annotation.Nullable;
@@ -12,10 +13,18 @@ import java.util.function.*;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.String.format;
-import static java.lang.System.currentTimeMillis;
-import static java.lang.Thread.sleep;
-import static java.time.Duration.ofMillis;
+import static java.lang.System.nanoTime;
+import static java.time.Duration.ZERO;
 import static java.util.Optional.ofNullable;
+import static ru.tinkoff.qa.neptune.core.api.conditions.PollingAttempt.finishAttempt;
+import static ru.tinkoff.qa.neptune.core.api.conditions.PollingAttempt.startAttempt;
+import static ru.tinkoff.qa.neptune.core.api.conditions.PollingStrategy.fixed;
+import static ru.tinkoff.qa.neptune.core.api.conditions.WaitingDeadline.earliestDeadline;
+import static ru.tinkoff.qa.neptune.core.api.conditions.WaitingDeadline.replaceDeadline;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.FlightRecorderEvents.pollingAttemptEvent;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.FlightRecorderEvents.waitingEvent;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.TimedEvent.*;
+import static ru.tinkoff.qa.neptune.core.api.properties.PollingStrategyProperty.POLLING_STRATEGY_PROPERTY;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 /**
@@ -46,9 +55,14 @@ final class ToGetConditionalHelper {
         return function;
     }
 
-    static Duration checkSleepingTime(Duration duration) {
+    static PollingStrategy checkSleepingTime(Duration duration) {
         checkArgument(duration != null, "Time of the sleeping is not defined");
-        return duration;
+        return fixed(duration);
+    }
+
+    static PollingStrategy checkPollingStrategy(PollingStrategy pollingStrategy) {
+        checkArgument(pollingStrategy != null, "Strategy of the polling is not defined");
+        return pollingStrategy;
     }
 
     static Duration checkWaitingTime(Duration duration) {
@@ -89,29 +103,75 @@ final class ToGetConditionalHelper {
         return resultDescription;
     }
 
+    /**
+     * Creates a function which makes attempts to get some valuable result until it is received or
+     * the waiting time is expired. The result is returned as soon as it is received. The strategy
+     * defined by the property {@code 'polling.strategy'} is used when no strategy is passed.
+     * The function doesn't wait longer than the waiting it is invoked by.
+     *
+     * @see WaitingDeadline
+     * @see PollingAttempt
+     */
     static <T, F> Function<T, F> fluentWaitFunction(String description,
                                                     Function<T, F> originalFunction,
                                                     @Nullable Duration waitingTime,
-                                                    @Nullable Duration sleepingTime,
+                                                    @Nullable PollingStrategy pollingStrategy,
                                                     Predicate<F> till,
                                                     @Nullable Supplier<? extends RuntimeException> exceptionOnTimeOut) {
-        Duration timeOut = ofNullable(waitingTime).orElseGet(() -> ofMillis(0));
-        Duration sleeping = ofNullable(sleepingTime).orElseGet(() -> ofMillis(50));
+        long timeOutNanos = ofNullable(waitingTime).orElse(ZERO).toNanos();
 
         return StoryWriter.toGet(description, t -> {
-
-            long currentMillis = currentTimeMillis();
-            long endMillis = currentMillis + timeOut.toMillis() + 100;
+            PollingStrategy polling = ofNullable(pollingStrategy).orElseGet(POLLING_STRATEGY_PROPERTY);
+            long startNanos = nanoTime();
+            //the waiting which is performed inside another waiting consumes its remaining time
+            long endNanos = earliestDeadline(startNanos + timeOutNanos);
+            boolean hasTime = endNanos - startNanos > 0;
+            Long outerDeadline = replaceDeadline(endNanos);
             F f = null;
             boolean suitable = false;
-            while (currentTimeMillis() < endMillis && !(suitable)) {
-                suitable = till.test(f = originalFunction.apply(t));
-                try {
-                    sleep(sleeping.toMillis());
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException(e);
+            int attempt = 0;
+            boolean isLastAttempt = false;
+            TimedEvent waiting = waitingEvent(description);
+            String waitingOutcome = FAILED;
+            try {
+                while (true) {
+                    TimedEvent pollingAttempt = pollingAttemptEvent(description, ++attempt);
+                    String pollingOutcome = FAILED;
+                    Object outerAttempt = startAttempt();
+                    try {
+                        suitable = till.test(f = originalFunction.apply(t));
+                        pollingOutcome = suitable ? SUCCEEDED : NOT_SUITABLE;
+                    }
+                    finally {
+                        finishAttempt(outerAttempt);
+                        pollingAttempt.finish(pollingOutcome);
+                    }
+
+                    //the attempt which is finished after the expiration of the waiting time is the last one.
+                    //the first failed attempt is retried anyway when the waiting time is defined
+                    if (suitable || isLastAttempt || (attempt > 1 || !hasTime) && nanoTime() - endNanos >= 0) {
+                        break;
+                    }
+
+                    //the sleeping before the retry of the first failed attempt is limited by the outer waiting only.
+                    //other sleepings are limited by the remaining time, so the waiting is not longer than expected
+                    long remainingNanos = attempt > 1 ? endNanos - nanoTime()
+                            : ofNullable(outerDeadline).map(outer -> outer - nanoTime()).orElse(Long.MAX_VALUE);
+                    //the attempt after the sleeping which is cut to the remaining time is the last one. The clock
+                    //is not read again because the sleeping may be finished slightly earlier than the deadline
+                    isLastAttempt = polling.sleepingAfter(attempt).toNanos() >= remainingNanos;
+                    try {
+                        polling.waitBeforeNextAttempt(t, attempt, remainingNanos);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RuntimeException(e);
+                    }
                 }
+                waitingOutcome = suitable ? SUCCEEDED : TIMED_OUT;
+            }
+            finally {
+                waiting.finish(waitingOutcome);
+                replaceDeadline(outerDeadline);
             }
 
             if (suitable) {
@@ -51,6 +51,42 @@ public final class ToGetObjectFromArray {
                 checkConditionInParallel, ignoreExceptionOnConditionCheck, exceptionSupplier);
     }
 
+    /**
+     * This method returns a function. The result function returns a single first found value which
+     * suits criteria from array.
+     *
+     * @param description of a value which should be returned.
+     * @param function function which should return an array
+     * @param condition predicate which is used to find some target value
+     * @param waitingTime is a duration of the waiting for valuable result
+     * @param pollingStrategy defines durations of the sleeping between attempts to get
+     *                        expected valuable result
+     * @param checkConditionInParallel is how array should be matched. If {@code true} when each value will be
+     *                                 checked in parallel.
+     * @param ignoreExceptionOnConditionCheck is used to define what should be done when check is failed
+     *                                        and some exception is thrown. Exception will be thrown when
+     *                                        {@code true}.
+     * @param exceptionSupplier is a supplier which returns the exception to be thrown on the waiting time
+     *                           expiration
+     * @param <T> is a type of input value
+     * @param <R> is a type of the target value
+     * @return a function. The result function returns a single first found value from array.
+     * It returns a value if something that suits criteria is found. Some exception is thrown if
+     * result array to get value from is null or has zero-length or it has no item which suits criteria.
+     */
+    public static <T, R> Function<T, R> getFromArray(String description,
+                                                     Function<T, R[]> function,
+                                                     Predicate<? super R> condition,
+                                                     Duration waitingTime,
+                                                     PollingStrategy pollingStrategy,
+                                                     boolean checkConditionInParallel,
+                                                     boolean ignoreExceptionOnConditionCheck,
+                                                     Supplier<? extends RuntimeException> exceptionSupplier) {
+        checkFunction(function);
+        return getFromIterable(description, t -> asList(function.apply(t)), checkCondition(condition), waitingTime, pollingStrategy,
+                checkConditionInParallel, ignoreExceptionOnConditionCheck, exceptionSupplier);
+    }
+
     /**
      * This method returns a function. The result function returns a single first found value from array.
      *
@@ -75,6 +111,30 @@ public final class ToGetObjectFromArray {
         return getFromIterable(description, t -> asList(function.apply(t)), waitingTime, sleepingTime, exceptionSupplier);
     }
 
+    /**
+     * This method returns a function. The result function returns a single first found value from array.
+     *
+     * @param description of a value which should be returned.
+     * @param function function which should return an array
+     * @param waitingTime is a duration of the waiting for valuable result
+     * @param pollingStrategy defines durations of the sleeping between attempts to get
+     *                        expected valuable result
+     * @param exceptionSupplier is a supplier which returns the exception to be thrown on the waiting time
+     *                           expiration
+     * @param <T> is a type of input value
+     * @param <R> is a type of the target value
+     * @return a function. The result function returns a single first found non-null value from array.
+     * Some exception is thrown if result array to get value from is null or has zero-length.
+     */
+    public static <T, R> Function<T, R> getFromArray(String description,
+                                                     Function<T, R[]> function,
+                                                     Duration waitingTime,
+                                                     PollingStrategy pollingStrategy,
+                                                     Supplier<? extends RuntimeException> exceptionSupplier) {
+        checkFunction(function);
+        return getFromIterable(description, t -> asList(function.apply(t)), waitingTime, pollingStrategy, exceptionSupplier);
+    }
+
     /**
      * This method returns a function. The result function returns a single first found value which
      * suits criteria from array.
@@ -212,6 +272,39 @@ public final class ToGetObjectFromArray {
                 condition, waitingTime, sleepingTime, checkConditionInParallel, ignoreExceptionOnConditionCheck);
     }
 
+    /**
+     * This method returns a function. The result function returns a single first found value which
+     * suits criteria from array.
+     *
+     * @param description of a value which should be returned.
+     * @param function function which should return an array
+     * @param condition predicate which is used to find some target value
+     * @param waitingTime is a duration of the waiting for valuable result
+     * @param pollingStrategy defines durations of the sleeping between attempts to get
+     *                        expected valuable result
+     * @param checkConditionInParallel is how array should be matched. If {@code true} when each value will be
+     *                                 checked in parallel.
+     * @param ignoreExceptionOnConditionCheck is used to define what should be done when check is failed
+     *                                        and some exception is thrown. Exception will be thrown when
+     *                                        {@code true}.
+     * @param <T> is a type of input value
+     * @param <R> is a type of the target value
+     * @return a function. The result function returns a single first found value from array.
+     * It returns a value if something that suits criteria is found. {@code null} is returned if
+     * result array to get value from is null or has zero-length or it has no item which suits criteria.
+     */
+    public static <T, R> Function<T, R> getFromArray(String description,
+                                                     Function<T, R[]> function,
+                                                     Predicate<? super R> condition,
+                                                     Duration waitingTime,
+                                                     PollingStrategy pollingStrategy,
+                                                     boolean checkConditionInParallel,
+                                                     boolean ignoreExceptionOnConditionCheck) {
+        checkFunction(function);
+        return getFromIterable(description, t -> asList(function.apply(t)),
+                condition, waitingTime, pollingStrategy, checkConditionInParallel, ignoreExceptionOnConditionCheck);
+    }
+
     /**
      * This method returns a function. The result function returns a single first found value from array.
      *
@@ -233,6 +326,27 @@ public final class ToGetObjectFromArray {
         return getFromIterable(description, t -> asList(function.apply(t)), waitingTime, sleepingTime);
     }
 
+    /**
+     * This method returns a function. The result function returns a single first found value from array.
+     *
+     * @param description of a value which should be returned.
+     * @param function function which should return an array
+     * @param waitingTime is a duration of the waiting for valuable result
+     * @param pollingStrategy defines durations of the sleeping between attempts to get
+     *                        expected valuable result
+     * @param <T> is a type of input value
+     * @param <R> is a type of the target value
+     * @return a function. The result function returns a single first found non-null value from array.
+     * {@code null} is returned if result array to get value from is null or has zero-length.
+     */
+    public static <T, R> Function<T, R> getFromArray(String description,
+                                                     Function<T, R[]> function,
+                                                     Duration waitingTime,
+                                                     PollingStrategy pollingStrategy) {
+        checkFunction(function);
+        return getFromIterable(description, t -> asList(function.apply(t)), waitingTime, pollingStrategy);
+    }
+
     /**
      * This method returns a function. The result function returns a single first found value which
      * suits criteria from array.
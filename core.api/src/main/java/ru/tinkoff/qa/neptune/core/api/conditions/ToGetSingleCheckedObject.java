@@ -20,7 +20,7 @@ public final class ToGetSingleCheckedObject {
                                                        Function<T, R> function,
                                                        Predicate<? super R> condition,
                                                        @Nullable Duration waitingTime,
-                                                       @Nullable Duration sleepingTime,
+                                                       @Nullable PollingStrategy pollingStrategy,
                                                        boolean ignoreExceptionOnConditionCheck,
                                                        @Nullable Supplier<? extends RuntimeException> exceptionSupplier) {
         return ToGetConditionalHelper.fluentWaitFunction(ToGetConditionalHelper.getDescription(ToGetConditionalHelper.checkDescription(description), condition), t ->
@@ -35,7 +35,7 @@ public final class ToGetSingleCheckedObject {
                             }
                             return null;
                         }).orElse(null), waitingTime,
-                sleepingTime, Objects::nonNull, exceptionSupplier);
+                pollingStrategy, Objects::nonNull, exceptionSupplier);
     }
 
     /**
@@ -69,6 +69,37 @@ public final class ToGetSingleCheckedObject {
                 ToGetConditionalHelper.checkSleepingTime(sleepingTime), ignoreExceptionOnConditionCheck, ToGetConditionalHelper.checkExceptionSupplier(exceptionSupplier));
     }
 
+    /**
+     * This method returns a function. The result function returns a single value which
+     * suits criteria.
+     *
+     * @param description of a value which should be returned
+     * @param function function which should return some object
+     * @param condition predicate which is used to find some target value
+     * @param waitingTime is a duration of the waiting for valuable result
+     * @param pollingStrategy defines durations of the sleeping between attempts to get
+     *                        expected valuable result
+     * @param ignoreExceptionOnConditionCheck is used to define what should be done when check is failed
+     *                                        and some exception is thrown. Exception will be thrown when
+     *                                        {@code true}.
+     * @param exceptionSupplier is a supplier which returns the exception to be thrown on the waiting time
+     *                           expiration
+     * @param <T> is a type of input value
+     * @param <R> is a type of the target value
+     * @return a function. The result function returns a single value.
+     * It returns a value if it suits criteria. Some exception is thrown if value is null or doesn't suit criteria.
+     */
+    public static <T, R> Function<T, R> getSingle(String description,
+                                                  Function<T, R> function,
+                                                  Predicate<? super R> condition,
+                                                  Duration waitingTime,
+                                                  PollingStrategy pollingStrategy,
+                                                  boolean ignoreExceptionOnConditionCheck,
+                                                  Supplier<? extends RuntimeException> exceptionSupplier) {
+        return checkedSingle(description, ToGetConditionalHelper.checkFunction(function), ToGetConditionalHelper.checkCondition(condition), ToGetConditionalHelper.checkWaitingTime(waitingTime),
+                ToGetConditionalHelper.checkPollingStrategy(pollingStrategy), ignoreExceptionOnConditionCheck, ToGetConditionalHelper.checkExceptionSupplier(exceptionSupplier));
+    }
+
     /**
      * This method returns a function. The result function returns a single value which differs from null.
      *
@@ -92,6 +123,29 @@ public final class ToGetSingleCheckedObject {
                 ToGetConditionalHelper.checkSleepingTime(sleepingTime), true, ToGetConditionalHelper.checkExceptionSupplier(exceptionSupplier));
     }
 
+    /**
+     * This method returns a function. The result function returns a single value which differs from null.
+     *
+     * @param description of a value which should be returned
+     * @param function function which should return some object
+     * @param waitingTime is a duration of the waiting for valuable result
+     * @param pollingStrategy defines durations of the sleeping between attempts to get
+     *                        expected valuable result
+     * @param exceptionSupplier is a supplier which returns the exception to be thrown on the waiting time
+     *                           expiration
+     * @param <T> is a type of input value
+     * @param <R> is a type of the target value
+     * @return a function. The result function returns a single value.
+     * It returns a value if it differs from null. Some exception is thrown if value is null.
+     */
+    public static <T, R> Function<T, R> getSingle(String description,
+                                                  Function<T, R> function,
+                                                  Duration waitingTime, PollingStrategy pollingStrategy,
+                                                  Supplier<? extends RuntimeException> exceptionSupplier) {
+        return checkedSingle(description, ToGetConditionalHelper.checkFunction(function), AsIsCondition.AS_IS, ToGetConditionalHelper.checkWaitingTime(waitingTime),
+                ToGetConditionalHelper.checkPollingStrategy(pollingStrategy), true, ToGetConditionalHelper.checkExceptionSupplier(exceptionSupplier));
+    }
+
     /**
      * This method returns a function. The result function returns a single value which
      * suits criteria.
@@ -214,6 +268,34 @@ public final class ToGetSingleCheckedObject {
                 ToGetConditionalHelper.checkSleepingTime(sleepingTime), ignoreExceptionOnConditionCheck, null);
     }
 
+    /**
+     * This method returns a function. The result function returns a single value which
+     * suits criteria.
+     *
+     * @param description of a value which should be returned
+     * @param function function which should return some object
+     * @param condition predicate which is used to find some target value
+     * @param waitingTime is a duration of the waiting for valuable result
+     * @param pollingStrategy defines durations of the sleeping between attempts to get
+     *                        expected valuable result
+     * @param ignoreExceptionOnConditionCheck is used to define what should be done when check is failed
+     *                                        and some exception is thrown. Exception will be thrown when
+     *                                        {@code true}.
+     * @param <T> is a type of input value
+     * @param <R> is a type of the target value
+     * @return a function. The result function returns a single value.
+     * It returns a value if it suits criteria. {@code null} is returned if value is null or doesn't suit criteria.
+     */
+    public static <T, R> Function<T, R> getSingle(String description,
+                                                  Function<T, R> function,
+                                                  Predicate<? super R> condition,
+                                                  Duration waitingTime,
+                                                  PollingStrategy pollingStrategy,
+                                                  boolean ignoreExceptionOnConditionCheck) {
+        return checkedSingle(description, ToGetConditionalHelper.checkFunction(function), ToGetConditionalHelper.checkCondition(condition), ToGetConditionalHelper.checkWaitingTime(waitingTime),
+                ToGetConditionalHelper.checkPollingStrategy(pollingStrategy), ignoreExceptionOnConditionCheck, null);
+    }
+
     /**
      * This method returns a function. The result function returns a single value which differs from null.
      *
@@ -235,6 +317,27 @@ public final class ToGetSingleCheckedObject {
                 ToGetConditionalHelper.checkSleepingTime(sleepingTime), true, null);
     }
 
+    /**
+     * This method returns a function. The result function returns a single value which differs from null.
+     *
+     * @param description of a value which should be returned
+     * @param function function which should return some object
+     * @param waitingTime is a duration of the waiting for valuable result
+     * @param pollingStrategy defines durations of the sleeping between attempts to get
+     *                        expected valuable result
+     * @param <T> is a type of input value
+     * @param <R> is a type of the target value
+     * @return a function. The result function returns a single value.
+     * It returns a value if it differs from null. {@code null} is returned if value is null.
+     */
+    public static <T, R> Function<T, R> getSingle(String description,
+                                                  Function<T, R> function,
+                                                  Duration waitingTime,
+                                                  PollingStrategy pollingStrategy) {
+        return checkedSingle(description, ToGetConditionalHelper.checkFunction(function), AsIsCondition.AS_IS, ToGetConditionalHelper.checkWaitingTime(waitingTime),
+                ToGetConditionalHelper.checkPollingStrategy(pollingStrategy), true, null);
+    }
+
     /**
      * This method returns a function. The result function returns a single value which
      * suits criteria.
@@ -12,8 +12,8 @@ import java.util.function.Supplier;
 import static ru.tinkoff.qa.neptune.core.api.conditions.ToGetConditionalHelper.*;
 import static java.util.Arrays.asList;
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
+import static ru.tinkoff.qa.neptune.core.api.conditions.ParallelConditionChecks.filter;
+import static ru.tinkoff.qa.neptune.core.api.concurency.ThreadContext.withCurrentContext;
 
 public final class ToGetSubArray {
 
@@ -25,19 +25,19 @@ public final class ToGetSubArray {
                                                  Function<T, R[]> function,
                                                  Predicate<? super R> condition,
                                                  Duration waitingTime,
-                                                 Duration sleepingTime,
+                                                 PollingStrategy pollingStrategy,
                                                  boolean checkConditionInParallel,
                                                  boolean ignoreExceptionOnConditionCheck,
                                                  Supplier<? extends RuntimeException> exceptionSupplier) {
         return fluentWaitFunction(getDescription(checkDescription(description), condition), t ->
                         ofNullable(function.apply(t)).map(rs -> {
-                            List<R> subResult = stream(asList(rs).spliterator(), checkConditionInParallel).filter(r -> {
+                            List<R> subResult = filter(asList(rs), withCurrentContext(r -> {
                                 try {
                                     return !notNullAnd(condition).test(r);
                                 } catch (Throwable t1) {
                                     return !returnFalseOrThrowException(t1, ignoreExceptionOnConditionCheck);
                                 }
-                            }).collect(toList());
+                            }), checkConditionInParallel, condition);
 
                             R[] result = rs;
                             for (R r: subResult) {
@@ -45,7 +45,7 @@ public final class ToGetSubArray {
                             }
                             return result;
                         }).orElse(null),
-                waitingTime, sleepingTime, rs -> rs != null && rs.length > 0, exceptionSupplier);
+                waitingTime, pollingStrategy, rs -> rs != null && rs.length > 0, exceptionSupplier);
     }
 
     /**
@@ -83,6 +83,41 @@ public final class ToGetSubArray {
                 checkConditionInParallel, ignoreExceptionOnConditionCheck, checkExceptionSupplier(exceptionSupplier));
     }
 
+    /**
+     * This method returns a function. The result function returns an array of elements which differ from null
+     * and suit the criteria.
+     *
+     * @param description of a value which should be returned
+     * @param function function which should return an array
+     * @param condition predicate which is used to find some target value
+     * @param waitingTime is a duration of the waiting for valuable result
+     * @param pollingStrategy defines durations of the sleeping between attempts to get
+     *                        expected valuable result
+     * @param checkConditionInParallel is how array should be matched. If {@code true} when each value will be
+     *                                 checked in parallel.
+     * @param ignoreExceptionOnConditionCheck is used to define what should be done when check is failed
+     *                                        and some exception is thrown. Exception will be thrown when
+     *                                        {@code true}.
+     * @param exceptionSupplier is a supplier which returns the exception to be thrown on the waiting time
+     *                           expiration
+     * @param <T> is a type of input value
+     * @param <R> is a type of target values
+     * @return a function. The result function returns an array of elements which differ from null
+     * and suit the criteria. It returns not empty array when there are such elements. Some exception is thrown if result
+     * array is null or has no elements which suit the criteria.
+     */
+    public static <T, R> Function<T, R[]> getArray(String description,
+                                                   Function<T, R[]> function,
+                                                   Predicate<? super R> condition,
+                                                   Duration waitingTime,
+                                                   PollingStrategy pollingStrategy,
+                                                   boolean checkConditionInParallel,
+                                                   boolean ignoreExceptionOnConditionCheck,
+                                                   Supplier<? extends RuntimeException> exceptionSupplier) {
+        return array(description, checkFunction(function), checkCondition(condition), checkWaitingTime(waitingTime), checkPollingStrategy(pollingStrategy),
+                checkConditionInParallel, ignoreExceptionOnConditionCheck, checkExceptionSupplier(exceptionSupplier));
+    }
+
     /**
      * This method returns a function. The result function returns an array of elements which differ from null.
      *
@@ -108,6 +143,31 @@ public final class ToGetSubArray {
                 true, true, checkExceptionSupplier(exceptionSupplier));
     }
 
+    /**
+     * This method returns a function. The result function returns an array of elements which differ from null.
+     *
+     * @param description of a value which should be returned
+     * @param function function which should return an array
+     * @param waitingTime is a duration of the waiting for valuable result
+     * @param pollingStrategy defines durations of the sleeping between attempts to get
+     *                        expected valuable result
+     * @param exceptionSupplier is a supplier which returns the exception to be thrown on the waiting time
+     *                           expiration
+     * @param <T> is a type of input value
+     * @param <R> is a type of target values
+     * @return a function. The result function returns an array of elements which differ from null.
+     * It returns not empty array when there are such elements. Some exception is thrown if result
+     * array is null or has no elements or all elements are {@code null}.
+     */
+    public static <T, R> Function<T, R[]> getArray(String description,
+                                                   Function<T, R[]> function,
+                                                   Duration waitingTime,
+                                                   PollingStrategy pollingStrategy,
+                                                   Supplier<? extends RuntimeException> exceptionSupplier) {
+        return array(description, checkFunction(function), AsIsCondition.AS_IS, checkWaitingTime(waitingTime), checkPollingStrategy(pollingStrategy),
+                true, true, checkExceptionSupplier(exceptionSupplier));
+    }
+
     /**
      * This method returns a function. The result function returns an array of elements which differ from null
      * and suit the criteria.
@@ -243,6 +303,38 @@ public final class ToGetSubArray {
                 checkConditionInParallel, ignoreExceptionOnConditionCheck, null);
     }
 
+    /**
+     * This method returns a function. The result function returns an array of elements which differ from null
+     * and suit the criteria.
+     *
+     * @param description of a value which should be returned
+     * @param function function which should return {@link Iterable}
+     * @param condition predicate which is used to find some target value
+     * @param waitingTime is a duration of the waiting for valuable result
+     * @param pollingStrategy defines durations of the sleeping between attempts to get
+     *                        expected valuable result
+     * @param checkConditionInParallel is how array should be matched. If {@code true} when each value will be
+     *                                 checked in parallel.
+     * @param ignoreExceptionOnConditionCheck is used to define what should be done when check is failed
+     *                                        and some exception is thrown. Exception will be thrown when
+     *                                        {@code true}.
+     * @param <T> is a type of input value
+     * @param <R> is a type of target values
+     * @return a function. The result function returns an array of elements which differ from null
+     * and suit the criteria. It returns not empty array when there are such elements. Empty array is returned if result
+     * array is null or has no elements which suit the criteria.
+     */
+    public static <T, R> Function<T, R[]> getArray(String description,
+                                                   Function<T, R[]> function,
+                                                   Predicate<? super R> condition,
+                                                   Duration waitingTime,
+                                                   PollingStrategy pollingStrategy,
+                                                   boolean checkConditionInParallel,
+                                                   boolean ignoreExceptionOnConditionCheck) {
+        return array(description, checkFunction(function), checkCondition(condition), checkWaitingTime(waitingTime), checkPollingStrategy(pollingStrategy),
+                checkConditionInParallel, ignoreExceptionOnConditionCheck, null);
+    }
+
     /**
      * This method returns a function. The result function returns an array of elements which differ from null.
      *
@@ -265,6 +357,28 @@ public final class ToGetSubArray {
                 true, true, null);
     }
 
+    /**
+     * This method returns a function. The result function returns an array of elements which differ from null.
+     *
+     * @param description of a value which should be returned
+     * @param function function which should return {@link Iterable}
+     * @param waitingTime is a duration of the waiting for valuable result
+     * @param pollingStrategy defines durations of the sleeping between attempts to get
+     *                        expected valuable result
+     * @param <T> is a type of input value
+     * @param <R> is a type of target values
+     * @return a function. The result function returns an array of elements which differ from null.
+     * It returns not empty array when there are such elements. Empty array is returned if result
+     * array is null or has no elements or all elements are {@code null}.
+     */
+    public static <T, R> Function<T, R[]> getArray(String description,
+                                                   Function<T, R[]> function,
+                                                   Duration waitingTime,
+                                                   PollingStrategy pollingStrategy) {
+        return array(description, checkFunction(function), AsIsCondition.AS_IS, checkWaitingTime(waitingTime), checkPollingStrategy(pollingStrategy),
+                true, true, null);
+    }
+
     /**
      * This method returns a function. The result function returns an array of elements which differ from null
      * and suit the criteria.
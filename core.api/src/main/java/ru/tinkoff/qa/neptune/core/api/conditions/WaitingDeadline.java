@@ -0,0 +1,72 @@
+package ru.tinkoff.qa.neptune.core.api.conditions;
+
+import ru.tinkoff.qa.neptune.core.api.concurency.ThreadContext;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static java.lang.System.nanoTime;
+import static java.time.Duration.ZERO;
+import static java.time.Duration.ofNanos;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static ru.tinkoff.qa.neptune.core.api.concurency.ThreadContext.contextValue;
+
+/**
+ * Keeps the deadline of the waiting which is performed by the current thread. A function which waits for some
+ * valuable result is not able to wait longer than the waiting it is invoked by. So the searching for an element
+ * which is performed inside the waiting for another value (e.g. by a matcher or a condition) consumes the remaining
+ * time of the outer waiting instead of starting its own timer. Functions composed by {@code compose/andThen} are
+ * invoked by the same thread, so they share the deadline.
+ * <p>
+ *     The deadline is a part of {@link ThreadContext}, so a condition which is checked by another thread should be
+ *     wrapped by {@code withCurrentContext(...)} to use the deadline of the thread which waits for the result.
+ * </p>
+ */
+public final class WaitingDeadline {
+
+    private static final ThreadLocal<Long> DEADLINES = contextValue();
+
+    private WaitingDeadline() {
+        super();
+    }
+
+    /**
+     * Returns the remaining time of the waiting which is performed by the current thread.
+     *
+     * @return the remaining time. Empty value is returned when the current thread doesn't wait for anything.
+     * Zero duration is returned when the waiting time is expired.
+     */
+    public static Optional<Duration> remainingTime() {
+        Long endNanos = DEADLINES.get();
+        if (endNanos == null) {
+            return empty();
+        }
+
+        long remaining = endNanos - nanoTime();
+        return of(remaining > 0 ? ofNanos(remaining) : ZERO);
+    }
+
+    /**
+     * Returns the earliest deadline of the given one and the deadline of the current thread.
+     */
+    static long earliestDeadline(long endNanos) {
+        Long current = DEADLINES.get();
+        //values of nanoTime should be compared by the subtraction because of the possible overflow
+        if (current != null && current - endNanos < 0) {
+            return current;
+        }
+        return endNanos;
+    }
+
+    static Long replaceDeadline(Long endNanos) {
+        Long previous = DEADLINES.get();
+        if (endNanos == null) {
+            DEADLINES.remove();
+        }
+        else {
+            DEADLINES.set(endNanos);
+        }
+        return previous;
+    }
+}
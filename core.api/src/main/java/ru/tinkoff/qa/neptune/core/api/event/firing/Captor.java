@@ -2,6 +2,7 @@ package ru.tinkoff.qa.neptune.core.api.event.firing;
 
 import java.util.List;
 
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.injectCapturedData;
 import static java.util.List.of;
 import static java.util.Optional.ofNullable;
 
@@ -25,7 +26,8 @@ public abstract class Captor<T, S> {
 
     public void capture(T caught, String message) {
         S s = getData(caught);
-        ofNullable(s).ifPresent(s1 -> injectors.forEach(injector -> injector.inject(s1, message)));
+        ofNullable(s).ifPresent(s1 -> injectCapturedData(() ->
+                injectors.forEach(injector -> injector.inject(s1, message))));
     }
 
     /**
@@ -0,0 +1,111 @@
+package ru.tinkoff.qa.neptune.core.api.event.firing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static java.lang.Thread.currentThread;
+import static ru.tinkoff.qa.neptune.core.api.concurency.BoundedDaemonPools.newBoundedDaemonPool;
+import static ru.tinkoff.qa.neptune.core.api.properties.CaptureProcessingThreadsProperty.CAPTURE_PROCESSING_THREADS_PROPERTY;
+
+/**
+ * This class is designed to process captured data (conversion, encoding, writing of attachments) by background
+ * threads. Data should be taken and linked to a log/report by the capturing thread, so the state of the captured
+ * object and the place in the log/report are correct. The rest of the work may be passed to
+ * {@link #processInBackground(Runnable)}.
+ * <p>
+ *     Count of background threads is defined by the property {@code "capture.processing.threads"}. The queue of tasks
+ *     is bounded. A thread which submits a task to the full queue processes this task itself. Everything is
+ *     processed by the capturing thread when the property is not defined. The property is read once, when
+ *     captured data is processed first time.
+ * </p>
+ */
+public final class CapturedDataProcessing {
+
+    private static final ThreadLocal<List<Future<?>>> SUBMITTED = ThreadLocal.withInitial(ArrayList::new);
+    private static volatile ExecutorService executor;
+    private static volatile boolean isDisabled;
+
+    private CapturedDataProcessing() {
+        super();
+    }
+
+    private static ExecutorService getExecutor() {
+        if (executor != null || isDisabled) {
+            return executor;
+        }
+
+        synchronized (CapturedDataProcessing.class) {
+            if (executor == null && !isDisabled) {
+                Integer threads = CAPTURE_PROCESSING_THREADS_PROPERTY.get();
+                if (threads == null) {
+                    isDisabled = true;
+                    return null;
+                }
+
+                executor = newBoundedDaemonPool(threads, "Captured data processing %s");
+            }
+            return executor;
+        }
+    }
+
+    /**
+     * Processes captured data by a background thread. The task is performed by the current thread when
+     * background processing is not enabled or the queue of tasks is full. Exceptions thrown by tasks performed in
+     * background are printed.
+     *
+     * @param task which processes captured data.
+     */
+    public static void processInBackground(Runnable task) {
+        ExecutorService executorService = getExecutor();
+        if (executorService == null) {
+            task.run();
+            return;
+        }
+
+        List<Future<?>> submitted = SUBMITTED.get();
+        submitted.removeIf(Future::isDone);
+        submitted.add(executorService.submit(() -> {
+            try {
+                task.run();
+            }
+            catch (Throwable t) {
+                //the capturing thread has gone further. It can't catch the exception
+                t.printStackTrace();
+            }
+        }));
+    }
+
+    /**
+     * Waits until all tasks submitted by the current thread are performed.
+     */
+    public static void waitForBackgroundProcessing() {
+        List<Future<?>> submitted = SUBMITTED.get();
+        boolean interrupted = false;
+        try {
+            for (Future<?> future: submitted) {
+                while (true) {
+                    try {
+                        future.get();
+                        break;
+                    }
+                    catch (InterruptedException e) {
+                        //captured data should be written before a result of a test is finalized
+                        interrupted = true;
+                    }
+                    catch (ExecutionException e) {
+                        break;
+                    }
+                }
+            }
+        }
+        finally {
+            submitted.clear();
+            if (interrupted) {
+                currentThread().interrupt();
+            }
+        }
+    }
+}
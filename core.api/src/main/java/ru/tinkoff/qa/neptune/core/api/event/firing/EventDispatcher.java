@@ -0,0 +1,119 @@
+package ru.tinkoff.qa.neptune.core.api.event.firing;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+import static ru.tinkoff.qa.neptune.core.api.event.firing.CapturedDataProcessing.waitForBackgroundProcessing;
+import static java.lang.String.format;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Queue of events fired by some thread. Events are taken from the queue and performed by the background
+ * thread in the order they were fired. The background thread is finished when the firing thread is dead
+ * and there are no events to be performed.
+ */
+final class EventDispatcher implements Runnable {
+
+    /**
+     * Capacity of the ring buffer. The firing thread waits when the buffer is full.
+     */
+    private static final int CAPACITY = 1024;
+
+    private final Thread owner;
+    private final BlockingQueue<Runnable> events = new ArrayBlockingQueue<>(CAPACITY);
+
+    private EventDispatcher(Thread owner) {
+        this.owner = owner;
+    }
+
+    static EventDispatcher startDispatching() {
+        Thread owner = currentThread();
+        EventDispatcher dispatcher = new EventDispatcher(owner);
+        Thread thread = new Thread(dispatcher, format("Event dispatcher of %s", owner.getName()));
+        thread.setDaemon(true);
+        thread.start();
+        return dispatcher;
+    }
+
+    void dispatch(Runnable event) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    events.put(event);
+                    return;
+                }
+                catch (InterruptedException e) {
+                    //events should not be lost or reordered
+                    interrupted = true;
+                }
+            }
+        }
+        finally {
+            if (interrupted) {
+                currentThread().interrupt();
+            }
+        }
+    }
+
+    void flush() {
+        CountDownLatch dispatched = new CountDownLatch(1);
+        dispatch(() -> {
+            try {
+                //captured data which was injected by this thread
+                waitForBackgroundProcessing();
+            }
+            finally {
+                dispatched.countDown();
+            }
+        });
+
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    dispatched.await();
+                    return;
+                }
+                catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        finally {
+            if (interrupted) {
+                currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            Runnable event;
+            try {
+                event = events.poll(1, SECONDS);
+            }
+            catch (InterruptedException e) {
+                return;
+            }
+
+            if (event == null) {
+                if (!owner.isAlive() && events.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+
+            try {
+                event.run();
+            }
+            catch (Throwable t) {
+                //the firing thread has gone further. It can't catch the exception
+                t.printStackTrace();
+            }
+        }
+    }
+}
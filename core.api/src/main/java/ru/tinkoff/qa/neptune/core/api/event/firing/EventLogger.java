@@ -20,7 +20,9 @@ public interface EventLogger {
     void fireThrownException(Throwable throwable);
 
     /**
-     * Fires some value which has been returned.
+     * Fires some value which has been returned. When events are fired asynchronously
+     * (see {@link ru.tinkoff.qa.neptune.core.api.properties.AsyncEventFiringProperty}) the string value of
+     * the returned object is fired.
      *
      * @param returned value that should be fired.
      */
@@ -30,4 +32,27 @@ public interface EventLogger {
      * Fires the finishing of some event.
      */
     void fireEventFinishing();
+
+    /**
+     * Fires the finishing of some event which has been timed. Steps are timed when they are finished.
+     *
+     * @param durationNanos is time of the event in nanoseconds which is measured by {@link System#nanoTime()}.
+     *                      It includes time of the firing of the starting of the event.
+     */
+    default void fireEventFinishing(long durationNanos) {
+        fireEventFinishing();
+    }
+
+    /**
+     * Is invoked by the thread which fires an event when events are fired asynchronously
+     * (see {@link ru.tinkoff.qa.neptune.core.api.properties.AsyncEventFiringProperty}). The event is fired
+     * to the logger by a background thread later. A logger which uses state of the firing thread (e.g. thread
+     * locals of a reporting engine) should read this state here.
+     *
+     * @return an action which is performed by the background thread right before the event is fired
+     * to the logger or captured data is injected. {@code null} is returned by default.
+     */
+    default Runnable captureStateOfFiringThread() {
+        return null;
+    }
 }
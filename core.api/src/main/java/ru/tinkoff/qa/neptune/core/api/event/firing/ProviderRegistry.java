@@ -0,0 +1,129 @@
+package ru.tinkoff.qa.neptune.core.api.event.firing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Process-wide registry of SPI providers of some service. Providers are looked up by {@link ServiceLoader} once.
+ * Classes annotated by {@link Stateless} are instantiated once and their objects are shared by all threads.
+ * Other classes are instantiated once for each thread which uses them.
+ *
+ * @param <T> is a type of the service.
+ */
+public final class ProviderRegistry<T> {
+
+    private static final ClassValue<ProviderRegistry<?>> REGISTRIES = new ClassValue<>() {
+        @Override
+        protected ProviderRegistry<?> computeValue(Class<?> type) {
+            return new ProviderRegistry<>(type);
+        }
+    };
+
+    /**
+     * Shared objects and factories of objects of threads in the order they were found/added.
+     */
+    private final List<Object> entries = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<ThreadProviders<T>> threadProviders = new ThreadLocal<>();
+    private volatile int version;
+    private volatile List<T> sharedProviders;
+
+    private ProviderRegistry(Class<T> service) {
+        ServiceLoader.load(service).stream().forEach(provider -> {
+            if (provider.type().getAnnotation(Stateless.class) != null) {
+                entries.add(provider.get());
+            }
+            else {
+                entries.add(provider);
+            }
+        });
+        sharedProviders = sharedProvidersOrNull();
+    }
+
+    /**
+     * Returns the registry of providers of the service.
+     *
+     * @param service is a class of the service.
+     * @param <T> is a type of the service.
+     * @return registry of providers.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ProviderRegistry<T> registryOf(Class<T> service) {
+        return (ProviderRegistry<T>) REGISTRIES.get(service);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> sharedProvidersOrNull() {
+        List<T> result = new ArrayList<>();
+        for (Object entry: entries) {
+            if (entry instanceof ServiceLoader.Provider) {
+                return null;
+            }
+            result.add((T) entry);
+        }
+        return unmodifiableList(result);
+    }
+
+    /**
+     * Registers the provider for all threads. It should be safe to use it by many threads simultaneously.
+     *
+     * @param provider to be registered.
+     */
+    public synchronized void add(T provider) {
+        checkArgument(provider != null, "Provider should be defined");
+        entries.add(provider);
+        sharedProviders = sharedProvidersOrNull();
+        version++;
+    }
+
+    /**
+     * Returns providers for the current thread. There are shared objects and objects which are created
+     * for the current thread.
+     *
+     * @return list of providers in the order they were found by {@link ServiceLoader} and then added.
+     */
+    public List<T> get() {
+        List<T> shared = sharedProviders;
+        if (shared != null) {
+            return shared;
+        }
+
+        ThreadProviders<T> providers = threadProviders.get();
+        int currentVersion = version;
+        if (providers == null || providers.version != currentVersion) {
+            providers = new ThreadProviders<>(currentVersion, entries, providers);
+            threadProviders.set(providers);
+        }
+        return providers.all;
+    }
+
+    private static final class ThreadProviders<T> {
+        private final int version;
+        private final List<Object> entries;
+        private final List<T> all;
+
+        @SuppressWarnings("unchecked")
+        private ThreadProviders(int version, List<Object> entries, ThreadProviders<T> previous) {
+            this.version = version;
+            this.entries = new ArrayList<>(entries);
+            List<T> all = new ArrayList<>();
+            for (int i = 0; i < this.entries.size(); i++) {
+                Object entry = this.entries.get(i);
+                if (entry instanceof ServiceLoader.Provider) {
+                    //objects which were created for the thread before are kept
+                    T own = previous != null && i < previous.entries.size() && previous.entries.get(i) == entry ?
+                            previous.all.get(i) : ((ServiceLoader.Provider<T>) entry).get();
+                    all.add(own);
+                }
+                else {
+                    all.add((T) entry);
+                }
+            }
+            this.all = unmodifiableList(all);
+        }
+    }
+}
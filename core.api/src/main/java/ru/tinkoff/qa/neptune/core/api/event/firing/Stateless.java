@@ -0,0 +1,18 @@
+package ru.tinkoff.qa.neptune.core.api.event.firing;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * This annotation marks SPI providers (e.g. subclasses of {@link Captor} or implementations of {@link EventLogger})
+ * which keep no state of a thread and may be used by many threads simultaneously. One object of such class is
+ * shared by all threads. An object of a class which is not annotated is created for each thread.
+ *
+ * @see ProviderRegistry
+ */
+@Retention(RUNTIME) @Target({TYPE})
+public @interface Stateless {
+}
@@ -1,31 +1,42 @@
 package ru.tinkoff.qa.neptune.core.api.event.firing;
 
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.function.Consumer;
 
-import static ru.tinkoff.qa.neptune.core.api.utils.SPIUtil.loadSPI;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.CapturedDataProcessing.waitForBackgroundProcessing;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.EventDispatcher.startDispatching;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.ProviderRegistry.registryOf;
+import static ru.tinkoff.qa.neptune.core.api.properties.AsyncEventFiringProperty.ASYNC_EVENT_FIRING_PROPERTY;
 import static java.util.Optional.ofNullable;
 
 @SuppressWarnings("unchecked")
 public class StaticEventFiring {
-    private static final ThreadLocal<List<Captor>> LIST_THREAD_LOCAL_CAPTORS = new ThreadLocal<>();
-    private static final ThreadLocal<List<EventLogger>> LIST_THREAD_LOCAL_EVENT_LOGGERS = new ThreadLocal<>();
+    private static final ProviderRegistry<Captor> CAPTORS = registryOf(Captor.class);
+    private static final ProviderRegistry<EventLogger> EVENT_LOGGERS = registryOf(EventLogger.class);
+    private static final ThreadLocal<EventDispatcher> THREAD_LOCAL_DISPATCHER = ThreadLocal
+            .withInitial(() -> ASYNC_EVENT_FIRING_PROPERTY.get() ? startDispatching() : null);
 
     private static List<Captor> getCaptors() {
-        return  ofNullable(LIST_THREAD_LOCAL_CAPTORS.get()).orElseGet(() -> {
-            List<Captor> captors = loadSPI(Captor.class);
-            LIST_THREAD_LOCAL_CAPTORS.set(captors);
-            return captors;
-        });
+        return CAPTORS.get();
     }
 
-    private static <T> Stream<Captor> filter(T caught) {
-        return getCaptors().stream().filter(captor -> captor.getTypeToBeCaptured()
-                .isAssignableFrom(caught.getClass()));
+    /**
+     * Registers captors for all threads. Captors should be safe to use by many threads simultaneously.
+     *
+     * @param captors to be registered.
+     */
+    public static void addCaptors(List<Captor<?, ?>> captors) {
+        captors.forEach(CAPTORS::add);
     }
 
-    public static void addCaptors(List<Captor<?, ?>> captors) {
-        getCaptors().addAll(captors);
+    /**
+     * Checks are there captors which may catch objects for the current thread. It is useful to avoid
+     * the building of messages of captured data when there is nobody to catch anything.
+     *
+     * @return {@code true} when there are captors. {@code false} is returned otherwise.
+     */
+    public static boolean hasCaptors() {
+        return !getCaptors().isEmpty();
     }
 
     public static <T> void catchResult(T caught, String message) {
@@ -33,34 +44,132 @@ public class StaticEventFiring {
             return;
         }
 
-        filter(caught).forEach(captor -> captor.capture(caught, message));
+        for (Captor captor: getCaptors()) {
+            if (captor.getTypeToBeCaptured().isAssignableFrom(caught.getClass())) {
+                captor.capture(caught, message);
+            }
+        }
+    }
+
+    /**
+     * Injects data which is captured by the current thread. When events are fired asynchronously
+     * the injection is performed by the background thread after events which were fired before. States
+     * of the current thread which are captured by event loggers are restored before the injection.
+     *
+     * @param injection of the captured data.
+     */
+    static void injectCapturedData(Runnable injection) {
+        EventDispatcher dispatcher = THREAD_LOCAL_DISPATCHER.get();
+        if (dispatcher == null) {
+            injection.run();
+            return;
+        }
+
+        Runnable[] statesOfFiringThread = captureStatesOfFiringThread(initEventLoggersIfNecessary());
+        dispatcher.dispatch(() -> {
+            for (Runnable state: statesOfFiringThread) {
+                ofNullable(state).ifPresent(Runnable::run);
+            }
+            injection.run();
+        });
+    }
+
+    private static Runnable[] captureStatesOfFiringThread(List<EventLogger> loggers) {
+        Runnable[] statesOfFiringThread = new Runnable[loggers.size()];
+        for (int i = 0; i < statesOfFiringThread.length; i++) {
+            statesOfFiringThread[i] = loggers.get(i).captureStateOfFiringThread();
+        }
+        return statesOfFiringThread;
     }
 
     private static List<EventLogger> initEventLoggersIfNecessary() {
-        return ofNullable(LIST_THREAD_LOCAL_EVENT_LOGGERS.get())
-                .orElseGet(() -> {
-                    List<EventLogger> loggers = loadSPI(EventLogger.class);
-                    LIST_THREAD_LOCAL_EVENT_LOGGERS.set(loggers);
-                    return loggers;
-                });
+        return EVENT_LOGGERS.get();
+    }
+
+    /**
+     * Checks are there event loggers for the current thread. It is useful to avoid the building of messages
+     * (and invocation of {@code toString} of described objects) when there is nobody to log them.
+     *
+     * @return {@code true} when there are event loggers. {@code false} is returned otherwise.
+     */
+    public static boolean hasEventLoggers() {
+        return !initEventLoggersIfNecessary().isEmpty();
+    }
+
+    private static void fire(List<EventLogger> loggers, Consumer<EventLogger> event) {
+        EventDispatcher dispatcher = THREAD_LOCAL_DISPATCHER.get();
+        if (dispatcher == null) {
+            loggers.forEach(event);
+            return;
+        }
+
+        Runnable[] statesOfFiringThread = captureStatesOfFiringThread(loggers);
+        dispatcher.dispatch(() -> {
+            for (int i = 0; i < statesOfFiringThread.length; i++) {
+                ofNullable(statesOfFiringThread[i]).ifPresent(Runnable::run);
+                event.accept(loggers.get(i));
+            }
+        });
     }
 
     public static void fireEventStarting(String message) {
-        initEventLoggersIfNecessary().forEach(eventLogger ->
-                eventLogger.fireTheEventStarting(message));
+        List<EventLogger> loggers = initEventLoggersIfNecessary();
+        if (!loggers.isEmpty()) {
+            fire(loggers, eventLogger -> eventLogger.fireTheEventStarting(message));
+        }
     }
 
     public static void fireThrownException(Throwable throwable) {
-        initEventLoggersIfNecessary().forEach(eventLogger ->
-                eventLogger.fireThrownException(throwable));
+        List<EventLogger> loggers = initEventLoggersIfNecessary();
+        if (!loggers.isEmpty()) {
+            fire(loggers, eventLogger -> eventLogger.fireThrownException(throwable));
+        }
     }
 
+    /**
+     * Fires the value which is returned by a step. When events are fired asynchronously the value is converted
+     * to the string by the current thread. So a mutable value is logged as it was returned, and the background
+     * thread doesn't access an object which the current thread may use.
+     *
+     * @param returned value that should be fired.
+     */
     public static void fireReturnedValue(Object returned) {
-        initEventLoggersIfNecessary().forEach(eventLogger ->
-                eventLogger.fireReturnedValue(returned));
+        List<EventLogger> loggers = initEventLoggersIfNecessary();
+        if (!loggers.isEmpty()) {
+            Object toFire = returned == null || THREAD_LOCAL_DISPATCHER.get() == null ? returned
+                    : String.valueOf(returned);
+            fire(loggers, eventLogger -> eventLogger.fireReturnedValue(toFire));
+        }
     }
 
     public static void fireEventFinishing() {
-        initEventLoggersIfNecessary().forEach(EventLogger::fireEventFinishing);
+        List<EventLogger> loggers = initEventLoggersIfNecessary();
+        if (!loggers.isEmpty()) {
+            fire(loggers, EventLogger::fireEventFinishing);
+        }
+    }
+
+    /**
+     * Fires the finishing of some timed event.
+     *
+     * @param durationNanos is time of the event in nanoseconds.
+     */
+    public static void fireEventFinishing(long durationNanos) {
+        List<EventLogger> loggers = initEventLoggersIfNecessary();
+        if (!loggers.isEmpty()) {
+            fire(loggers, eventLogger -> eventLogger.fireEventFinishing(durationNanos));
+        }
+    }
+
+    /**
+     * Waits until all events fired by the current thread are fired to event loggers and captured data
+     * is processed. It makes sense when events are fired asynchronously
+     * (see {@link ru.tinkoff.qa.neptune.core.api.properties.AsyncEventFiringProperty}) and/or captured data is
+     * processed in background (see {@link CapturedDataProcessing}). It should be invoked at the end of each test,
+     * before a test report is built.
+     */
+    public static void flushEvents() {
+        ofNullable(THREAD_LOCAL_DISPATCHER.get()).ifPresent(EventDispatcher::flush);
+        waitForBackgroundProcessing();
     }
 }
@@ -0,0 +1,115 @@
+package ru.tinkoff.qa.neptune.core.api.event.firing.captors;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Content-addressed storage of captured data. Each unique content is written once. Injectors get a reference
+ * to already written content when the same data is captured again (e.g. identical screenshots taken by
+ * retried or polling steps).
+ */
+public final class AttachmentStore {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Map<String, CompletableFuture<String>> references = new ConcurrentHashMap<>();
+
+    /**
+     * Calculates SHA-256 digest of the content.
+     *
+     * @param content to calculate the digest.
+     * @return hex string of the digest.
+     */
+    public static String hashOf(byte[] content) {
+        checkNotNull(content, "Content should be defined");
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        char[] chars = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            chars[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[digest[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Stores the content once for each extension.
+     *
+     * @param content to be stored.
+     * @param extension of the content, e.g. {@code ".png"}. The same content with different extensions is
+     *                  stored separately.
+     * @param write writes the content which has not been stored yet. It takes the hex string of SHA-256 digest
+     *              of the content and returns a reference to the written content (e.g. a name of a file).
+     *              It is invoked once for each unique content and extension. Other threads which store the same
+     *              content wait until the writing is finished.
+     * @param isStored checks that the content is still available by the reference returned before. The content is
+     *                 written again when it is not, e.g. when the directory of results is cleaned between runs.
+     * @return reference to the written content.
+     */
+    public String store(byte[] content, String extension, Function<String, String> write,
+                        Predicate<String> isStored) {
+        checkArgument(write != null, "Writing of the content should be defined");
+        checkArgument(isStored != null, "Checking of the written content should be defined");
+        String hash = hashOf(content);
+        String key = hash + ofNullable(extension).orElse("");
+
+        while (true) {
+            CompletableFuture<String> writing = new CompletableFuture<>();
+            CompletableFuture<String> written = references.putIfAbsent(key, writing);
+            if (written == null) {
+                return write(key, hash, writing, write);
+            }
+
+            String reference;
+            try {
+                reference = written.join();
+            }
+            catch (CompletionException | CancellationException e) {
+                //the writing has failed. The content is written by the current thread
+                continue;
+            }
+
+            if (isStored.test(reference)) {
+                return reference;
+            }
+            references.remove(key, written);
+        }
+    }
+
+    private String write(String key, String hash, CompletableFuture<String> writing, Function<String, String> write) {
+        try {
+            String reference = write.apply(hash);
+            checkNotNull(reference, "Reference to the written content should not be null");
+            writing.complete(reference);
+            return reference;
+        }
+        catch (Throwable t) {
+            references.remove(key, writing);
+            writing.completeExceptionally(t);
+            throw t;
+        }
+    }
+
+    /**
+     * @return count of unique contents and extensions which have been stored.
+     */
+    public int size() {
+        return references.size();
+    }
+}
@@ -0,0 +1,27 @@
+package ru.tinkoff.qa.neptune.core.api.event.firing.captors;
+
+import ru.tinkoff.qa.neptune.core.api.event.firing.Captor;
+
+import java.util.List;
+
+import static ru.tinkoff.qa.neptune.core.api.utils.SPIUtil.loadSPI;
+
+/**
+ * Captor of raw content. It is preferable to {@link ImageCaptor} when some object produces already encoded
+ * data (e.g. PNG screenshots). Data is passed to injectors without any decoding or temporary files.
+ *
+ * @param <T> is a type of an object to be caught.
+ */
+public abstract class BytesCaptor<T> extends Captor<T, CapturedBytes> {
+
+    public BytesCaptor(List<CapturedBytesInjector> injectors) {
+        super(injectors);
+    }
+
+    public BytesCaptor() {
+        this(loadSPI(CapturedBytesInjector.class));
+    }
+
+    @Override
+    protected abstract CapturedBytes getData(T caught);
+}
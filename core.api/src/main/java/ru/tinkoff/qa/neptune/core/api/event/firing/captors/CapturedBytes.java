@@ -0,0 +1,42 @@
+package ru.tinkoff.qa.neptune.core.api.event.firing.captors;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Raw content which is captured for the logging/reporting (e.g. PNG bytes of a screenshot) with its MIME type.
+ * The content is not decoded and it is injected as it is.
+ */
+public final class CapturedBytes {
+
+    private final byte[] bytes;
+    private final String mimeType;
+    private final String fileExtension;
+
+    /**
+     * Creates captured content.
+     *
+     * @param bytes is the raw content. The array is not copied and it should not be changed after that.
+     * @param mimeType is the MIME type of the content, e.g. {@code "image/png"}.
+     * @param fileExtension is the extension of a file to store the content, e.g. {@code "png"}.
+     */
+    public CapturedBytes(byte[] bytes, String mimeType, String fileExtension) {
+        checkArgument(bytes != null, "Captured bytes should be defined");
+        checkArgument(!isBlank(mimeType), "MIME type should not be empty");
+        this.bytes = bytes;
+        this.mimeType = mimeType;
+        this.fileExtension = fileExtension;
+    }
+
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
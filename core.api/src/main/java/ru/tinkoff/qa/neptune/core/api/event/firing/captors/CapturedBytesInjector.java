@@ -0,0 +1,6 @@
+package ru.tinkoff.qa.neptune.core.api.event.firing.captors;
+
+import ru.tinkoff.qa.neptune.core.api.event.firing.CapturedDataInjector;
+
+public interface CapturedBytesInjector extends CapturedDataInjector<CapturedBytes> {
+}
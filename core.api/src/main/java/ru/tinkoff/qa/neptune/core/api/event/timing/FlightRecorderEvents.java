@@ -0,0 +1,107 @@
+package ru.tinkoff.qa.neptune.core.api.event.timing;
+
+import java.util.function.Supplier;
+
+import static ru.tinkoff.qa.neptune.core.api.event.timing.TimedEvent.NO_EVENT;
+
+/**
+ * Creates events of Java Flight Recorder. Events are emitted by steps, waitings, parallel checks of conditions
+ * and commands of web drivers.
+ * They contain descriptions and outcomes. Threads and durations are recorded by Java Flight Recorder itself.
+ * Events belong to the category {@code "Neptune"} and they are recorded when they are enabled by settings
+ * of a recording.
+ * <p>
+ *     Events are not emitted when the module {@code jdk.jfr} is absent (e.g. by OpenJDK 9 and 10).
+ * </p>
+ */
+public final class FlightRecorderEvents {
+
+    private static final boolean IS_JFR_PRESENT = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private static final JfrEventType STEP = eventType("ru.tinkoff.qa.neptune.Step", "Step",
+            "Invocation of a step", new String[]{"description"}, new Class<?>[]{String.class});
+    private static final JfrEventType WAITING = eventType("ru.tinkoff.qa.neptune.Waiting", "Waiting",
+            "Waiting for a suitable value", new String[]{"description"}, new Class<?>[]{String.class});
+    private static final JfrEventType POLLING_ATTEMPT = eventType("ru.tinkoff.qa.neptune.PollingAttempt",
+            "Polling Attempt", "Attempt to get a suitable value during a waiting",
+            new String[]{"description", "attempt"}, new Class<?>[]{String.class, int.class});
+    private static final JfrEventType DRIVER_COMMAND = eventType("ru.tinkoff.qa.neptune.DriverCommand",
+            "Driver Command", "Invocation of a method of a web driver",
+            new String[]{"command"}, new Class<?>[]{String.class});
+    private static final JfrEventType CONDITION_CHECK = eventType("ru.tinkoff.qa.neptune.ConditionCheck",
+            "Condition Check", "Check of an item which is performed in parallel with checks of other items",
+            new String[]{"condition"}, new Class<?>[]{String.class});
+
+    private FlightRecorderEvents() {
+        super();
+    }
+
+    private static JfrEventType eventType(String name, String label, String description,
+                                          String[] fieldNames, Class<?>[] fieldTypes) {
+        if (!IS_JFR_PRESENT) {
+            return null;
+        }
+
+        try {
+            return new JfrEventType(name, label, description, fieldNames, fieldTypes);
+        } catch (IllegalStateException | LinkageError e) {
+            return null;
+        }
+    }
+
+    //arguments are not wrapped into arrays when events are not recorded
+    private static boolean isRecorded(JfrEventType type) {
+        return type != null && type.isEnabled();
+    }
+
+    /**
+     * Starts the event of a step.
+     *
+     * @param description of the step.
+     * @return started event.
+     */
+    public static TimedEvent stepEvent(String description) {
+        return isRecorded(STEP) ? STEP.start(description) : NO_EVENT;
+    }
+
+    /**
+     * Starts the event of a waiting for some suitable value.
+     *
+     * @param description of the value to get.
+     * @return started event.
+     */
+    public static TimedEvent waitingEvent(String description) {
+        return isRecorded(WAITING) ? WAITING.start(description) : NO_EVENT;
+    }
+
+    /**
+     * Starts the event of an attempt to get some suitable value during a waiting.
+     *
+     * @param description of the value to get.
+     * @param attempt is a number of the attempt. Attempts are numbered starting with 1.
+     * @return started event.
+     */
+    public static TimedEvent pollingAttemptEvent(String description, int attempt) {
+        return isRecorded(POLLING_ATTEMPT) ? POLLING_ATTEMPT.start(description, attempt) : NO_EVENT;
+    }
+
+    /**
+     * Starts the event of a command of a web driver.
+     *
+     * @param command is a name of the invoked method.
+     * @return started event.
+     */
+    public static TimedEvent driverCommandEvent(String command) {
+        return isRecorded(DRIVER_COMMAND) ? DRIVER_COMMAND.start(command) : NO_EVENT;
+    }
+
+    /**
+     * Starts the event of a check of an item which is performed in parallel with checks of other items.
+     *
+     * @param condition supplies a description of the condition. It is invoked only when the event is recorded.
+     * @return started event.
+     */
+    public static TimedEvent conditionCheckEvent(Supplier<String> condition) {
+        return isRecorded(CONDITION_CHECK) ? CONDITION_CHECK.start(condition.get()) : NO_EVENT;
+    }
+}
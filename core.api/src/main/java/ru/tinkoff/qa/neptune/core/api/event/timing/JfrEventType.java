@@ -0,0 +1,141 @@
+package ru.tinkoff.qa.neptune.core.api.event.timing;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.invoke.MethodHandles.publicLookup;
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.List.of;
+import static org.apache.commons.lang3.StringUtils.capitalize;
+
+/**
+ * Type of events of Java Flight Recorder which is defined at runtime by {@code jdk.jfr.EventFactory}.
+ * The API of {@code jdk.jfr} is used via method handles, so this class is compiled without the module
+ * {@code jdk.jfr}. It may be instantiated only when the module is present. Each event has the field
+ * {@code "outcome"} after the fields which are defined by the constructor.
+ */
+final class JfrEventType {
+
+    private static final MethodHandle CREATE_FACTORY;
+    private static final MethodHandle NEW_EVENT;
+    private static final MethodHandle GET_EVENT_TYPE;
+    private static final MethodHandle IS_ENABLED;
+    private static final MethodHandle BEGIN;
+    private static final MethodHandle SET;
+    private static final MethodHandle COMMIT;
+    private static final MethodHandle NEW_ANNOTATION;
+    private static final MethodHandle NEW_VALUE_DESCRIPTOR;
+    private static final Class<?> ANNOTATION_ELEMENT;
+
+    static {
+        try {
+            Class<?> eventFactory = Class.forName("jdk.jfr.EventFactory");
+            Class<?> event = Class.forName("jdk.jfr.Event");
+            Class<?> eventType = Class.forName("jdk.jfr.EventType");
+            Class<?> valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor");
+            ANNOTATION_ELEMENT = Class.forName("jdk.jfr.AnnotationElement");
+
+            CREATE_FACTORY = publicLookup().findStatic(eventFactory, "create",
+                    methodType(eventFactory, List.class, List.class));
+            NEW_EVENT = publicLookup().findVirtual(eventFactory, "newEvent", methodType(event));
+            GET_EVENT_TYPE = publicLookup().findVirtual(eventFactory, "getEventType", methodType(eventType));
+            IS_ENABLED = publicLookup().findVirtual(eventType, "isEnabled", methodType(boolean.class));
+            BEGIN = publicLookup().findVirtual(event, "begin", methodType(void.class));
+            SET = publicLookup().findVirtual(event, "set", methodType(void.class, int.class, Object.class));
+            COMMIT = publicLookup().findVirtual(event, "commit", methodType(void.class));
+            NEW_ANNOTATION = publicLookup().findConstructor(ANNOTATION_ELEMENT,
+                    methodType(void.class, Class.class, Object.class));
+            NEW_VALUE_DESCRIPTOR = publicLookup().findConstructor(valueDescriptor,
+                    methodType(void.class, Class.class, String.class, List.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final Object factory;
+    private final Object eventType;
+    private final int outcomeIndex;
+
+    /**
+     * Defines the type of events.
+     *
+     * @param name is a unique name of the type.
+     * @param label is a human-readable name of the type.
+     * @param description of the type.
+     * @param fieldNames are names of fields of events.
+     * @param fieldTypes are types of fields of events.
+     */
+    JfrEventType(String name, String label, String description, String[] fieldNames, Class<?>[] fieldTypes) {
+        try {
+            List<Object> annotations = of(annotation("jdk.jfr.Name", name),
+                    annotation("jdk.jfr.Label", label),
+                    annotation("jdk.jfr.Description", description),
+                    annotation("jdk.jfr.Category", new String[]{"Neptune"}),
+                    annotation("jdk.jfr.StackTrace", false));
+
+            List<Object> fields = new ArrayList<>();
+            for (int i = 0; i < fieldNames.length; i++) {
+                fields.add(field(fieldTypes[i], fieldNames[i]));
+            }
+            fields.add(field(String.class, "outcome"));
+
+            factory = CREATE_FACTORY.invoke(annotations, fields);
+            eventType = GET_EVENT_TYPE.invoke(factory);
+            outcomeIndex = fieldNames.length;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object annotation(String annotationClass, Object value) throws Throwable {
+        Class<? extends Annotation> annotation = (Class<? extends Annotation>) Class.forName(annotationClass);
+        return NEW_ANNOTATION.invoke(annotation, value);
+    }
+
+    private static Object field(Class<?> type, String name) throws Throwable {
+        Object labels = Array.newInstance(ANNOTATION_ELEMENT, 1);
+        Array.set(labels, 0, annotation("jdk.jfr.Label", capitalize(name)));
+        return NEW_VALUE_DESCRIPTOR.invoke(type, name, of((Object[]) labels));
+    }
+
+    /**
+     * @return {@code true} when events of this type are enabled by some recording.
+     */
+    boolean isEnabled() {
+        try {
+            return (boolean) IS_ENABLED.invoke(eventType);
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * Starts the event.
+     *
+     * @param values of fields of the event in the order they were defined.
+     * @return started event.
+     */
+    TimedEvent start(Object... values) {
+        try {
+            Object event = NEW_EVENT.invoke(factory);
+            for (int i = 0; i < values.length; i++) {
+                SET.invoke(event, i, values[i]);
+            }
+            BEGIN.invoke(event);
+            return outcome -> {
+                try {
+                    SET.invoke(event, outcomeIndex, outcome);
+                    COMMIT.invoke(event);
+                } catch (Throwable t) {
+                    throw new IllegalStateException(t);
+                }
+            };
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package ru.tinkoff.qa.neptune.core.api.event.timing;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Histogram of latencies which are measured in nanoseconds. Its memory is bounded and doesn't depend on
+ * count of recorded values. Values are counted by buckets which have logarithmic bounds (like
+ * <a href="http://hdrhistogram.org">HdrHistogram</a> does). Relative error of returned percentiles is less
+ * than 1/32. Values which are greater than {@link #HIGHEST_TRACKABLE_VALUE} are counted as equal to this value.
+ * <p>
+ *     Values may be recorded by many threads simultaneously.
+ * </p>
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Nearly 4.9 hours in nanoseconds.
+     */
+    public static final long HIGHEST_TRACKABLE_VALUE = (1L << 44) - 1;
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = indexOf(HIGHEST_TRACKABLE_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    private static int bitLength(long value) {
+        return 64 - numberOfLeadingZeros(value);
+    }
+
+    private static int indexOf(long value) {
+        //values less than 2 * SUB_BUCKET_COUNT are counted exactly. Greater values lose some of lower bits
+        int shift = max(0, bitLength(value) - SUB_BUCKET_BITS - 1);
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lowest = (long) (index - (shift << SUB_BUCKET_BITS)) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * Records some measured value.
+     *
+     * @param nanos is measured latency in nanoseconds. Negative values are counted as 0.
+     */
+    public void record(long nanos) {
+        long value = min(max(nanos, 0), HIGHEST_TRACKABLE_VALUE);
+        counts.incrementAndGet(indexOf(value));
+        total.add(value);
+        maxValue.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * @return count of recorded values.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * @return sum of recorded values in nanoseconds.
+     */
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * @return the greatest recorded value in nanoseconds.
+     */
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * Returns the value which is greater than or equal to the given percentage of recorded values.
+     *
+     * @param percentile is a percentage of recorded values. It should be greater than 0 and less than or equal
+     *                   to 100.
+     * @return the value in nanoseconds. It is the highest value of a bucket, but it is not greater than
+     * {@link #getMax()}. {@code 0} is returned when there are no recorded values.
+     */
+    public long getValueAtPercentile(double percentile) {
+        checkArgument(percentile > 0 && percentile <= 100, "Percentile should be in the range (0, 100]");
+        long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = max(1, (long) Math.ceil(percentile / 100 * count));
+        long counted = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counted += snapshot[i];
+            if (counted >= rank) {
+                return min(highestValueOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+}
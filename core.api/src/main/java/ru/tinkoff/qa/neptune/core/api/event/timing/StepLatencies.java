@@ -0,0 +1,119 @@
+package ru.tinkoff.qa.neptune.core.api.event.timing;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparingLong;
+import static java.util.Locale.US;
+import static ru.tinkoff.qa.neptune.core.api.properties.StepLatencyReportProperty.STEP_LATENCY_REPORT_PROPERTY;
+
+/**
+ * Collects latencies of steps during the run. Latencies are grouped by descriptions of steps and they are
+ * counted by {@link LatencyHistogram}. Latencies are collected when the property
+ * {@code "step.latency.report"} is defined (see {@link ru.tinkoff.qa.neptune.core.api.properties.StepLatencyReportProperty}).
+ * The property is read once.
+ * <p>
+ *     Count of histograms is limited by {@link #MAX_DESCRIPTIONS}. Latencies of steps which have other descriptions
+ *     are counted by the histogram {@link #OTHER_STEPS}.
+ * </p>
+ */
+public final class StepLatencies {
+
+    public static final int MAX_DESCRIPTIONS = 1000;
+    public static final String OTHER_STEPS = "<other steps>";
+
+    private static final Path REPORT = STEP_LATENCY_REPORT_PROPERTY.get();
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static final LatencyHistogram OTHER_STEPS_HISTOGRAM = new LatencyHistogram();
+
+    private StepLatencies() {
+        super();
+    }
+
+    /**
+     * @return {@code true} when latencies of steps are collected. {@code false} is returned otherwise.
+     */
+    public static boolean isCollecting() {
+        return REPORT != null;
+    }
+
+    /**
+     * Records the latency of a step.
+     *
+     * @param description of the step.
+     * @param nanos is the latency of the step in nanoseconds.
+     */
+    public static void record(String description, long nanos) {
+        LatencyHistogram histogram = HISTOGRAMS.get(description);
+        if (histogram == null) {
+            //the limit may be exceeded slightly when new descriptions come simultaneously
+            histogram = HISTOGRAMS.size() < MAX_DESCRIPTIONS ?
+                    HISTOGRAMS.computeIfAbsent(description, s -> new LatencyHistogram()) : OTHER_STEPS_HISTOGRAM;
+        }
+        histogram.record(nanos);
+    }
+
+    private static String toMillis(long nanos) {
+        return format(US, "%.3f", nanos / 1_000_000D);
+    }
+
+    private static String line(String description, LatencyHistogram histogram) {
+        return String.join("\t", String.valueOf(histogram.getCount()),
+                toMillis(histogram.getTotal()),
+                toMillis(histogram.getValueAtPercentile(50)),
+                toMillis(histogram.getValueAtPercentile(95)),
+                toMillis(histogram.getValueAtPercentile(99)),
+                toMillis(histogram.getMax()),
+                description.replaceAll("\\s+", " "));
+    }
+
+    /**
+     * Builds the summary of collected latencies. It is a tab-separated table. Each row contains count of
+     * invocations of a step, total time, p50, p95, p99 and max latencies in milliseconds and the description
+     * of the step. Steps which took more time in total go first.
+     *
+     * @return lines of the summary.
+     */
+    public static List<String> getSummary() {
+        List<Map.Entry<String, LatencyHistogram>> entries = new ArrayList<>(HISTOGRAMS.entrySet());
+        if (OTHER_STEPS_HISTOGRAM.getCount() > 0) {
+            entries.add(Map.entry(OTHER_STEPS, OTHER_STEPS_HISTOGRAM));
+        }
+        entries.sort(comparingLong((Map.Entry<String, LatencyHistogram> e) -> e.getValue().getTotal()).reversed());
+
+        List<String> result = new ArrayList<>();
+        result.add(String.join("\t", "count", "total, ms", "p50, ms", "p95, ms", "p99, ms", "max, ms",
+                "description"));
+        entries.forEach(e -> result.add(line(e.getKey(), e.getValue())));
+        return result;
+    }
+
+    /**
+     * Writes the summary of collected latencies (see {@link #getSummary()}) to the file which is defined by
+     * the property {@code "step.latency.report"}. It does nothing when latencies are not collected.
+     * It is supposed to be invoked when a suite is finished. The file is rewritten each time.
+     */
+    public static void writeSummary() {
+        if (!isCollecting()) {
+            return;
+        }
+
+        try {
+            Path parent = REPORT.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(REPORT, getSummary(), UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
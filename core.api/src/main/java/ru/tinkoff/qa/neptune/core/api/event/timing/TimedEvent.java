@@ -0,0 +1,29 @@
+package ru.tinkoff.qa.neptune.core.api.event.timing;
+
+/**
+ * Some activity (a step, a waiting etc.) which is timed by Java Flight Recorder. The event is started
+ * when it is created.
+ *
+ * @see FlightRecorderEvents
+ */
+public interface TimedEvent {
+
+    /**
+     * This event does nothing. It is returned when Java Flight Recorder is not available or it doesn't record
+     * events of this kind.
+     */
+    TimedEvent NO_EVENT = outcome -> {};
+
+    String SUCCEEDED = "succeeded";
+    String FAILED = "failed";
+    String IGNORED_FAILURE = "ignored failure";
+    String TIMED_OUT = "timed out";
+    String NOT_SUITABLE = "not suitable";
+
+    /**
+     * Finishes the event and records it.
+     *
+     * @param outcome is the result of the activity.
+     */
+    void finish(String outcome);
+}
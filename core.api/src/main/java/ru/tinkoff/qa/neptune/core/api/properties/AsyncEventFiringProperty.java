@@ -0,0 +1,44 @@
+package ru.tinkoff.qa.neptune.core.api.properties;
+
+/**
+ * This class is designed to read the property {@code "async.event.firing"}. It defines the way
+ * {@link ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring} fires events to event loggers.
+ */
+public final class AsyncEventFiringProperty implements PropertySupplier<Boolean> {
+
+    private static final String PROPERTY_NAME = "async.event.firing";
+    public static final AsyncEventFiringProperty ASYNC_EVENT_FIRING_PROPERTY = new AsyncEventFiringProperty();
+
+    private AsyncEventFiringProperty() {
+        super();
+    }
+
+    @Override
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * This method reads the property {@code 'async.event.firing'}. When it has value {@code true} then events
+     * fired by a thread are put into the queue of this thread. Events are fired to event loggers by a background
+     * thread in the same order. The property is read once by each thread which fires events.
+     * <p>
+     *     Values returned by steps are converted to strings by the firing thread before they are queued, so
+     *     event loggers get strings instead of returned objects.
+     * </p>
+     * <p>
+     *     The asynchronous firing doesn't make steps faster by itself. Each event is handed off to another thread,
+     *     and this costs more than the firing of an event to a logger which writes to memory. On a single CPU
+     *     the asynchronous firing of steps logged by the Allure event logger was about 20% slower. It makes sense
+     *     to turn it on when there are spare CPUs and event loggers block on I/O, e.g. send events to a remote
+     *     service.
+     * </p>
+     *
+     * @return value of the property. {@code false} is returned when the property is not defined.
+     */
+    @Override
+    public Boolean get() {
+        return returnOptionalFromEnvironment()
+                .map(Boolean::parseBoolean).orElse(false);
+    }
+}
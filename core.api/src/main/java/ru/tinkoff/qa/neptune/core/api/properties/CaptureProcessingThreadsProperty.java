@@ -0,0 +1,48 @@
+package ru.tinkoff.qa.neptune.core.api.properties;
+
+import static java.lang.String.format;
+
+/**
+ * This class is designed to read the property {@code "capture.processing.threads"}. It defines count of
+ * background threads which process captured data (conversion, encoding, writing of attachments).
+ */
+public final class CaptureProcessingThreadsProperty implements PropertySupplier<Integer> {
+
+    private static final String PROPERTY_NAME = "capture.processing.threads";
+    public static final CaptureProcessingThreadsProperty CAPTURE_PROCESSING_THREADS_PROPERTY =
+            new CaptureProcessingThreadsProperty();
+
+    private CaptureProcessingThreadsProperty() {
+        super();
+    }
+
+    @Override
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * This method reads the property {@code 'capture.processing.threads'}.
+     *
+     * @return count of background threads which process captured data. {@code null} is returned when the property
+     * is not defined. It means that captured data is processed by the thread which has captured it.
+     */
+    @Override
+    public Integer get() {
+        return returnOptionalFromEnvironment().map(s -> {
+            int threads;
+            try {
+                threads = Integer.parseInt(s.trim());
+            }
+            catch (NumberFormatException e) {
+                throw new IllegalArgumentException(format("Property: %s. Count of threads should be an integer " +
+                        "value. %s was defined", PROPERTY_NAME, s));
+            }
+            if (threads < 1) {
+                throw new IllegalArgumentException(format("Property: %s. Count of threads should be greater " +
+                        "than 0. %s was defined", PROPERTY_NAME, s));
+            }
+            return threads;
+        }).orElse(null);
+    }
+}
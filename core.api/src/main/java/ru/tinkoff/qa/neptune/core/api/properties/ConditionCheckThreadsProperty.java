@@ -0,0 +1,50 @@
+package ru.tinkoff.qa.neptune.core.api.properties;
+
+import static java.lang.String.format;
+
+/**
+ * This class is designed to read the property {@code "condition.check.threads"}. It defines count of
+ * threads which check items of iterables and arrays in parallel.
+ */
+public final class ConditionCheckThreadsProperty implements PropertySupplier<Integer> {
+
+    private static final String PROPERTY_NAME = "condition.check.threads";
+    private static final int DEFAULT_THREADS = 8;
+    public static final ConditionCheckThreadsProperty CONDITION_CHECK_THREADS_PROPERTY =
+            new ConditionCheckThreadsProperty();
+
+    private ConditionCheckThreadsProperty() {
+        super();
+    }
+
+    @Override
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * This method reads the property {@code 'condition.check.threads'}.
+     *
+     * @return count of threads which check conditions in parallel. Checks are usually blocked by I/O
+     * (e.g. by requests to a browser), so the count doesn't depend on count of processors.
+     * {@code 8} is returned when the property is not defined.
+     */
+    @Override
+    public Integer get() {
+        return returnOptionalFromEnvironment().map(s -> {
+            int threads;
+            try {
+                threads = Integer.parseInt(s.trim());
+            }
+            catch (NumberFormatException e) {
+                throw new IllegalArgumentException(format("Property: %s. Count of threads should be an integer " +
+                        "value. %s was defined", PROPERTY_NAME, s));
+            }
+            if (threads < 1) {
+                throw new IllegalArgumentException(format("Property: %s. Count of threads should be greater " +
+                        "than 0. %s was defined", PROPERTY_NAME, s));
+            }
+            return threads;
+        }).orElse(DEFAULT_THREADS);
+    }
+}
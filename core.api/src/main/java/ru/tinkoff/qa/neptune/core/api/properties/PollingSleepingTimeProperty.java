@@ -0,0 +1,52 @@
+package ru.tinkoff.qa.neptune.core.api.properties;
+
+import java.time.Duration;
+
+import static java.lang.String.format;
+import static java.time.Duration.ofMillis;
+
+/**
+ * This class is designed to read the property {@code "polling.sleeping.time"}. It defines the base duration
+ * of the sleeping between attempts to get some valuable result in milliseconds.
+ *
+ * @see PollingStrategyProperty
+ */
+public final class PollingSleepingTimeProperty implements PropertySupplier<Duration> {
+
+    private static final String PROPERTY_NAME = "polling.sleeping.time";
+    private static final Duration DEFAULT_SLEEPING_TIME = ofMillis(50);
+    public static final PollingSleepingTimeProperty POLLING_SLEEPING_TIME_PROPERTY = new PollingSleepingTimeProperty();
+
+    private PollingSleepingTimeProperty() {
+        super();
+    }
+
+    @Override
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * This method reads the property {@code 'polling.sleeping.time'}.
+     *
+     * @return read duration. 50 milliseconds are returned when the property is not defined.
+     */
+    @Override
+    public Duration get() {
+        return returnOptionalFromEnvironment().map(s -> {
+            long millis;
+            try {
+                millis = Long.parseLong(s.trim());
+            }
+            catch (NumberFormatException e) {
+                throw new IllegalArgumentException(format("Property: %s. Time of the sleeping should be " +
+                        "defined in milliseconds. %s was defined", PROPERTY_NAME, s));
+            }
+            if (millis < 0) {
+                throw new IllegalArgumentException(format("Property: %s. Time of the sleeping should not be " +
+                        "negative. %s was defined", PROPERTY_NAME, s));
+            }
+            return ofMillis(millis);
+        }).orElse(DEFAULT_SLEEPING_TIME);
+    }
+}
@@ -0,0 +1,115 @@
+package ru.tinkoff.qa.neptune.core.api.properties;
+
+import ru.tinkoff.qa.neptune.core.api.conditions.PollingStrategy;
+
+import java.time.Duration;
+
+import static java.lang.String.format;
+import static java.time.Duration.ofMillis;
+import static java.util.Arrays.stream;
+import static ru.tinkoff.qa.neptune.core.api.conditions.PollingStrategy.exponential;
+import static ru.tinkoff.qa.neptune.core.api.conditions.PollingStrategy.fixed;
+import static ru.tinkoff.qa.neptune.core.api.properties.PollingSleepingTimeProperty.POLLING_SLEEPING_TIME_PROPERTY;
+
+/**
+ * This class is designed to read the property {@code "polling.strategy"}. It defines the strategy of
+ * the waiting for some valuable result which is used when a function is created without any
+ * sleeping time or strategy.
+ *
+ * @see PollingStrategies
+ * @see PollingSleepingTimeProperty
+ */
+public final class PollingStrategyProperty implements PropertySupplier<PollingStrategy> {
+
+    private static final String PROPERTY_NAME = "polling.strategy";
+    public static final PollingStrategyProperty POLLING_STRATEGY_PROPERTY = new PollingStrategyProperty();
+
+    private PollingStrategyProperty() {
+        super();
+    }
+
+    @Override
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * This method reads the property {@code 'polling.strategy'}. Its value is a name of some item
+     * of {@link PollingStrategies}. The strategy is created with the value of the property
+     * {@code 'polling.sleeping.time'}.
+     *
+     * @return created strategy. The strategy {@link PollingStrategies#FIXED} is returned when the property is not
+     * defined.
+     */
+    @Override
+    public PollingStrategy get() {
+        PollingStrategies strategy = returnOptionalFromEnvironment()
+                .map(s -> stream(PollingStrategies.values())
+                        .filter(p -> p.name().equalsIgnoreCase(s.trim()))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException(format("Property: %s. Unidentified " +
+                                "strategy %s. Please take a look at elements of %s", PROPERTY_NAME, s,
+                                PollingStrategies.class.getName()))))
+                .orElse(PollingStrategies.FIXED);
+        return strategy.create(POLLING_SLEEPING_TIME_PROPERTY.get());
+    }
+
+    public enum PollingStrategies {
+        /**
+         * The same sleeping after each failed attempt.
+         *
+         * @see PollingStrategy#fixed(Duration)
+         */
+        FIXED {
+            @Override
+            PollingStrategy create(Duration sleeping) {
+                return fixed(sleeping);
+            }
+        },
+
+        /**
+         * The sleeping starts with 1/10 of the defined time and it is doubled after each failed attempt.
+         * It is never longer than 10 defined times.
+         *
+         * @see PollingStrategy#exponential(Duration, Duration)
+         */
+        EXPONENTIAL {
+            @Override
+            PollingStrategy create(Duration sleeping) {
+                Duration initial = sleeping.dividedBy(10);
+                if (initial.compareTo(ofMillis(1)) < 0) {
+                    initial = ofMillis(1);
+                }
+                Duration max = sleeping.multipliedBy(10);
+                return exponential(initial, max.compareTo(initial) < 0 ? initial : max);
+            }
+        },
+
+        /**
+         * The sleeping after each failed attempt is shortened by a random part which is up to a half
+         * of the defined time.
+         *
+         * @see PollingStrategy#withJitter(double)
+         */
+        JITTERED {
+            @Override
+            PollingStrategy create(Duration sleeping) {
+                return fixed(sleeping).withJitter(0.5);
+            }
+        },
+
+        /**
+         * Three attempts are made without sleeping. Then the same sleeping follows each failed attempt.
+         *
+         * @see PollingStrategy#afterImmediateAttempts(int)
+         */
+        IMMEDIATE_FIRST {
+            @Override
+            PollingStrategy create(Duration sleeping) {
+                return fixed(sleeping).afterImmediateAttempts(3);
+            }
+        };
+
+        abstract PollingStrategy create(Duration sleeping);
+    }
+}
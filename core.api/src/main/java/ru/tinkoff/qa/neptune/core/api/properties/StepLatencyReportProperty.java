@@ -0,0 +1,39 @@
+package ru.tinkoff.qa.neptune.core.api.properties;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * This class is designed to read the property {@code "step.latency.report"}. It defines the file where
+ * the summary of latencies of steps is written to.
+ *
+ * @see ru.tinkoff.qa.neptune.core.api.event.timing.StepLatencies
+ */
+public final class StepLatencyReportProperty implements PropertySupplier<Path> {
+
+    private static final String PROPERTY_NAME = "step.latency.report";
+    public static final StepLatencyReportProperty STEP_LATENCY_REPORT_PROPERTY = new StepLatencyReportProperty();
+
+    private StepLatencyReportProperty() {
+        super();
+    }
+
+    @Override
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * This method reads the property {@code 'step.latency.report'}. Latencies of steps are collected only
+     * when the property is defined.
+     *
+     * @return path to the file of the summary. {@code null} is returned when the property is not defined.
+     */
+    @Override
+    public Path get() {
+        return returnOptionalFromEnvironment()
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(Paths::get).orElse(null);
+    }
+}
@@ -0,0 +1,69 @@
+package ru.tinkoff.qa.neptune.core.api.properties;
+
+import static java.lang.String.format;
+import static java.util.Optional.ofNullable;
+
+/**
+ * This class is designed to read the property {@code "step.pool.capacity"} and properties
+ * {@code "step.pool.capacity.<full name of a class>"}. They define max count of objects of
+ * a class which implements {@link ru.tinkoff.qa.neptune.core.api.GetStep} and/or
+ * {@link ru.tinkoff.qa.neptune.core.api.PerformActionStep} that may exist simultaneously.
+ */
+public final class StepPoolCapacityProperty implements PropertySupplier<Integer> {
+
+    private static final String STEP_POOL_CAPACITY = "step.pool.capacity";
+    public static final StepPoolCapacityProperty STEP_POOL_CAPACITY_PROPERTY =
+            new StepPoolCapacityProperty(STEP_POOL_CAPACITY);
+
+    private final String propertyName;
+
+    private StepPoolCapacityProperty(String propertyName) {
+        this.propertyName = propertyName;
+    }
+
+    /**
+     * Creates a property supplier which reads the property {@code "step.pool.capacity.<full name of a class>"}.
+     *
+     * @param clazz is a class of step objects.
+     * @return an instance of {@link StepPoolCapacityProperty}.
+     */
+    public static StepPoolCapacityProperty stepPoolCapacityOf(Class<?> clazz) {
+        return new StepPoolCapacityProperty(format("%s.%s", STEP_POOL_CAPACITY, clazz.getName()));
+    }
+
+    /**
+     * Returns max count of objects of the given class that may exist simultaneously.
+     *
+     * @param clazz is a class of step objects.
+     * @return value of the property {@code "step.pool.capacity.<full name of a class>"} when it is defined.
+     * Value of the property {@code "step.pool.capacity"} is returned otherwise. {@code null} is returned when
+     * nothing is defined. It means that count of objects is not limited.
+     */
+    public static Integer getStepPoolCapacity(Class<?> clazz) {
+        return ofNullable(stepPoolCapacityOf(clazz).get()).orElseGet(STEP_POOL_CAPACITY_PROPERTY);
+    }
+
+    @Override
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    @Override
+    public Integer get() {
+        return returnOptionalFromEnvironment().map(s -> {
+            int capacity;
+            try {
+                capacity = Integer.parseInt(s.trim());
+            }
+            catch (NumberFormatException e) {
+                throw new IllegalArgumentException(format("Property: %s. Capacity should be an integer " +
+                        "value. %s was defined", propertyName, s));
+            }
+            if (capacity < 1) {
+                throw new IllegalArgumentException(format("Property: %s. Capacity should be greater " +
+                        "than 0. %s was defined", propertyName, s));
+            }
+            return capacity;
+        }).orElse(null);
+    }
+}
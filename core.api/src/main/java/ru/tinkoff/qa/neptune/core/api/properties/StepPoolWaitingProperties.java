@@ -0,0 +1,98 @@
+package ru.tinkoff.qa.neptune.core.api.properties;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+import static java.time.Duration.of;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static java.util.Arrays.stream;
+import static ru.tinkoff.qa.neptune.core.api.properties.StepPoolWaitingProperties.TimeUnitProperties.STEP_POOL_WAITING_TIME_UNIT;
+import static ru.tinkoff.qa.neptune.core.api.properties.StepPoolWaitingProperties.TimeValueProperties.STEP_POOL_WAITING_TIME_VALUE;
+
+public enum StepPoolWaitingProperties implements Supplier<Duration> {
+    /**
+     * Returns duration of the waiting for some step object is released by another thread
+     * when max count of objects is reached. When {@code "step.pool.waiting.time.unit"} or
+     * {@code "step.pool.waiting.time"} are not defined then it returns 1 minute.
+     * Otherwise it returns defined duration value.
+     * @see StepPoolCapacityProperty
+     */
+    STEP_POOL_WAITING_DURATION(STEP_POOL_WAITING_TIME_UNIT, STEP_POOL_WAITING_TIME_VALUE);
+
+    private final TimeUnitProperties timeUnit;
+    private final TimeValueProperties timeValue;
+
+    StepPoolWaitingProperties(TimeUnitProperties timeUnit, TimeValueProperties timeValue) {
+        this.timeUnit = timeUnit;
+        this.timeValue = timeValue;
+    }
+
+    @Override
+    public Duration get() {
+        if (timeUnit.get() == null || timeValue.get() == null) {
+            return of(1, MINUTES);
+        }
+        return of(timeValue.get(), timeUnit.get());
+    }
+
+    public enum TimeUnitProperties implements PropertySupplier<ChronoUnit> {
+        /**
+         * Reads property {@code "step.pool.waiting.time.unit"}.
+         * Returns read value or {@code null} when nothing is defined
+         * @see ChronoUnit
+         */
+        STEP_POOL_WAITING_TIME_UNIT("step.pool.waiting.time.unit");
+
+        private final String propertyName;
+
+        TimeUnitProperties(String propertyName) {
+            this.propertyName = propertyName;
+        }
+
+        @Override
+        public String getPropertyName() {
+            return propertyName;
+        }
+
+        @Override
+        public ChronoUnit get() {
+            return returnOptionalFromEnvironment()
+                    .map(s -> stream(ChronoUnit.values())
+                            .filter(timeUnit -> s.trim().equalsIgnoreCase(timeUnit.name()))
+                            .findFirst()
+                            .orElseThrow(
+                                    () -> new IllegalArgumentException(format("Property: %s. Unidentified " +
+                                                    "time unit %s. Please take a look at " +
+                                                    "elements of %s", this.toString(), s,
+                                            ChronoUnit.class.getName())))).orElse(null);
+        }
+    }
+
+    public enum TimeValueProperties implements PropertySupplier<Long> {
+        /**
+         * Reads property {@code "step.pool.waiting.time"}.
+         * Returns read value or {@code null} if nothing is defined.
+         */
+        STEP_POOL_WAITING_TIME_VALUE("step.pool.waiting.time");
+
+        private final String propertyName;
+
+        TimeValueProperties(String propertyName) {
+            this.propertyName = propertyName;
+        }
+
+        @Override
+        public String getPropertyName() {
+            return propertyName;
+        }
+
+        @Override
+        public Long get() {
+            return returnOptionalFromEnvironment()
+                    .map(Long::parseLong)
+                    .orElse(null);
+        }
+    }
+}
@@ -8,17 +8,24 @@ import net.bytebuddy.implementation.bind.annotation.Origin;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
 import net.bytebuddy.implementation.bind.annotation.This;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static ru.tinkoff.qa.neptune.core.api.concurency.GroupingObjects.getGroupingObject;
 import static ru.tinkoff.qa.neptune.core.api.concurency.ObjectContainer.*;
+import static ru.tinkoff.qa.neptune.core.api.concurency.ObjectContainerPool.getPool;
 import static ru.tinkoff.qa.neptune.core.api.utils.ConstructorUtil.findSuitableConstructor;
 import static java.lang.Thread.currentThread;
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Arrays.stream;
 import static java.util.Optional.ofNullable;
 
 public class MethodInterceptor<T> {
@@ -39,8 +46,36 @@ public class MethodInterceptor<T> {
     }
 
     private ObjectContainer<T> getTarget() {
-        return ofNullable(getGroupingObject())
-                .map(o -> setObjectBusy(originalClass, o)).orElseGet(() -> setObjectBusy(originalClass));
+        //objects released by threads of another group are not taken. They are shut down with their group
+        Object groupingObject = getGroupingObject();
+        if (groupingObject != null) {
+            return setObjectBusy(originalClass, groupingObject);
+        }
+        return setObjectBusy(originalClass);
+    }
+
+    T createObject() {
+        Object[] params = constructorParameters.getParameterValues();
+        Constructor<T> c;
+
+        try {
+            c = findSuitableConstructor(classToInstantiate, params);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        c.setAccessible(true);
+
+        try {
+            return manipulationWithObjectToReturn.apply(c.newInstance(constructorParameters.getParameterValues()));
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        } catch (InvocationTargetException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private ObjectContainer<T> createTarget() {
+        return new ObjectContainer<>(createObject(), getGroupingObject(), currentThread());
     }
 
     @SuppressWarnings("unchecked")
@@ -55,21 +90,13 @@ public class MethodInterceptor<T> {
     @SuppressWarnings("unused")
     public Object intercept(@This Object obj, @Origin Method method, @AllArguments Object[] args) throws Throwable {
         T target;
+        MethodDispatch dispatch = MethodDispatch.of(method);
 
-        boolean toShutDown;
-
-        try {
-            toShutDown = Stoppable.class.getMethod(method.getName(), method.getParameterTypes()) != null;
-        }
-        catch (Exception e) {
-            toShutDown = false;
-        }
-
-        if (toShutDown) {
+        if (dispatch.toShutDown) {
             List<ObjectContainer<T>> containers = getAllInstancesToShutDown();
             try {
                 for (ObjectContainer<T> objectContainer: containers) {
-                    method.invoke(objectContainer.getWrappedObject(), args);
+                    dispatch.invoke(objectContainer.getWrappedObject(), args);
                 }
                 return null;
             }
@@ -80,50 +107,73 @@ public class MethodInterceptor<T> {
         }
 
         try {
-            target = ofNullable(threadLocal.get()).map(ObjectContainer::getWrappedObject).orElseGet(() ->
-                    ofNullable(getTarget()).map(tObjectContainer -> {
-                        threadLocal.set(tObjectContainer);
-                        return tObjectContainer.getWrappedObject();
-                    }).orElseGet(() -> {
-                        Object[] params = constructorParameters.getParameterValues();
-                        Constructor<T> c;
-
-                        try {
-                            c = findSuitableConstructor(classToInstantiate, params);
-                        } catch (Exception e) {
-                            throw new RuntimeException(e);
-                        }
-                        c.setAccessible(true);
-
-                        T t;
-                        try {
-                            t = manipulationWithObjectToReturn.apply(c.newInstance(constructorParameters.getParameterValues()));
-                            ObjectContainer<T> container = new ObjectContainer<>(t);
-                            ofNullable(getGroupingObject()).ifPresent(container::groupBy);
-                            threadLocal.set(container);
-                            container.setBusy(currentThread());
-                        } catch (InstantiationException | IllegalAccessException e) {
-                            throw new RuntimeException(e);
-                        } catch (InvocationTargetException e) {
-                            throw new RuntimeException(e.getCause());
-                        }
-                        return t;
-                    }));
+            ObjectContainer<T> previous = threadLocal.get();
+            if (previous != null && previous.isHeldBy(currentThread())) {
+                target = previous.getWrappedObject();
+            }
+            else {
+                //the previous container was released explicitly. It is taken again when it is still free
+                ObjectContainer<T> container = getPool(originalClass)
+                        .take(() -> ofNullable(previous).filter(c -> c.takeAgain(currentThread()))
+                                .orElseGet(this::getTarget), this::createTarget);
+                threadLocal.set(container);
+                target = container.getWrappedObject();
+            }
         } catch (RuntimeException e) {
             throw ofNullable(e.getCause()).orElse(e);
         }
 
-        method.setAccessible(true);
+        Object result = dispatch.invoke(target, args);
+        if (dispatch.mayReturnSelf && result != null && result.getClass().equals(originalClass)) {
+            return obj;
+        }
+        return result;
+    }
 
-        try {
-            return ofNullable(method.invoke(target, args)).map(o -> {
-                if (o.getClass().equals(originalClass)) {
-                    return obj;
-                }
-                return o;
-            }).orElse(null);
-        } catch (InvocationTargetException e) {
-            throw ofNullable(e.getCause()).orElse(e);
+    /**
+     * This is the way to invoke some intercepted method. It is resolved once for each method
+     * and it is shared by all interceptors.
+     */
+    private static final class MethodDispatch {
+
+        private static final ClassValue<Map<Method, MethodDispatch>> DISPATCH_TABLES = new ClassValue<>() {
+            @Override
+            protected Map<Method, MethodDispatch> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+        private static final MethodType INVOCATION_TYPE = methodType(Object.class, Object.class, Object[].class);
+
+        private final boolean toShutDown;
+        private final boolean mayReturnSelf;
+        private final MethodHandle handle;
+
+        private MethodDispatch(Method method) {
+            toShutDown = isStoppableMethod(method);
+            mayReturnSelf = !method.getReturnType().isPrimitive();
+            method.setAccessible(true);
+            try {
+                handle = lookup().unreflect(method).asFixedArity()
+                        .asSpreader(Object[].class, method.getParameterCount())
+                        .asType(INVOCATION_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private static MethodDispatch of(Method method) {
+            return DISPATCH_TABLES.get(method.getDeclaringClass()).computeIfAbsent(method, MethodDispatch::new);
+        }
+
+        private static boolean isStoppableMethod(Method method) {
+            return stream(Stoppable.class.getMethods())
+                    .anyMatch(m -> m.getName().equals(method.getName())
+                            && Arrays.equals(m.getParameterTypes(), method.getParameterTypes()));
+        }
+
+        private Object invoke(Object target, Object[] args) throws Throwable {
+            return (Object) handle.invokeExact(target, args);
         }
     }
 }
@@ -2,7 +2,6 @@ package ru.tinkoff.qa.neptune.core.api.proxy;
 
 import ru.tinkoff.qa.neptune.core.api.*;
 import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.loading.InjectionClassLoader;
 import org.objenesis.Objenesis;
@@ -10,21 +9,42 @@ import org.objenesis.ObjenesisStd;
 import ru.tinkoff.qa.neptune.core.api.ConstructorParameters;
 import ru.tinkoff.qa.neptune.core.api.ParameterProvider;
 import ru.tinkoff.qa.neptune.core.api.PerformActionStep;
+import ru.tinkoff.qa.neptune.core.api.cleaning.PreWarmable;
+import ru.tinkoff.qa.neptune.core.api.concurency.ObjectContainer;
+import ru.tinkoff.qa.neptune.core.api.concurency.ObjectContainerPool;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
-import static net.bytebuddy.implementation.MethodDelegation.to;
+import static ru.tinkoff.qa.neptune.core.api.concurency.ObjectContainerPool.getPool;
+import static net.bytebuddy.description.modifier.Visibility.PRIVATE;
+import static net.bytebuddy.implementation.MethodDelegation.toField;
 import static net.bytebuddy.matcher.ElementMatchers.any;
 
 @SuppressWarnings("unchecked")
 public final class ProxyFactory {
 
+    private static final String INTERCEPTOR_FIELD = "neptune$interceptor";
+    private static final Objenesis OBJENESIS = new ObjenesisStd();
+
+    /**
+     * Generated proxy classes. A proxy class is defined in the same class loader as the substituted class
+     * and it delegates invocations to the instance of {@link MethodInterceptor} that is kept by a field
+     * of a proxy object. So the class is generated once and it is collected together with the class loader.
+     */
+    private static final ClassValue<ProxyClass> PROXY_CLASSES = new ClassValue<>() {
+        @Override
+        protected ProxyClass computeValue(Class<?> type) {
+            return new ProxyClass(type);
+        }
+    };
+
     private ProxyFactory() {
         super();
     }
@@ -58,26 +78,36 @@ public final class ProxyFactory {
         Class<? extends T> toInstantiate =
                 manipulationWithClassToInstantiate.apply(clazz);
 
-        DynamicType.Builder<? extends T> builder = new ByteBuddy().subclass(clazz);
-
         MethodInterceptor<T> interceptor = new MethodInterceptor<>(clazz,
                 (Class<T>) toInstantiate, constructorParameters,
                 manipulationWithObjectToReturn);
 
-        Class<? extends T> proxyClass;
+        ProxyClass proxyClass = PROXY_CLASSES.get(clazz);
+        T proxy = (T) OBJENESIS.newInstance(proxyClass.proxyClass);
+        proxyClass.bind(proxy, interceptor);
+        return proxy;
+    }
+
+    private static ConstructorParameters parametersOf(Class<?> clazz) {
+        CreateWith createWith = ofNullable(clazz.getAnnotation(CreateWith.class))
+                .orElseThrow(() -> new IllegalArgumentException(format("%s should be annotated by %s",
+                        clazz.getName(), CreateWith.class.getName())));
+        Class<? extends ParameterProvider> providerClass = createWith.provider();
+        Constructor<? extends ParameterProvider> defaultConstructor;
         try {
-            proxyClass = builder.method(any())
-                    .intercept(to(interceptor))
-                    .make()
-                    .load(InjectionClassLoader.getSystemClassLoader(), ClassLoadingStrategy.UsingLookup.of(MethodHandles
-                            .privateLookupIn(clazz, MethodHandles.lookup())))
-                    .getLoaded();
-        } catch (Throwable e) {
-            throw new ProxyCreationFailureException(e.getMessage(), e);
+            defaultConstructor = providerClass.getDeclaredConstructor();
         }
+        catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(format("%s should have declared default constructor",
+                    clazz.getName()));
+        }
+        defaultConstructor.setAccessible(true);
 
-        Objenesis objenesis = new ObjenesisStd();
-        return objenesis.newInstance(proxyClass);
+        try {
+            return defaultConstructor.newInstance().provide();
+        } catch (InstantiationException|IllegalAccessException|InvocationTargetException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     /**
@@ -98,29 +128,7 @@ public final class ProxyFactory {
     public static <T> T getProxied(Class<T> clazz,
                                    Function<Class<? extends T>, Class<? extends T>> manipulationWithClassToInstantiate,
                                    Function<T, T> manipulationWithObjectToReturn) {
-        CreateWith createWith = ofNullable(clazz.getAnnotation(CreateWith.class))
-                .orElseThrow(() -> new IllegalArgumentException(format("%s should be annotated by %s",
-                        clazz.getName(), CreateWith.class.getName())));
-        Class<? extends ParameterProvider> providerClass = createWith.provider();
-        Constructor<? extends ParameterProvider> defaultConstructor;
-        try {
-            defaultConstructor = providerClass.getDeclaredConstructor();
-        }
-        catch (NoSuchMethodException e) {
-            throw new IllegalArgumentException(format("%s should have declared default constructor",
-                    clazz.getName()));
-        }
-        defaultConstructor.setAccessible(true);
-
-        ConstructorParameters parameters;
-        try {
-            parameters =
-                    defaultConstructor.newInstance().provide();
-        } catch (InstantiationException|IllegalAccessException|InvocationTargetException e) {
-            throw new RuntimeException(e);
-        }
-
-        return getProxied(clazz, parameters, manipulationWithClassToInstantiate,
+        return getProxied(clazz, parametersOf(clazz), manipulationWithClassToInstantiate,
                 manipulationWithObjectToReturn);
     }
 
@@ -155,4 +163,66 @@ public final class ProxyFactory {
     public static <T> T getProxied(Class<T> clazz) {
         return getProxied(clazz, aClass -> aClass, t -> t);
     }
+
+    /**
+     * Creates an object of the given implementor of {@link ru.tinkoff.qa.neptune.core.api.GetStep} and/or
+     * {@link PerformActionStep} the same way as a proxy created by {@link #getProxied(Class)} does it.
+     * The object is prepared by {@link PreWarmable#preWarm()} when the class implements {@link PreWarmable}.
+     * Then it is wrapped by a free {@link ObjectContainer}, so it may be taken by any thread
+     * that uses a proxy of the class. The object is not created when the capacity of the pool of the class is
+     * reached.
+     *
+     * @param clazz is a class of an object to create. WARNING!!! It is important!!! The class
+     *              should be annotated by {@link CreateWith}.
+     * @param groupBy is the grouping object. It may be {@code null}.
+     * @param <T> type of the implementor of {@link ru.tinkoff.qa.neptune.core.api.GetStep} and/or
+     * {@link PerformActionStep}.
+     * @return a free container of created object. {@code null} is returned when the capacity of the pool
+     * is reached.
+     * @see ObjectContainerPool
+     */
+    public static <T> ObjectContainer<T> createFreeObject(Class<T> clazz, Object groupBy) {
+        checkArgument(PerformActionStep.class.isAssignableFrom(clazz) ||
+                GetStep.class.isAssignableFrom(clazz), "Class of an object should be " +
+                "assignable from ru.tinkoff.qa.neptune.core.api.GetStep and/or " +
+                "ru.tinkoff.qa.neptune.core.api.PerformActionStep.");
+
+        return getPool(clazz).createIfPossible(() -> {
+            T t = new MethodInterceptor<>(clazz, clazz, parametersOf(clazz), (Function<T, T>) o -> o).createObject();
+            if (t instanceof PreWarmable) {
+                ((PreWarmable) t).preWarm();
+            }
+            return new ObjectContainer<>(t, groupBy, null);
+        });
+    }
+
+    private static final class ProxyClass {
+        private final Class<?> proxyClass;
+        private final Field interceptorField;
+
+        private ProxyClass(Class<?> clazz) {
+            try {
+                proxyClass = new ByteBuddy().subclass(clazz)
+                        .defineField(INTERCEPTOR_FIELD, MethodInterceptor.class, PRIVATE)
+                        .method(any())
+                        .intercept(toField(INTERCEPTOR_FIELD))
+                        .make()
+                        .load(InjectionClassLoader.getSystemClassLoader(), ClassLoadingStrategy.UsingLookup.of(MethodHandles
+                                .privateLookupIn(clazz, MethodHandles.lookup())))
+                        .getLoaded();
+                interceptorField = proxyClass.getDeclaredField(INTERCEPTOR_FIELD);
+                interceptorField.setAccessible(true);
+            } catch (Throwable e) {
+                throw new ProxyCreationFailureException(e.getMessage(), e);
+            }
+        }
+
+        private void bind(Object proxy, MethodInterceptor<?> interceptor) {
+            try {
+                interceptorField.set(proxy, interceptor);
+            } catch (IllegalAccessException e) {
+                throw new ProxyCreationFailureException(e.getMessage(), e);
+            }
+        }
+    }
 }
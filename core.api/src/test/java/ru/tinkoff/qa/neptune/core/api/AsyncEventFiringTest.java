@@ -0,0 +1,129 @@
+package ru.tinkoff.qa.neptune.core.api;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.proxy.ProxyFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static ru.tinkoff.qa.neptune.core.api.ArithmeticalSequence.divideByResultOf;
+import static ru.tinkoff.qa.neptune.core.api.ArithmeticalSequence.multiplyByResultOf;
+import static ru.tinkoff.qa.neptune.core.api.ArithmeticalSequence.subtractFromResultOf;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.flushEvents;
+import static ru.tinkoff.qa.neptune.core.api.properties.AsyncEventFiringProperty.ASYNC_EVENT_FIRING_PROPERTY;
+import static ru.tinkoff.qa.neptune.core.api.properties.DoCapturesOf.DO_CAPTURES_OF_INSTANCE;
+
+public class AsyncEventFiringTest {
+
+    private CalculatorSteps calculator;
+
+    private final GetStepSupplier<CalculatorSteps, Number, ?> calculation =
+            subtractFromResultOf(100,
+                    divideByResultOf(0.5,
+                            multiplyByResultOf(11,
+                                    divideByResultOf(-6,
+                                            Arithmetical.number(9)))));
+
+    @BeforeClass
+    public void beforeAll() {
+        setProperty(ASYNC_EVENT_FIRING_PROPERTY.getPropertyName(), "true");
+        DO_CAPTURES_OF_INSTANCE.accept("SUCCESS");
+        calculator = ProxyFactory.getProxied(CalculatorSteps.class, ConstructorParameters.params());
+    }
+
+    @AfterClass
+    public void afterAll() {
+        clearProperty(ASYNC_EVENT_FIRING_PROPERTY.getPropertyName());
+        clearProperty(DO_CAPTURES_OF_INSTANCE.getPropertyName());
+    }
+
+    @Test
+    public void eventsAreFiredInTheSameOrderTest() throws Exception {
+        TestCapturedStringInjector.messages.clear();
+        TestEventLogger.MESSAGES.clear();
+        AtomicReference<List<String>> fired = new AtomicReference<>();
+
+        //the property is read once by each thread which fires events
+        Thread thread = new Thread(() -> {
+            calculator.reset();
+            calculator.get(StoryWriter.toGet("Calculation",
+                    calculator1 -> calculator1.get(calculation).floatValue() + 5F));
+            try {
+                calculator.get(Arithmetical.divide(0F));
+            }
+            catch (Throwable t) {
+                t.printStackTrace();
+            }
+            flushEvents();
+            fired.set(new ArrayList<>(TestEventLogger.MESSAGES));
+        });
+        thread.start();
+        thread.join();
+
+        assertThat(fired.get(), contains("Reset calculated value to 0 has started",
+                "Event finished",
+                "Get Calculation has started",
+                "Get Entering number 9 has started",
+                "9.0 has been returned",
+                "Event finished",
+                "From 9.0 get Divide by number -6 has started",
+                "-1.5 has been returned",
+                "Event finished",
+                "From -1.5 get Multiplying by number 11 has started",
+                "-16.5 has been returned",
+                "Event finished",
+                "From -16.5 get Divide by number 0.5 has started",
+                "-33.0 has been returned",
+                "Event finished",
+                "From -33.0 get Subtract number 100 has started",
+                "-133.0 has been returned",
+                "Event finished",
+                "-128.0 has been returned",
+                "Event finished",
+                "Get Divide by number 0.0 has started",
+                "java.lang.ArithmeticException has been thrown",
+                "Event finished"));
+
+        assertThat("Check messages logged by SPI String logger",
+                TestCapturedStringInjector.messages,
+                contains("Performing of 'Reset calculated value to 0' succeed. Result: Calculator",
+                        "Getting of 'Entering number 9' succeed. Result: 9.0",
+                        "Getting of 'Divide by number -6' succeed. Result: -1.5",
+                        "Getting of 'Multiplying by number 11' succeed. Result: -16.5",
+                        "Getting of 'Divide by number 0.5' succeed. Result: -33.0",
+                        "Getting of 'Subtract number 100' succeed. Result: -133.0",
+                        "Getting of 'Calculation' succeed. Result: -128.0"));
+    }
+
+    @Test
+    public void returnedValueIsConvertedByFiringThreadTest() throws Exception {
+        TestEventLogger.MESSAGES.clear();
+        AtomicReference<List<String>> fired = new AtomicReference<>();
+
+        Thread thread = new Thread(() -> {
+            List<String> returned = calculator.get(StoryWriter.toGet("Mutable list",
+                    calculator1 -> new ArrayList<>(List.of("returned")) {
+                        @Override
+                        public String toString() {
+                            return super.toString() + " converted by " + Thread.currentThread().getName();
+                        }
+                    }));
+            returned.add("changed after the returning");
+            flushEvents();
+            fired.set(new ArrayList<>(TestEventLogger.MESSAGES));
+        }, "Firing thread");
+        thread.start();
+        thread.join();
+
+        assertThat(fired.get(), contains("Get Mutable list has started",
+                "[returned] converted by Firing thread has been returned",
+                "Event finished"));
+    }
+}
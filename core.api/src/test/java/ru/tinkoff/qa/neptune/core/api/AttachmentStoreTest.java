@@ -0,0 +1,126 @@
+package ru.tinkoff.qa.neptune.core.api;
+
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.AttachmentStore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class AttachmentStoreTest {
+
+    @Test
+    public void uniqueContentIsWrittenOnceTest() {
+        AttachmentStore store = new AttachmentStore();
+        List<String> written = new ArrayList<>();
+
+        String first = store.store("Screenshot".getBytes(UTF_8), ".png", hash -> {
+            written.add(hash);
+            return hash + "-attachment.png";
+        }, reference -> true);
+        String second = store.store("Screenshot".getBytes(UTF_8), ".png", hash -> {
+            written.add(hash);
+            return hash + "-another-attachment.png";
+        }, reference -> true);
+        String third = store.store("Another screenshot".getBytes(UTF_8), ".png", hash -> {
+            written.add(hash);
+            return hash + "-attachment.png";
+        }, reference -> true);
+
+        assertThat("Reference to the same content", second, equalTo(first));
+        assertThat("Reference to another content", third, not(equalTo(first)));
+        assertThat("Written contents", written, hasSize(2));
+        assertThat("Count of stored contents", store.size(), is(2));
+    }
+
+    @Test
+    public void contentIsStoredForEachExtensionTest() {
+        AttachmentStore store = new AttachmentStore();
+
+        String text = store.store("Content".getBytes(UTF_8), ".txt", hash -> hash + "-attachment.txt",
+                reference -> true);
+        String html = store.store("Content".getBytes(UTF_8), ".html", hash -> hash + "-attachment.html",
+                reference -> true);
+
+        assertThat("Reference to the content with another extension", html, not(equalTo(text)));
+        assertThat("Count of stored contents", store.size(), is(2));
+    }
+
+    @Test
+    public void removedContentIsWrittenAgainTest() {
+        AttachmentStore store = new AttachmentStore();
+        Set<String> files = ConcurrentHashMap.newKeySet();
+        AtomicInteger writings = new AtomicInteger();
+
+        String first = store.store("Screenshot".getBytes(UTF_8), ".png", hash -> {
+            writings.incrementAndGet();
+            files.add(hash);
+            return hash;
+        }, files::contains);
+        //the directory of results is cleaned
+        files.clear();
+        String second = store.store("Screenshot".getBytes(UTF_8), ".png", hash -> {
+            writings.incrementAndGet();
+            files.add(hash);
+            return hash;
+        }, files::contains);
+
+        assertThat("Reference to the content", second, equalTo(first));
+        assertThat("Count of writings", writings.get(), is(2));
+        assertThat("Written files", files, contains(first));
+    }
+
+    @Test
+    public void sameContentIsWrittenOnceByManyThreadsTest() throws Exception {
+        AttachmentStore store = new AttachmentStore();
+        AtomicInteger writings = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        ExecutorService executor = newFixedThreadPool(8);
+        try {
+            List<Future<String>> references = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                references.add(executor.submit(() -> {
+                    started.await();
+                    return store.store("Screenshot".getBytes(UTF_8), ".png", hash -> {
+                        writings.incrementAndGet();
+                        try {
+                            Thread.sleep(100);
+                        }
+                        catch (InterruptedException e) {
+                            throw new RuntimeException(e);
+                        }
+                        return hash;
+                    }, reference -> true);
+                }));
+            }
+            started.countDown();
+
+            List<String> result = new ArrayList<>();
+            for (Future<String> reference: references) {
+                result.add(reference.get());
+            }
+            assertThat("References to the content", Collections.frequency(result, result.get(0)), is(8));
+            assertThat("Count of writings", writings.get(), is(1));
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void hashOfContentTest() {
+        assertThat(AttachmentStore.hashOf("abc".getBytes(UTF_8)),
+                is("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad"));
+    }
+}
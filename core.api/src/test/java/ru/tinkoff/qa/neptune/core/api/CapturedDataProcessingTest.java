@@ -0,0 +1,67 @@
+package ru.tinkoff.qa.neptune.core.api;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
+import static java.lang.Thread.currentThread;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.CapturedDataProcessing.processInBackground;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.CapturedDataProcessing.waitForBackgroundProcessing;
+import static ru.tinkoff.qa.neptune.core.api.properties.CaptureProcessingThreadsProperty.CAPTURE_PROCESSING_THREADS_PROPERTY;
+
+public class CapturedDataProcessingTest {
+
+    @BeforeClass
+    public void setUp() {
+        setProperty(CAPTURE_PROCESSING_THREADS_PROPERTY.getPropertyName(), "1");
+    }
+
+    @AfterClass
+    public void tearDown() {
+        clearProperty(CAPTURE_PROCESSING_THREADS_PROPERTY.getPropertyName());
+    }
+
+    @Test
+    public void capturedDataIsProcessedInBackgroundTest() {
+        Thread capturing = currentThread();
+        List<Thread> processedBy = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger processed = new AtomicInteger();
+
+        //the first task blocks the only background thread. 16 tasks fill the queue
+        for (int i = 0; i < 20; i++) {
+            processInBackground(() -> {
+                if (currentThread() != capturing) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        currentThread().interrupt();
+                    }
+                }
+                processedBy.add(currentThread());
+                processed.incrementAndGet();
+            });
+            if (processed.get() > 0) {
+                break;
+            }
+        }
+
+        assertThat("Task processed by the capturing thread when the queue is full",
+                processedBy, hasItem(capturing));
+        release.countDown();
+        waitForBackgroundProcessing();
+
+        assertThat("Count of processed tasks", processed.get(), is(18));
+        assertThat("Tasks processed by the background thread", processedBy.stream()
+                .filter(thread -> thread != capturing).count(), is(17L));
+    }
+}
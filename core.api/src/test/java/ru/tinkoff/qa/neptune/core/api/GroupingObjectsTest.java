@@ -0,0 +1,84 @@
+package ru.tinkoff.qa.neptune.core.api;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.concurency.GroupingObjects.*;
+import static ru.tinkoff.qa.neptune.core.api.concurency.ThreadContext.withCurrentContext;
+import static ru.tinkoff.qa.neptune.core.api.concurency.ThreadContext.withSubmitterContext;
+
+public class GroupingObjectsTest {
+
+    private static final Object GROUP = new Object();
+    private static final Object ANOTHER_GROUP = new Object();
+
+    @AfterMethod
+    public void tearDown() {
+        addGroupingObjectForCurrentThread(null);
+    }
+
+    @Test
+    public void childThreadGetsGroupingObjectOfWrappedTaskTest() throws Exception {
+        addGroupingObjectForCurrentThread(GROUP);
+        AtomicReference<Object> notInherited = new AtomicReference<>(GROUP);
+        Thread child = new Thread(() -> notInherited.set(getGroupingObject()));
+        child.start();
+        child.join();
+
+        AtomicReference<Object> propagated = new AtomicReference<>();
+        Thread wrapped = new Thread(withCurrentContext(() -> propagated.set(getGroupingObject())));
+        wrapped.start();
+        wrapped.join();
+
+        assertThat("Grouping object of the child thread", notInherited.get(), nullValue());
+        assertThat("Grouping object of the wrapped task", propagated.get(), sameInstance(GROUP));
+    }
+
+    @Test
+    public void groupingObjectIsPropagatedToTasksTest() throws Exception {
+        ExecutorService executor = newSingleThreadExecutor();
+        try {
+            //the thread of the executor has the grouping object of its own
+            executor.submit(() -> addGroupingObjectForCurrentThread(ANOTHER_GROUP)).get();
+
+            addGroupingObjectForCurrentThread(GROUP);
+            assertThat("Grouping object of a task",
+                    executor.submit(withCurrentContext(() -> getGroupingObject())).get(),
+                    sameInstance(GROUP));
+            assertThat("Grouping object of the thread after the task is finished",
+                    executor.submit(() -> getGroupingObject()).get(),
+                    sameInstance(ANOTHER_GROUP));
+
+            AtomicReference<Object> fromExecutor = new AtomicReference<>();
+            Executor wrapped = withSubmitterContext(executor);
+            executor.submit(() -> {}).get();
+            wrapped.execute(() -> fromExecutor.set(getGroupingObject()));
+            executor.submit(() -> {}).get();
+            assertThat("Grouping object of a task of the wrapped executor", fromExecutor.get(),
+                    sameInstance(GROUP));
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void groupingObjectIsPropagatedToParallelStreamTest() {
+        addGroupingObjectForCurrentThread(GROUP);
+        List<Object> groups = List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16).parallelStream()
+                .filter(withCurrentContext(i -> getGroupingObject() == GROUP))
+                .collect(toList());
+
+        assertThat("Values filtered with the grouping object", groups, hasSize(16));
+        assertThat("Grouping object of current thread", getGroupingObject(), sameInstance(GROUP));
+    }
+}
@@ -0,0 +1,116 @@
+package ru.tinkoff.qa.neptune.core.api;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.concurency.ObjectContainer;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.concurency.ObjectContainer.getAllObjects;
+import static ru.tinkoff.qa.neptune.core.api.concurency.ObjectContainer.setObjectBusy;
+
+public class ObjectContainerContentionTest {
+
+    private static final int THREADS = 128;
+    private static final String GROUP_1 = "Group 1";
+    private static final String GROUP_2 = "Group 2";
+
+    @AfterMethod
+    public void removeContainers() {
+        ObjectContainer.remove(getAllObjects(ContendedStep.class));
+        ObjectContainer.remove(getAllObjects(OtherStep.class));
+    }
+
+    private static Map<Object, ObjectContainer<?>> takeConcurrently(int threads, Object groupBy) throws Exception {
+        Map<Object, ObjectContainer<?>> taken = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch tried = new CountDownLatch(threads);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Thread> takers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Thread taker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    tried.countDown();
+                    return;
+                }
+                ObjectContainer<ContendedStep> container = groupBy == null ?
+                        setObjectBusy(ContendedStep.class) : setObjectBusy(ContendedStep.class, groupBy);
+                if (container != null) {
+                    taken.put(Thread.currentThread(), container);
+                }
+                tried.countDown();
+                try {
+                    //containers are released when threads die
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            takers.add(taker);
+            taker.start();
+        }
+        start.countDown();
+        tried.await();
+        Map<Object, ObjectContainer<?>> result = new HashMap<>(taken);
+        release.countDown();
+        for (Thread taker: takers) {
+            taker.join();
+        }
+        return result;
+    }
+
+    @Test
+    public void eachContainerIsTakenOnceTest() throws Exception {
+        for (int i = 0; i < THREADS; i++) {
+            new ObjectContainer<>(new ContendedStep());
+        }
+
+        Map<Object, ObjectContainer<?>> taken = takeConcurrently(THREADS * 2, null);
+
+        assertThat("Count of taken containers", taken.size(), is(THREADS));
+        assertThat("Count of distinct taken containers",
+                new HashSet<>(taken.values()).size(), is(THREADS));
+    }
+
+    @Test
+    public void groupedContainersAreNotMixedTest() throws Exception {
+        Set<ObjectContainer<?>> group1 = new HashSet<>();
+        for (int i = 0; i < THREADS; i++) {
+            group1.add(new ObjectContainer<>(new ContendedStep(), GROUP_1, null));
+            new ObjectContainer<>(new ContendedStep(), GROUP_2, null);
+            new ObjectContainer<>(new OtherStep());
+        }
+
+        Map<Object, ObjectContainer<?>> taken = takeConcurrently(THREADS * 2, GROUP_1);
+
+        assertThat("Count of taken containers", taken.size(), is(THREADS));
+        assertThat("Taken containers", new HashSet<>(taken.values()), equalTo(group1));
+        assertThat("Containers of the second group", getAllObjects(ContendedStep.class, GROUP_2),
+                hasSize(THREADS));
+        assertThat("All containers of the class", getAllObjects(ContendedStep.class),
+                hasSize(THREADS * 2));
+    }
+
+    @Test
+    public void regroupedContainerTest() {
+        ObjectContainer<ContendedStep> container = new ObjectContainer<>(new ContendedStep());
+        container.groupBy(GROUP_1);
+
+        assertThat("Container of the second group", setObjectBusy(ContendedStep.class, GROUP_2), nullValue());
+        assertThat("Container of the first group", setObjectBusy(ContendedStep.class, GROUP_1),
+                sameInstance(container));
+    }
+
+    private static class ContendedStep implements GetStep<ContendedStep> {
+    }
+
+    private static class OtherStep implements PerformActionStep<OtherStep> {
+    }
+}
@@ -0,0 +1,164 @@
+package ru.tinkoff.qa.neptune.core.api;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.concurency.ObjectContainer;
+
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static java.lang.Thread.currentThread;
+import static java.lang.management.ManagementFactory.getThreadMXBean;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.concurency.ObjectContainer.getAllObjects;
+import static ru.tinkoff.qa.neptune.core.api.concurency.ObjectContainer.setObjectBusy;
+
+public class ObjectContainerReleaseTest {
+
+    private static final int OWNERS = 64;
+    private static final String LOOP_NAME = "Neptune object container release loop";
+
+    @AfterMethod
+    public void removeContainers() {
+        ObjectContainer.remove(getAllObjects(ReleasedStep.class));
+    }
+
+    @Test
+    public void threadCountTest() throws Exception {
+        ThreadMXBean threadMXBean = getThreadMXBean();
+        CountDownLatch taken = new CountDownLatch(OWNERS);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Thread> owners = new ArrayList<>();
+
+        int threadsBefore = threadMXBean.getThreadCount();
+        for (int i = 0; i < OWNERS; i++) {
+            Thread owner = new Thread(() -> {
+                new ObjectContainer<>(new ReleasedStep()).setBusy(currentThread());
+                taken.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    currentThread().interrupt();
+                }
+            });
+            owners.add(owner);
+            owner.start();
+        }
+
+        taken.await();
+        int threadsWhileBusy = threadMXBean.getThreadCount();
+        release.countDown();
+        for (Thread owner: owners) {
+            owner.join();
+        }
+
+        assertThat("Count of threads which are started to listen to owners of containers",
+                threadsWhileBusy - threadsBefore - OWNERS, lessThanOrEqualTo(1));
+    }
+
+    @Test
+    public void cpuTimeOfLoopTest() throws Exception {
+        ThreadMXBean threadMXBean = getThreadMXBean();
+        CountDownLatch taken = new CountDownLatch(OWNERS);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Thread> owners = new ArrayList<>();
+        for (int i = 0; i < OWNERS; i++) {
+            Thread owner = new Thread(() -> {
+                new ObjectContainer<>(new ReleasedStep()).setBusy(currentThread());
+                taken.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    currentThread().interrupt();
+                }
+            });
+            owners.add(owner);
+            owner.start();
+        }
+        taken.await();
+
+        long loopId = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals(LOOP_NAME))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("The loop is not started"))
+                .getId();
+        long cpuBefore = threadMXBean.getThreadCpuTime(loopId);
+        Thread.sleep(500);
+        long cpuNanos = threadMXBean.getThreadCpuTime(loopId) - cpuBefore;
+
+        release.countDown();
+        for (Thread owner: owners) {
+            owner.join();
+        }
+
+        System.out.println(String.format("CPU time of the loop while %s owners are alive: %s microseconds",
+                OWNERS, cpuNanos / 1000));
+        assertThat("CPU time of the loop in millis while owners are alive", cpuNanos / 1_000_000,
+                lessThan(50L));
+    }
+
+    @Test
+    public void releaseTest() throws Exception {
+        List<Thread> owners = new ArrayList<>();
+        for (int i = 0; i < OWNERS; i++) {
+            Thread owner = new Thread(() -> new ObjectContainer<>(new ReleasedStep()).setBusy(currentThread()));
+            owners.add(owner);
+            owner.start();
+        }
+        for (Thread owner: owners) {
+            owner.join();
+        }
+
+        long end = System.currentTimeMillis() + 5000;
+        List<ObjectContainer<ReleasedStep>> taken = new ArrayList<>();
+        while (taken.size() < OWNERS && System.currentTimeMillis() < end) {
+            ObjectContainer<ReleasedStep> container = setObjectBusy(ReleasedStep.class);
+            if (container == null) {
+                Thread.sleep(10);
+                continue;
+            }
+            taken.add(container);
+        }
+
+        assertThat("Count of containers released after owners died", taken.size(), is(OWNERS));
+        assertThat("Free container", setObjectBusy(ReleasedStep.class), nullValue());
+    }
+
+    @Test
+    public void releaseWithoutTakingTest() throws Exception {
+        List<Thread> owners = new ArrayList<>();
+        List<ObjectContainer<ReleasedStep>> containers = new ArrayList<>();
+        for (int i = 0; i < OWNERS; i++) {
+            ObjectContainer<ReleasedStep> container = new ObjectContainer<>(new ReleasedStep());
+            containers.add(container);
+            Thread owner = new Thread(() -> container.setBusy(currentThread()));
+            owners.add(owner);
+            owner.start();
+        }
+        for (Thread owner: owners) {
+            owner.join();
+        }
+
+        //containers are released by the loop when the garbage collector finds out that owners are dead
+        long end = System.currentTimeMillis() + 5000;
+        int held;
+        do {
+            System.gc();
+            Thread.sleep(10);
+            held = 0;
+            for (int i = 0; i < OWNERS; i++) {
+                if (containers.get(i).isHeldBy(owners.get(i))) {
+                    held++;
+                }
+            }
+        } while (held > 0 && System.currentTimeMillis() < end);
+
+        assertThat("Count of containers held by dead owners", held, is(0));
+    }
+
+    private static class ReleasedStep implements GetStep<ReleasedStep> {
+    }
+}
@@ -0,0 +1,163 @@
+package ru.tinkoff.qa.neptune.core.api;
+
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.concurency.ObjectLease;
+import ru.tinkoff.qa.neptune.core.api.proxy.ProxyFactory;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.concurency.ObjectLease.openLease;
+
+public class ObjectLeaseTest {
+
+    @Test
+    @SuppressWarnings("try")
+    public void objectIsReleasedByClosedLeaseTest() throws Exception {
+        LeasedStep step = ProxyFactory.getProxied(LeasedStep.class);
+        ExecutorService first = newSingleThreadExecutor();
+        ExecutorService second = newSingleThreadExecutor();
+        try {
+            int used = first.submit(() -> {
+                try (ObjectLease lease = openLease()) {
+                    return step.id();
+                }
+            }).get();
+
+            //the thread of the first executor is alive but the object is free
+            int reused = second.submit(() -> {
+                try (ObjectLease lease = openLease()) {
+                    return step.id();
+                }
+            }).get();
+
+            assertThat("Object used by another thread", reused, equalTo(used));
+            assertThat("Count of created objects", LeasedStep.CREATED.get(), is(1));
+
+            //the first thread should take a free object again
+            int usedAgain = first.submit(step::id).get();
+            assertThat("Object used again", usedAgain, equalTo(used));
+            assertThat("Count of created objects", LeasedStep.CREATED.get(), is(1));
+        }
+        finally {
+            first.shutdownNow();
+            second.shutdownNow();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("try")
+    public void objectTakenBeforeLeaseIsNotReleasedTest() throws Exception {
+        PinnedStep step = ProxyFactory.getProxied(PinnedStep.class);
+        ExecutorService first = newSingleThreadExecutor();
+        ExecutorService second = newSingleThreadExecutor();
+        try {
+            int pinned = first.submit(() -> {
+                int taken = step.id();
+                try (ObjectLease lease = openLease()) {
+                    step.id();
+                }
+                return taken;
+            }).get();
+
+            int another = second.submit(step::id).get();
+            assertThat("Object used by another thread", another, not(equalTo(pinned)));
+            assertThat("Count of created objects", PinnedStep.CREATED.get(), is(2));
+        }
+        finally {
+            first.shutdownNow();
+            second.shutdownNow();
+        }
+    }
+
+    @Test
+    public void objectIsReleasedByOpenedLeaseWhenLeasesAreClosedOutOfOrderTest() throws Exception {
+        OutOfOrderStep step = ProxyFactory.getProxied(OutOfOrderStep.class);
+        ExecutorService first = newSingleThreadExecutor();
+        ExecutorService second = newSingleThreadExecutor();
+        try {
+            int used = first.submit(() -> {
+                ObjectLease outer = openLease();
+                ObjectLease middle = openLease();
+                ObjectLease inner = openLease();
+                middle.close();
+                inner.close();
+
+                //the object should be taken by the outer lease instead of the closed one
+                int taken = step.id();
+                outer.close();
+                return taken;
+            }).get();
+
+            int reused = second.submit(step::id).get();
+            assertThat("Object used by another thread", reused, equalTo(used));
+            assertThat("Count of created objects", OutOfOrderStep.CREATED.get(), is(1));
+        }
+        finally {
+            first.shutdownNow();
+            second.shutdownNow();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void leaseIsClosedByAnotherThreadTest() throws Throwable {
+        ObjectLease lease = openLease();
+        ExecutorService executor = newSingleThreadExecutor();
+        try {
+            executor.submit(lease::close).get();
+        }
+        catch (ExecutionException e) {
+            throw e.getCause();
+        }
+        finally {
+            lease.close();
+            executor.shutdownNow();
+        }
+    }
+
+    @CreateWith(provider = ProviderOfEmptyParameters.class)
+    private static class LeasedStep implements GetStep<LeasedStep> {
+        private static final AtomicInteger CREATED = new AtomicInteger();
+        private final int id;
+
+        protected LeasedStep() {
+            id = CREATED.incrementAndGet();
+        }
+
+        public int id() {
+            return id;
+        }
+    }
+
+    @CreateWith(provider = ProviderOfEmptyParameters.class)
+    private static class PinnedStep implements GetStep<PinnedStep> {
+        private static final AtomicInteger CREATED = new AtomicInteger();
+        private final int id;
+
+        protected PinnedStep() {
+            id = CREATED.incrementAndGet();
+        }
+
+        public int id() {
+            return id;
+        }
+    }
+
+    @CreateWith(provider = ProviderOfEmptyParameters.class)
+    private static class OutOfOrderStep implements GetStep<OutOfOrderStep> {
+        private static final AtomicInteger CREATED = new AtomicInteger();
+        private final int id;
+
+        protected OutOfOrderStep() {
+            id = CREATED.incrementAndGet();
+        }
+
+        public int id() {
+            return id;
+        }
+    }
+}
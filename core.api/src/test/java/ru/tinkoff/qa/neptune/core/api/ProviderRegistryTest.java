@@ -0,0 +1,74 @@
+package ru.tinkoff.qa.neptune.core.api;
+
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.event.firing.ProviderRegistry;
+import ru.tinkoff.qa.neptune.core.api.event.firing.Stateless;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.ProviderRegistry.registryOf;
+
+public class ProviderRegistryTest {
+
+    private static final ProviderRegistry<TestService> REGISTRY = registryOf(TestService.class);
+
+    @Test
+    public void registryIsCreatedOnceTest() {
+        assertThat("Registry of the service", registryOf(TestService.class), sameInstance(REGISTRY));
+    }
+
+    @Test
+    public void providersOfThreadsTest() throws Exception {
+        List<TestService> providers = REGISTRY.get();
+        assertThat("Providers of the service", providers,
+                contains(instanceOf(SharedService.class), instanceOf(ThreadService.class)));
+        assertThat("Providers of the service taken again", REGISTRY.get(), sameInstance(providers));
+
+        ExecutorService executor = newSingleThreadExecutor();
+        try {
+            List<TestService> providersOfAnotherThread = executor.submit(REGISTRY::get).get();
+            assertThat("Shared provider", providersOfAnotherThread.get(0), sameInstance(providers.get(0)));
+            assertThat("Provider of another thread", providersOfAnotherThread.get(1),
+                    not(sameInstance(providers.get(1))));
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(dependsOnMethods = "providersOfThreadsTest")
+    public void addedProviderTest() throws Exception {
+        List<TestService> providers = REGISTRY.get();
+        TestService added = new TestService() {
+        };
+        REGISTRY.add(added);
+
+        List<TestService> refreshed = REGISTRY.get();
+        assertThat("Count of providers", refreshed, hasSize(3));
+        assertThat("Provider of current thread", refreshed.get(1), sameInstance(providers.get(1)));
+        assertThat("Added provider", refreshed.get(2), sameInstance(added));
+
+        ExecutorService executor = newSingleThreadExecutor();
+        try {
+            assertThat("Providers of another thread", executor.submit(REGISTRY::get).get(),
+                    hasItem(sameInstance(added)));
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public interface TestService {
+    }
+
+    @Stateless
+    public static class SharedService implements TestService {
+    }
+
+    public static class ThreadService implements TestService {
+    }
+}
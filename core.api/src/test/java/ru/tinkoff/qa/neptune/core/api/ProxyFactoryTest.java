@@ -0,0 +1,73 @@
+package ru.tinkoff.qa.neptune.core.api;
+
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.proxy.ProxyFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ProxyFactoryTest {
+
+    @Test
+    public void proxyClassIsCreatedOnceTest() {
+        ProxiedStep first = ProxyFactory.getProxied(ProxiedStep.class);
+        ProxiedStep second = ProxyFactory.getProxied(ProxiedStep.class);
+
+        assertThat("Class of the second proxy", second.getClass(), equalTo(first.getClass()));
+        assertThat("Proxy class", first.getClass(), not(equalTo(ProxiedStep.class)));
+    }
+
+    @Test
+    public void interceptorIsBoundPerProxyTest() {
+        ProxiedStep first = ProxyFactory.getProxied(ProxiedStep.class);
+        ProxiedStep second = ProxyFactory.getProxied(ProxiedStep.class);
+
+        int firstId = first.id();
+        int secondId = second.id();
+        assertThat("Object used by the second proxy", secondId, not(equalTo(firstId)));
+        assertThat("Object used by the first proxy again", first.id(), equalTo(firstId));
+        assertThat("Object used by the second proxy again", second.id(), equalTo(secondId));
+    }
+
+    @Test
+    public void invocationOfProxyMethodsTest() {
+        ProxiedStep step = ProxyFactory.getProxied(ProxiedStep.class);
+
+        assertThat("Result of the method with varargs", step.join("a", "b", "c"), is("abc"));
+        assertThat("Result of the method with varargs", step.join(), is(""));
+        assertThat("Returned object", step.self(), sameInstance(step));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Test failure")
+    public void exceptionThrownByProxyMethodTest() {
+        ProxyFactory.getProxied(ProxiedStep.class).fail();
+    }
+
+    @CreateWith(provider = ProviderOfEmptyParameters.class)
+    private static class ProxiedStep implements GetStep<ProxiedStep> {
+        private static final AtomicInteger CREATED = new AtomicInteger();
+        private final int id;
+
+        protected ProxiedStep() {
+            id = CREATED.incrementAndGet();
+        }
+
+        public int id() {
+            return id;
+        }
+
+        public String join(String... strings) {
+            return String.join("", strings);
+        }
+
+        public ProxiedStep self() {
+            return this;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("Test failure");
+        }
+    }
+}
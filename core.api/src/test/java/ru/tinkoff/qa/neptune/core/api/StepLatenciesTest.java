@@ -0,0 +1,62 @@
+package ru.tinkoff.qa.neptune.core.api;
+
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.event.timing.LatencyHistogram;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.LatencyHistogram.HIGHEST_TRACKABLE_VALUE;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.StepLatencies.getSummary;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.StepLatencies.record;
+
+public class StepLatenciesTest {
+
+    @Test
+    public void percentilesOfHistogramTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1000);
+        }
+
+        assertThat("Count of values", histogram.getCount(), is(100_000L));
+        assertThat("Max value", histogram.getMax(), is(100_000_000L));
+        assertThat("p50", (double) histogram.getValueAtPercentile(50), closeTo(50_000_000, 50_000_000 / 32D));
+        assertThat("p95", (double) histogram.getValueAtPercentile(95), closeTo(95_000_000, 95_000_000 / 32D));
+        assertThat("p99", (double) histogram.getValueAtPercentile(99), closeTo(99_000_000, 99_000_000 / 32D));
+        assertThat("p100", histogram.getValueAtPercentile(100), is(100_000_000L));
+    }
+
+    @Test
+    public void smallAndHugeValuesTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThat("p50 of the empty histogram", histogram.getValueAtPercentile(50), is(0L));
+
+        histogram.record(-1);
+        histogram.record(7);
+        histogram.record(Long.MAX_VALUE);
+
+        assertThat("p33", histogram.getValueAtPercentile(33), is(0L));
+        assertThat("p66", histogram.getValueAtPercentile(66), is(7L));
+        assertThat("Max value", histogram.getMax(), is(HIGHEST_TRACKABLE_VALUE));
+        assertThat("p100", histogram.getValueAtPercentile(100), is(HIGHEST_TRACKABLE_VALUE));
+    }
+
+    @Test
+    public void summaryTest() {
+        for (int i = 0; i < 10; i++) {
+            record("Fast step of StepLatenciesTest", 1_000_000);
+            record("Slow step\n\tof StepLatenciesTest", 20_000_000);
+        }
+
+        List<String> summary = getSummary();
+        assertThat("Header of summary", summary.get(0),
+                is("count\ttotal, ms\tp50, ms\tp95, ms\tp99, ms\tmax, ms\tdescription"));
+
+        int fast = summary.indexOf("10\t10.000\t1.000\t1.000\t1.000\t1.000\tFast step of StepLatenciesTest");
+        int slow = summary.indexOf("10\t200.000\t20.000\t20.000\t20.000\t20.000\tSlow step of StepLatenciesTest");
+        assertThat("Line of the fast step", fast, greaterThan(0));
+        assertThat("Line of the slow step", slow, allOf(greaterThan(0), lessThan(fast)));
+    }
+}
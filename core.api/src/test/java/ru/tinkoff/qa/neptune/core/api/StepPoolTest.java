@@ -0,0 +1,237 @@
+package ru.tinkoff.qa.neptune.core.api;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.concurency.ObjectContainerPool;
+import ru.tinkoff.qa.neptune.core.api.concurency.ObjectLease;
+import ru.tinkoff.qa.neptune.core.api.concurency.PoolTimeOutException;
+import ru.tinkoff.qa.neptune.core.api.proxy.ProxyFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.concurency.GroupingObjects.addGroupingObjectForCurrentThread;
+import static ru.tinkoff.qa.neptune.core.api.concurency.ObjectLease.openLease;
+import static ru.tinkoff.qa.neptune.core.api.proxy.ProxyFactory.createFreeObject;
+import static ru.tinkoff.qa.neptune.core.api.properties.StepPoolCapacityProperty.stepPoolCapacityOf;
+import static ru.tinkoff.qa.neptune.core.api.properties.StepPoolWaitingProperties.TimeUnitProperties.STEP_POOL_WAITING_TIME_UNIT;
+import static ru.tinkoff.qa.neptune.core.api.properties.StepPoolWaitingProperties.TimeValueProperties.STEP_POOL_WAITING_TIME_VALUE;
+
+public class StepPoolTest {
+
+    @BeforeClass
+    public void setUp() {
+        setProperty(stepPoolCapacityOf(PooledStep.class).getPropertyName(), "2");
+        setProperty(stepPoolCapacityOf(SingleStep.class).getPropertyName(), "1");
+        setProperty(stepPoolCapacityOf(ReentrantStep.class).getPropertyName(), "1");
+        setProperty(stepPoolCapacityOf(GroupedStep.class).getPropertyName(), "1");
+        setProperty(stepPoolCapacityOf(PreWarmedStep.class).getPropertyName(), "1");
+        setProperty(STEP_POOL_WAITING_TIME_UNIT.getPropertyName(), "MILLIS");
+        setProperty(STEP_POOL_WAITING_TIME_VALUE.getPropertyName(), "3000");
+    }
+
+    @AfterClass
+    public void tearDown() {
+        clearProperty(stepPoolCapacityOf(PooledStep.class).getPropertyName());
+        clearProperty(stepPoolCapacityOf(SingleStep.class).getPropertyName());
+        clearProperty(stepPoolCapacityOf(ReentrantStep.class).getPropertyName());
+        clearProperty(stepPoolCapacityOf(GroupedStep.class).getPropertyName());
+        clearProperty(stepPoolCapacityOf(PreWarmedStep.class).getPropertyName());
+        clearProperty(STEP_POOL_WAITING_TIME_UNIT.getPropertyName());
+        clearProperty(STEP_POOL_WAITING_TIME_VALUE.getPropertyName());
+    }
+
+    @Test
+    public void countOfCreatedObjectsIsLimitedTest() throws Exception {
+        PooledStep step = ProxyFactory.getProxied(PooledStep.class);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        AtomicInteger done = new AtomicInteger();
+
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                step.hold(release);
+                done.incrementAndGet();
+            });
+            threads.add(thread);
+            thread.start();
+            //threads come to the pool one by one
+            Thread.sleep(100);
+        }
+
+        Thread.sleep(200);
+        assertThat("Count of created objects", PooledStep.CREATED.get(), is(2));
+        assertThat("Count of waiting threads", ObjectContainerPool.getPool(PooledStep.class)
+                .getMetrics().getWaiters(), is(2));
+
+        release.countDown();
+        for (Thread thread: threads) {
+            thread.join();
+        }
+
+        ObjectContainerPool.Metrics metrics = ObjectContainerPool.getPool(PooledStep.class).getMetrics();
+        assertThat("Count of threads which have done their work", done.get(), is(4));
+        assertThat("Count of created objects", PooledStep.CREATED.get(), is(2));
+        assertThat("Count of takings", metrics.getTaken(), is(4L));
+        assertThat("Count of waitings", metrics.getWaited(), is(2L));
+        assertThat("Count of timeouts", metrics.getTimeouts(), is(0L));
+    }
+
+    @Test
+    public void timeOutTest() throws Exception {
+        SingleStep step = ProxyFactory.getProxied(SingleStep.class);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread owner = new Thread(() -> step.hold(release));
+        owner.start();
+        Thread.sleep(200);
+
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                step.hold(new CountDownLatch(0));
+            }
+            catch (Throwable t) {
+                thrown.set(t);
+            }
+        });
+        waiter.start();
+        waiter.join();
+        release.countDown();
+        owner.join();
+
+        assertThat("Thrown exception", thrown.get(), instanceOf(PoolTimeOutException.class));
+        assertThat("Message of thrown exception", thrown.get().getMessage(),
+                containsString("No object of " + SingleStep.class.getName() + " was released"));
+        assertThat("Count of timeouts", ObjectContainerPool.getPool(SingleStep.class)
+                .getMetrics().getTimeouts(), is(1L));
+    }
+
+    @Test
+    public void objectHeldByThreadIsSharedByProxiesTest() throws Exception {
+        ReentrantStep first = ProxyFactory.getProxied(ReentrantStep.class);
+        ReentrantStep second = ProxyFactory.getProxied(ReentrantStep.class);
+        AtomicReference<List<Object>> used = new AtomicReference<>();
+
+        Thread thread = new Thread(() -> used.set(List.of(first.identity(), second.identity())));
+        thread.start();
+        thread.join(2000);
+
+        assertThat("Objects used by the thread", used.get(), not(nullValue()));
+        assertThat("Object used by the second proxy", used.get().get(1), is(used.get().get(0)));
+        assertThat("Count of created objects", ReentrantStep.CREATED.get(), is(1));
+        assertThat("Count of waitings", ObjectContainerPool.getPool(ReentrantStep.class)
+                .getMetrics().getWaited(), is(0L));
+    }
+
+    @Test
+    public void freeObjectOfAnotherGroupIsTakenTest() throws Exception {
+        GroupedStep step = ProxyFactory.getProxied(GroupedStep.class);
+        List<Object> used = new ArrayList<>();
+
+        for (Object group: List.of(new Object(), new Object())) {
+            Thread thread = new Thread(() -> {
+                addGroupingObjectForCurrentThread(group);
+                try (ObjectLease lease = openLease()) {
+                    used.add(step.identity());
+                    assertThat("Lease of the thread", lease, not(nullValue()));
+                }
+            });
+            thread.start();
+            thread.join();
+        }
+
+        assertThat("Objects used by threads of different groups", used, hasSize(2));
+        assertThat("Object used by the second group", used.get(1), is(used.get(0)));
+        assertThat("Count of created objects", GroupedStep.CREATED.get(), is(1));
+        assertThat("Count of waitings", ObjectContainerPool.getPool(GroupedStep.class)
+                .getMetrics().getWaited(), is(0L));
+    }
+
+    @Test
+    public void preWarmedObjectsAreCountedTest() {
+        Object group = new Object();
+        assertThat("Created free object", createFreeObject(PreWarmedStep.class, group), not(nullValue()));
+        assertThat("Object created beyond the capacity", createFreeObject(PreWarmedStep.class, group),
+                nullValue());
+
+        ObjectContainerPool.Metrics metrics = ObjectContainerPool.getPool(PreWarmedStep.class).getMetrics();
+        assertThat("Count of objects", metrics.getObjects(), is(1));
+        assertThat("Count of busy objects", metrics.getBusy(), is(0));
+        assertThat("Count of created objects", PreWarmedStep.CREATED.get(), is(1));
+    }
+
+    @CreateWith(provider = ProviderOfEmptyParameters.class)
+    private static class ReentrantStep implements GetStep<ReentrantStep> {
+        private static final AtomicInteger CREATED = new AtomicInteger();
+
+        protected ReentrantStep() {
+            CREATED.incrementAndGet();
+        }
+
+        public Integer identity() {
+            return System.identityHashCode(this);
+        }
+    }
+
+    @CreateWith(provider = ProviderOfEmptyParameters.class)
+    private static class GroupedStep implements GetStep<GroupedStep> {
+        private static final AtomicInteger CREATED = new AtomicInteger();
+
+        protected GroupedStep() {
+            CREATED.incrementAndGet();
+        }
+
+        public Integer identity() {
+            return System.identityHashCode(this);
+        }
+    }
+
+    @CreateWith(provider = ProviderOfEmptyParameters.class)
+    private static class PreWarmedStep implements GetStep<PreWarmedStep> {
+        private static final AtomicInteger CREATED = new AtomicInteger();
+
+        protected PreWarmedStep() {
+            CREATED.incrementAndGet();
+        }
+    }
+
+    @CreateWith(provider = ProviderOfEmptyParameters.class)
+    private static class PooledStep implements GetStep<PooledStep> {
+        private static final AtomicInteger CREATED = new AtomicInteger();
+
+        protected PooledStep() {
+            CREATED.incrementAndGet();
+        }
+
+        public void hold(CountDownLatch latch) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @CreateWith(provider = ProviderOfEmptyParameters.class)
+    private static class SingleStep implements GetStep<SingleStep> {
+        protected SingleStep() {
+            super();
+        }
+
+        public void hold(CountDownLatch latch) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package ru.tinkoff.qa.neptune.core.api.conditional;
+
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.StoryWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.System.currentTimeMillis;
+import static java.lang.Thread.currentThread;
+import static java.lang.Thread.sleep;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.conditions.ToGetObjectFromIterable.getFromIterable;
+import static ru.tinkoff.qa.neptune.core.api.conditions.ToGetSubIterable.getIterable;
+
+public class ParallelConditionChecksTest extends BaseConditionalTest {
+
+    private static boolean sleepTillTheEnd(long millis) {
+        try {
+            sleep(millis);
+            return true;
+        }
+        catch (InterruptedException e) {
+            return false;
+        }
+    }
+
+    @Test
+    public void checksAreNotPerformedByCommonPoolTest() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        assertThat(getIterable("Values", o -> new ArrayList<>(LITERAL_LIST),
+                StoryWriter.condition("equals A ignore case", s -> {
+                    threads.add(currentThread().getName());
+                    return VALUE_A.test(s);
+                }),
+                true, true).apply(new Object()), contains(A_LOWER, A_UPPER));
+        assertThat(threads, everyItem(startsWith("Condition check")));
+    }
+
+    @Test
+    public void orderOfItemsIsKeptTest() {
+        assertThat(getFromIterable("Value", o -> List.of(ONE_NUM, A_LOWER, A_UPPER),
+                StoryWriter.condition("equals A ignore case",
+                        s -> sleepTillTheEnd(A_LOWER.equals(s) ? 200 : 0) && VALUE_A.test(s)),
+                true, true, () -> NOTHING_WAS_FOUND).apply(new Object()), is(A_LOWER));
+    }
+
+    @Test
+    public void checksAreCancelledWhenItemIsFoundTest() {
+        AtomicInteger finished = new AtomicInteger();
+        long start = currentTimeMillis();
+        assertThat(getFromIterable("Value", o -> LITERAL_LIST,
+                StoryWriter.condition("is the first", s -> {
+                    if (ONE_NUM.equals(s)) {
+                        return true;
+                    }
+                    if (sleepTillTheEnd(FIVE_SECONDS.toMillis())) {
+                        finished.incrementAndGet();
+                    }
+                    return false;
+                }),
+                true, true, () -> NOTHING_WAS_FOUND).apply(new Object()), is(ONE_NUM));
+
+        assertThat("Spent time in millis", currentTimeMillis() - start, lessThan(FIVE_HUNDRED_MILLIS.toMillis()));
+        assertThat("Count of checks which slept till the end", finished.get(), is(0));
+    }
+
+    @Test(expectedExceptions = RuntimeException.class,
+            expectedExceptionsMessageRegExp = "java.lang.RuntimeException was caught. Message: Exception for the unit testing!")
+    public void exceptionOfParallelCheckTest() {
+        getIterable("Values", o -> new ArrayList<>(LITERAL_LIST), StoryWriter.condition("malformed", MALFORMED_PREDICATE),
+                true, false).apply(new Object());
+    }
+}
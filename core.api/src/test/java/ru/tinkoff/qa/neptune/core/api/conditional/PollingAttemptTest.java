@@ -0,0 +1,68 @@
+package ru.tinkoff.qa.neptune.core.api.conditional;
+
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.StoryWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.conditions.PollingAttempt.currentAttempt;
+import static ru.tinkoff.qa.neptune.core.api.conditions.ToGetObjectFromIterable.getFromIterable;
+import static ru.tinkoff.qa.neptune.core.api.conditions.ToGetSingleCheckedObject.getSingle;
+
+public class PollingAttemptTest extends BaseConditionalTest {
+
+    @Test
+    public void noAttemptOutOfWaitingTest() {
+        assertThat(currentAttempt().isPresent(), is(false));
+        assertThat(getSingle("Attempt", o -> currentAttempt().orElse(null), FIVE_SECONDS, () -> NOTHING_WAS_FOUND)
+                .apply(new Object()), notNullValue());
+        assertThat(currentAttempt().isPresent(), is(false));
+    }
+
+    @Test
+    public void attemptIsTheSameDuringCheckingTest() {
+        assertThat(getSingle("Attempt", o -> currentAttempt().get(),
+                StoryWriter.condition("is current attempt", a -> a == currentAttempt().get()),
+                FIVE_SECONDS, false, () -> NOTHING_WAS_FOUND).apply(new Object()), notNullValue());
+    }
+
+    @Test
+    public void eachAttemptIsIdentifiedSeparatelyTest() {
+        List<Object> attempts = new ArrayList<>();
+        getSingle("Attempts", o -> {
+            attempts.add(currentAttempt().get());
+            return attempts.size() < 3 ? null : attempts;
+        }, FIVE_SECONDS, FIVE_HUNDRED_MILLIS.dividedBy(10), () -> NOTHING_WAS_FOUND).apply(new Object());
+
+        assertThat(attempts, hasSize(3));
+        assertThat(attempts.stream().distinct().count(), is(3L));
+    }
+
+    @Test
+    public void outerAttemptIsChangedByInnerWaitingTest() {
+        List<Object> attempts = getSingle("Attempts", o -> {
+            Object before = currentAttempt().get();
+            Object inner = getSingle("Inner attempt", i -> currentAttempt().get(), FIVE_SECONDS,
+                    () -> NOTHING_WAS_FOUND).apply(o);
+            return List.of(before, inner, currentAttempt().get());
+        }, FIVE_SECONDS, () -> NOTHING_WAS_FOUND).apply(new Object());
+
+        assertThat(attempts.stream().distinct().count(), is(3L));
+    }
+
+    @Test
+    public void attemptOfParallelCheckTest() {
+        List<Optional<Object>> checked = new CopyOnWriteArrayList<>();
+        getFromIterable("Value", o -> LITERAL_LIST,
+                StoryWriter.condition("is checked", s -> !checked.add(currentAttempt())),
+                ONE_MILLISECOND, ONE_MILLISECOND, true, false).apply(new Object());
+
+        assertThat(checked, not(empty()));
+        assertThat(checked, everyItem(not(Optional.empty())));
+    }
+}
@@ -0,0 +1,133 @@
+package ru.tinkoff.qa.neptune.core.api.conditional;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.StoryWriter;
+import ru.tinkoff.qa.neptune.core.api.conditions.PollingStrategy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.lang.System.clearProperty;
+import static java.lang.System.currentTimeMillis;
+import static java.lang.System.setProperty;
+import static java.time.Duration.ZERO;
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.conditions.PollingStrategy.exponential;
+import static ru.tinkoff.qa.neptune.core.api.conditions.PollingStrategy.fixed;
+import static ru.tinkoff.qa.neptune.core.api.conditions.ToGetSingleCheckedObject.getSingle;
+import static ru.tinkoff.qa.neptune.core.api.properties.PollingSleepingTimeProperty.POLLING_SLEEPING_TIME_PROPERTY;
+import static ru.tinkoff.qa.neptune.core.api.properties.PollingStrategyProperty.POLLING_STRATEGY_PROPERTY;
+
+public class PollingStrategyTest extends BaseConditionalTest {
+
+    private static final String DESCRIPTION = "The value of the counter";
+
+    @AfterMethod
+    public void tearDown() {
+        clearProperty(POLLING_STRATEGY_PROPERTY.getPropertyName());
+        clearProperty(POLLING_SLEEPING_TIME_PROPERTY.getPropertyName());
+    }
+
+    private static Function<AtomicInteger, Integer> incrementAndGet() {
+        return StoryWriter.toGet("Increment and get", AtomicInteger::incrementAndGet);
+    }
+
+    @Test
+    public void noSleepingAfterSuccessTest() {
+        long start = currentTimeMillis();
+        assertThat(getSingle(DESCRIPTION, incrementAndGet(), FIVE_SECONDS, FIVE_HUNDRED_MILLIS,
+                () -> NOTHING_WAS_FOUND).apply(new AtomicInteger()), is(1));
+        assertThat("Spent time in millis", currentTimeMillis() - start, lessThan(FIVE_HUNDRED_MILLIS.toMillis()));
+    }
+
+    @Test
+    public void strategyOfSupplierTest() {
+        AtomicInteger counter = new AtomicInteger();
+        long start = currentTimeMillis();
+        assertThat(getSingle(DESCRIPTION, incrementAndGet(),
+                StoryWriter.condition("greater than 3", i -> i > 3),
+                FIVE_SECONDS, fixed(FIVE_HUNDRED_MILLIS).afterImmediateAttempts(3),
+                true, () -> NOTHING_WAS_FOUND).apply(counter), is(4));
+        assertThat("Spent time in millis", currentTimeMillis() - start, lessThan(FIVE_HUNDRED_MILLIS.toMillis()));
+        assertThat("Count of attempts", counter.get(), is(4));
+    }
+
+    @Test
+    public void strategyOfPropertyTest() {
+        setProperty(POLLING_STRATEGY_PROPERTY.getPropertyName(), "immediate_first");
+        setProperty(POLLING_SLEEPING_TIME_PROPERTY.getPropertyName(), "500");
+
+        long start = currentTimeMillis();
+        assertThat(getSingle(DESCRIPTION, incrementAndGet(),
+                StoryWriter.condition("greater than 2", i -> i > 2),
+                FIVE_SECONDS, true, () -> NOTHING_WAS_FOUND).apply(new AtomicInteger()), is(3));
+        assertThat("Spent time in millis", currentTimeMillis() - start, lessThan(FIVE_HUNDRED_MILLIS.toMillis()));
+    }
+
+    @Test
+    public void timeOutTest() {
+        AtomicInteger counter = new AtomicInteger();
+        long start = currentTimeMillis();
+        assertThat(getSingle(DESCRIPTION, incrementAndGet(),
+                StoryWriter.condition("is negative", i -> i < 0),
+                ofMillis(300), fixed(ofMillis(100)), true).apply(counter), nullValue());
+        long spent = currentTimeMillis() - start;
+        assertThat("Spent time in millis", spent, greaterThanOrEqualTo(300L));
+        assertThat("Spent time in millis", spent, lessThan(600L));
+        assertThat("Count of attempts", counter.get(), greaterThanOrEqualTo(4));
+    }
+
+    @Test
+    public void sleepingIsLimitedByRemainingTimeTest() {
+        AtomicInteger counter = new AtomicInteger();
+        long start = currentTimeMillis();
+        assertThat(getSingle(DESCRIPTION, incrementAndGet(),
+                StoryWriter.condition("is negative", i -> i < 0),
+                ofSeconds(1), fixed(ofMillis(700)), true).apply(counter), nullValue());
+        long spent = currentTimeMillis() - start;
+        assertThat("Spent time in millis", spent, greaterThanOrEqualTo(1000L));
+        assertThat("Spent time in millis", spent, lessThan(1300L));
+        assertThat("Count of attempts", counter.get(), is(3));
+    }
+
+    @Test
+    public void exponentialStrategyTest() {
+        PollingStrategy strategy = exponential(ofMillis(10), ofMillis(100));
+        assertThat(strategy.sleepingAfter(1), is(ofMillis(10)));
+        assertThat(strategy.sleepingAfter(2), is(ofMillis(20)));
+        assertThat(strategy.sleepingAfter(4), is(ofMillis(80)));
+        assertThat(strategy.sleepingAfter(5), is(ofMillis(100)));
+        assertThat(strategy.sleepingAfter(Integer.MAX_VALUE), is(ofMillis(100)));
+    }
+
+    @Test
+    public void jitteredStrategyTest() {
+        PollingStrategy strategy = fixed(ofSeconds(1)).withJitter(0.5);
+        for (int i = 1; i <= 100; i++) {
+            Duration sleeping = strategy.sleepingAfter(i);
+            assertThat(sleeping, greaterThan(ofMillis(500)));
+            assertThat(sleeping, lessThanOrEqualTo(ofSeconds(1)));
+        }
+    }
+
+    @Test
+    public void immediateAttemptsTest() {
+        PollingStrategy strategy = exponential(ofMillis(10), ofMillis(100)).afterImmediateAttempts(2);
+        assertThat(strategy.sleepingAfter(1), is(ZERO));
+        assertThat(strategy.sleepingAfter(2), is(ZERO));
+        assertThat(strategy.sleepingAfter(3), is(ofMillis(10)));
+        assertThat(strategy.sleepingAfter(4), is(ofMillis(20)));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = "Property: polling.strategy. Unidentified strategy .*")
+    public void unknownStrategyTest() {
+        setProperty(POLLING_STRATEGY_PROPERTY.getPropertyName(), "random");
+        POLLING_STRATEGY_PROPERTY.get();
+    }
+}
@@ -0,0 +1,101 @@
+package ru.tinkoff.qa.neptune.core.api.conditional;
+
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.core.api.StoryWriter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static java.lang.System.currentTimeMillis;
+import static java.time.Duration.ofSeconds;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.core.api.conditions.PollingStrategy.exponential;
+import static ru.tinkoff.qa.neptune.core.api.conditions.PollingStrategy.fixed;
+import static ru.tinkoff.qa.neptune.core.api.conditions.ToGetObjectFromIterable.getFromIterable;
+import static ru.tinkoff.qa.neptune.core.api.conditions.ToGetSingleCheckedObject.getSingle;
+import static ru.tinkoff.qa.neptune.core.api.conditions.WaitingDeadline.remainingTime;
+
+public class WaitingDeadlineTest extends BaseConditionalTest {
+
+    private static final Duration ONE_SECOND = ofSeconds(1);
+
+    private static Function<Object, Object> nothing() {
+        return StoryWriter.toGet("Nothing", o -> null);
+    }
+
+    private static Function<Object, Optional<Duration>> remaining() {
+        return StoryWriter.toGet("Remaining time", o -> remainingTime());
+    }
+
+    @Test
+    public void noDeadlineOutOfWaitingTest() {
+        assertThat(remainingTime().isPresent(), is(false));
+        assertThat(getSingle("Remaining time", remaining(), FIVE_SECONDS, () -> NOTHING_WAS_FOUND)
+                .apply(new Object()).isPresent(), is(true));
+        assertThat(remainingTime().isPresent(), is(false));
+    }
+
+    @Test
+    public void remainingTimeTest() {
+        Duration remaining = getSingle("Remaining time", remaining(), FIVE_SECONDS, () -> NOTHING_WAS_FOUND)
+                .apply(new Object())
+                .get();
+        assertThat(remaining, lessThanOrEqualTo(FIVE_SECONDS));
+        assertThat(remaining, greaterThan(FIVE_SECONDS.minus(FIVE_HUNDRED_MILLIS)));
+    }
+
+    @Test
+    public void innerWaitingConsumesRemainingTimeTest() {
+        Function<Object, Object> innerWaiting = getSingle("Inner value", nothing(), FIVE_SECONDS,
+                FIVE_HUNDRED_MILLIS.dividedBy(10));
+
+        long start = currentTimeMillis();
+        assertThat(getSingle("Outer value", innerWaiting, ONE_SECOND).apply(new Object()), nullValue());
+        long spent = currentTimeMillis() - start;
+
+        assertThat("Spent time in millis", spent, greaterThanOrEqualTo(ONE_SECOND.toMillis()));
+        assertThat("Spent time in millis", spent, lessThan(ONE_SECOND.plus(FIVE_HUNDRED_MILLIS).toMillis()));
+    }
+
+    @Test
+    public void innerBackoffIsLimitedByOuterWaitingTest() {
+        Function<Object, Object> innerWaiting = getSingle("Inner value", nothing(), FIVE_SECONDS,
+                exponential(FIVE_HUNDRED_MILLIS.dividedBy(5), FIVE_SECONDS));
+
+        long start = currentTimeMillis();
+        assertThat(getSingle("Outer value", innerWaiting, ONE_SECOND, fixed(ONE_MILLISECOND))
+                .apply(new Object()), nullValue());
+        long spent = currentTimeMillis() - start;
+
+        //the inner waiting sleeps 100, 200 and 400 millis. The next sleeping is cut to the end of the outer waiting
+        assertThat("Spent time in millis", spent, greaterThanOrEqualTo(ONE_SECOND.toMillis()));
+        assertThat("Spent time in millis", spent, lessThan(ONE_SECOND.plus(FIVE_HUNDRED_MILLIS.dividedBy(2))
+                .toMillis()));
+    }
+
+    @Test
+    public void innerWaitingIsNotExtendedTest() {
+        Duration remaining = getSingle("Outer value",
+                o -> getSingle("Remaining time", remaining(), FIVE_SECONDS, () -> NOTHING_WAS_FOUND)
+                        .apply(o)
+                        .get(),
+                ONE_SECOND, () -> NOTHING_WAS_FOUND)
+                .apply(new Object());
+        assertThat(remaining, lessThanOrEqualTo(ONE_SECOND));
+    }
+
+    @Test
+    public void deadlineOfParallelCheckTest() {
+        List<Optional<Duration>> checked = new CopyOnWriteArrayList<>();
+        getFromIterable("Value", o -> LITERAL_LIST,
+                StoryWriter.condition("is checked", s -> !checked.add(remainingTime())),
+                ONE_MILLISECOND, ONE_MILLISECOND, true, false).apply(new Object());
+
+        assertThat(checked, not(empty()));
+        assertThat(checked, everyItem(not(Optional.empty())));
+    }
+}
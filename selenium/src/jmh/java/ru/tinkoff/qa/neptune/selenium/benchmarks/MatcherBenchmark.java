@@ -0,0 +1,63 @@
+package ru.tinkoff.qa.neptune.selenium.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openqa.selenium.WebElement;
+import ru.tinkoff.qa.neptune.selenium.SeleniumSteps;
+import ru.tinkoff.qa.neptune.selenium.api.widget.drafts.Button;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.openqa.selenium.By.tagName;
+import static ru.tinkoff.qa.neptune.selenium.benchmarks.SimulatedLatency.seleniumSteps;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.SearchSupplier.button;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.SearchSupplier.webElement;
+import static ru.tinkoff.qa.neptune.selenium.hamcrest.matchers.elements.HasAttributeMatcher.hasAttribute;
+import static ru.tinkoff.qa.neptune.selenium.hamcrest.matchers.elements.HasTextMatcher.hasText;
+import static ru.tinkoff.qa.neptune.selenium.hamcrest.matchers.elements.IsElementVisibleMatcher.isVisible;
+import static ru.tinkoff.qa.neptune.selenium.test.FakeDOMModel.*;
+
+/**
+ * Measures the evaluation of matchers of elements and widgets. Found objects are the same for all invocations,
+ * so only the evaluation of matchers and commands of elements are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class MatcherBenchmark {
+
+    @Param({"0", "100"})
+    public long latencyMicros;
+
+    private WebElement element;
+    private Button button;
+
+    @Setup
+    public void setUp() {
+        SeleniumSteps seleniumSteps = seleniumSteps(latencyMicros);
+        element = seleniumSteps.find(webElement(tagName(BUTTON_TAG)));
+        button = seleniumSteps.find(button());
+    }
+
+    @Benchmark
+    public boolean elementHasText() {
+        return hasText(BUTTON_TEXT5).matches(element);
+    }
+
+    @Benchmark
+    public boolean elementHasAttribute() {
+        return hasAttribute(ATTR1, VALUE1).matches(element);
+    }
+
+    @Benchmark
+    public boolean elementIsVisible() {
+        return isVisible().matches(element);
+    }
+
+    @Benchmark
+    public boolean widgetHasText() {
+        return hasText(BUTTON_TEXT5).matches(button);
+    }
+}
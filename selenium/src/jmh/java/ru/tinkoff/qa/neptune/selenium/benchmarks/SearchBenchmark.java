@@ -0,0 +1,76 @@
+package ru.tinkoff.qa.neptune.selenium.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openqa.selenium.WebElement;
+import ru.tinkoff.qa.neptune.selenium.SeleniumSteps;
+import ru.tinkoff.qa.neptune.selenium.api.widget.Widget;
+import ru.tinkoff.qa.neptune.selenium.api.widget.drafts.Button;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.openqa.selenium.By.tagName;
+import static ru.tinkoff.qa.neptune.selenium.benchmarks.SimulatedLatency.seleniumSteps;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonConditions.shouldBeVisible;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonConditions.shouldHaveAttribute;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.MultipleSearchSupplier.webElements;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.MultipleSearchSupplier.widgets;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.SearchSupplier.button;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.SearchSupplier.webElement;
+import static ru.tinkoff.qa.neptune.selenium.test.FakeDOMModel.*;
+
+/**
+ * Measures the searching for elements and widgets in the fake DOM of tests. Each command of the driver and of
+ * found elements takes {@code latencyMicros} (see {@link SimulatedLatency}). The result at {@code latencyMicros=0}
+ * is the overhead of the framework.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class SearchBenchmark {
+
+    @Param({"0", "100"})
+    public long latencyMicros;
+
+    private SeleniumSteps seleniumSteps;
+
+    @Setup
+    public void setUp() {
+        seleniumSteps = seleniumSteps(latencyMicros);
+    }
+
+    @Benchmark
+    public WebElement webElementByTag() {
+        return seleniumSteps.find(webElement(tagName(BUTTON_TAG)));
+    }
+
+    @Benchmark
+    public List<WebElement> webElementsOnCondition() {
+        return seleniumSteps.find(webElements(tagName(BUTTON_TAG), shouldBeVisible()));
+    }
+
+    @Benchmark
+    public List<WebElement> webElementsOnConditionChain() {
+        return seleniumSteps.find(webElements(tagName(BUTTON_TAG),
+                shouldBeVisible().and(shouldHaveAttribute(ATTR1, VALUE1))));
+    }
+
+    /**
+     * Subclasses of {@link Button} are declared by tests. Each of them is searched for.
+     */
+    @Benchmark
+    public Button buttonWidget() {
+        return seleniumSteps.find(button());
+    }
+
+    /**
+     * All subclasses of {@link Widget} which are declared by tests are searched for.
+     */
+    @Benchmark
+    public List<Widget> allWidgets() {
+        return seleniumSteps.find(widgets(Widget.class));
+    }
+}
@@ -0,0 +1,243 @@
+package ru.tinkoff.qa.neptune.selenium.benchmarks;
+
+import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.MethodProxy;
+import org.openqa.selenium.*;
+import org.openqa.selenium.internal.WrapsElement;
+import ru.tinkoff.qa.neptune.selenium.SeleniumSteps;
+import ru.tinkoff.qa.neptune.selenium.WebDriverMethodInterceptor;
+import ru.tinkoff.qa.neptune.selenium.test.MockWebDriver;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+import static java.util.stream.Collectors.toList;
+import static ru.tinkoff.qa.neptune.selenium.properties.SupportedWebDrivers.CHROME_DRIVER;
+
+/**
+ * This is the fixture of benchmarks. It creates {@link SeleniumSteps} which use {@link MockWebDriver} and the fake
+ * DOM of tests. Each command of the driver and of found elements takes some time, as it does when
+ * commands are sent to a real browser. So it is possible to compare the overhead of the framework with
+ * the latency of a browser.
+ * <p>
+ *     The simulated latency is not precise. The OS may park a thread for longer than it was requested
+ *     (usually by tens of microseconds).
+ * </p>
+ */
+public final class SimulatedLatency {
+
+    private SimulatedLatency() {
+        super();
+    }
+
+    /**
+     * Creates steps which use the mocked web driver.
+     *
+     * @param latencyMicros is the time of each command of the driver and of found elements in microseconds.
+     *                      Commands take no additional time when it is {@code 0}.
+     * @return created steps.
+     */
+    public static SeleniumSteps seleniumSteps(long latencyMicros) {
+        WebDriver driver = mockedDriver(MICROSECONDS.toNanos(latencyMicros));
+        return new SeleniumSteps(CHROME_DRIVER) {
+            @Override
+            public WebDriver getWrappedDriver() {
+                return driver;
+            }
+        };
+    }
+
+    private static WebDriver mockedDriver(long latencyNanos) {
+        Enhancer enhancer = new Enhancer();
+        enhancer.setSuperclass(MockWebDriver.class);
+        enhancer.setCallback(new LatencyInterceptor(latencyNanos));
+        return (WebDriver) enhancer.create();
+    }
+
+    private static void pause(long latencyNanos) {
+        if (latencyNanos > 0) {
+            parkNanos(latencyNanos);
+        }
+    }
+
+    /**
+     * Found elements are wrapped, so their commands take time too.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object withLatency(Object result, long latencyNanos) {
+        if (result instanceof WebElement) {
+            return new DelayedWebElement((WebElement) result, latencyNanos);
+        }
+
+        if (result instanceof List) {
+            return ((List<Object>) result).stream()
+                    .map(o -> withLatency(o, latencyNanos))
+                    .collect(toList());
+        }
+        return result;
+    }
+
+    private static final class LatencyInterceptor extends WebDriverMethodInterceptor {
+
+        private final long latencyNanos;
+
+        private LatencyInterceptor(long latencyNanos) {
+            this.latencyNanos = latencyNanos;
+        }
+
+        @Override
+        public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable {
+            if (method.getDeclaringClass().equals(Object.class)) {
+                return super.intercept(obj, method, args, proxy);
+            }
+            pause(latencyNanos);
+            return withLatency(super.intercept(obj, method, args, proxy), latencyNanos);
+        }
+    }
+
+    /**
+     * It is public and not final because found elements are proxied by the searching.
+     */
+    public static class DelayedWebElement implements WebElement, WrapsElement {
+
+        private final WebElement element;
+        private final long latencyNanos;
+
+        DelayedWebElement(WebElement element, long latencyNanos) {
+            this.element = element;
+            this.latencyNanos = latencyNanos;
+        }
+
+        @Override
+        public WebElement getWrappedElement() {
+            return element;
+        }
+
+        @Override
+        public void click() {
+            pause(latencyNanos);
+            element.click();
+        }
+
+        @Override
+        public void submit() {
+            pause(latencyNanos);
+            element.submit();
+        }
+
+        @Override
+        public void sendKeys(CharSequence... keysToSend) {
+            pause(latencyNanos);
+            element.sendKeys(keysToSend);
+        }
+
+        @Override
+        public void clear() {
+            pause(latencyNanos);
+            element.clear();
+        }
+
+        @Override
+        public String getTagName() {
+            pause(latencyNanos);
+            return element.getTagName();
+        }
+
+        @Override
+        public String getAttribute(String name) {
+            pause(latencyNanos);
+            return element.getAttribute(name);
+        }
+
+        @Override
+        public boolean isSelected() {
+            pause(latencyNanos);
+            return element.isSelected();
+        }
+
+        @Override
+        public boolean isEnabled() {
+            pause(latencyNanos);
+            return element.isEnabled();
+        }
+
+        @Override
+        public String getText() {
+            pause(latencyNanos);
+            return element.getText();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<WebElement> findElements(By by) {
+            pause(latencyNanos);
+            return (List<WebElement>) withLatency(element.findElements(by), latencyNanos);
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            pause(latencyNanos);
+            return (WebElement) withLatency(element.findElement(by), latencyNanos);
+        }
+
+        @Override
+        public boolean isDisplayed() {
+            pause(latencyNanos);
+            return element.isDisplayed();
+        }
+
+        @Override
+        public Point getLocation() {
+            pause(latencyNanos);
+            return element.getLocation();
+        }
+
+        @Override
+        public Dimension getSize() {
+            pause(latencyNanos);
+            return element.getSize();
+        }
+
+        @Override
+        public Rectangle getRect() {
+            pause(latencyNanos);
+            return element.getRect();
+        }
+
+        @Override
+        public String getCssValue(String propertyName) {
+            pause(latencyNanos);
+            return element.getCssValue(propertyName);
+        }
+
+        @Override
+        public <X> X getScreenshotAs(OutputType<X> target) {
+            pause(latencyNanos);
+            return element.getScreenshotAs(target);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            //proxies of found elements are created without invocation of constructors
+            if (element == null) {
+                return super.equals(obj);
+            }
+            if (obj instanceof WrapsElement) {
+                return element.equals(((WrapsElement) obj).getWrappedElement());
+            }
+            return element.equals(obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return element == null ? super.hashCode() : element.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(element);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package ru.tinkoff.qa.neptune.selenium;
 
 import ru.tinkoff.qa.neptune.core.api.GetStep;
 import ru.tinkoff.qa.neptune.core.api.PerformActionStep;
+import ru.tinkoff.qa.neptune.core.api.cleaning.PreWarmable;
 import ru.tinkoff.qa.neptune.core.api.cleaning.Refreshable;
 import ru.tinkoff.qa.neptune.core.api.cleaning.Stoppable;
 import ru.tinkoff.qa.neptune.core.api.CreateWith;
@@ -24,7 +25,7 @@ import static ru.tinkoff.qa.neptune.selenium.CurrentContentFunction.currentConte
 
 @CreateWith(provider = SeleniumParameterProvider.class)
 public class SeleniumSteps implements PerformActionStep<SeleniumSteps>, GetStep<SeleniumSteps>, WrapsDriver, Refreshable,
-        Stoppable, TakesScreenshot {
+        Stoppable, TakesScreenshot, PreWarmable {
 
     private final WrappedWebDriver wrappedWebDriver;
 
@@ -78,6 +79,14 @@ public class SeleniumSteps implements PerformActionStep<SeleniumSteps>, GetStep<
         wrappedWebDriver.refresh();
     }
 
+    /**
+     * Starts a browser and loads the base URL when it is defined.
+     */
+    @Override
+    public void preWarm() {
+        wrappedWebDriver.getWrappedDriver();
+    }
+
     @Override
     public void shutDown() {
         wrappedWebDriver.shutDown();
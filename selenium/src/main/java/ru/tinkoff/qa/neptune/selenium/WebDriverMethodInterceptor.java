@@ -2,9 +2,14 @@ package ru.tinkoff.qa.neptune.selenium;
 
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
+import ru.tinkoff.qa.neptune.core.api.event.timing.TimedEvent;
 
 import java.lang.reflect.Method;
 
+import static ru.tinkoff.qa.neptune.core.api.event.timing.FlightRecorderEvents.driverCommandEvent;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.TimedEvent.FAILED;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.TimedEvent.SUCCEEDED;
+
 public class WebDriverMethodInterceptor implements MethodInterceptor {
 
     @Override
@@ -15,6 +20,15 @@ public class WebDriverMethodInterceptor implements MethodInterceptor {
             return "Loaded page";
         }
 
-        return proxy.invokeSuper(obj, args);
+        TimedEvent event = driverCommandEvent(method.getName());
+        String outcome = FAILED;
+        try {
+            Object result = proxy.invokeSuper(obj, args);
+            outcome = SUCCEEDED;
+            return result;
+        }
+        finally {
+            event.finish(outcome);
+        }
     }
 }
@@ -0,0 +1,205 @@
+package ru.tinkoff.qa.neptune.selenium.api.widget;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.FileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static java.lang.String.format;
+import static java.lang.String.join;
+import static javax.lang.model.element.ElementKind.CLASS;
+import static javax.lang.model.element.Modifier.ABSTRACT;
+import static javax.tools.Diagnostic.Kind.WARNING;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+import static ru.tinkoff.qa.neptune.selenium.api.widget.Priority.HIGHEST;
+import static ru.tinkoff.qa.neptune.selenium.api.widget.Priority.LOWEST;
+
+/**
+ * This annotation processor writes the index of non-abstract subclasses of {@link Widget} which are compiled.
+ * The index is the resource {@code META-INF/neptune/widgets}. The searching for widgets reads indexes instead of
+ * the scanning of the whole classpath. Each line of the index describes a class by values which are separated
+ * by tabs:
+ * <ul>
+ *     <li>the binary name of the class</li>
+ *     <li>names of {@code org.openqa.selenium.support.Find*} annotations of the class or its superclasses
+ *     separated by commas. {@code -} is written when there are no such annotations</li>
+ *     <li>the priority of the searching for the widget</li>
+ *     <li>{@code true} when the class implements {@link Labeled}</li>
+ *     <li>the name of the widget</li>
+ * </ul>
+ * The processor is found by the compiler when the jar of this module is on the classpath of the annotation
+ * processing. Gradle 5 and newer don't look for annotation processors on the compile classpath, so the module
+ * should be added to the configuration of annotation processors explicitly:
+ * <pre>{@code
+ * dependencies {
+ *     testCompile group: 'ru.tinkoff.qa.neptune', name: 'selenium', version: neptuneVersion
+ *     testAnnotationProcessor group: 'ru.tinkoff.qa.neptune', name: 'selenium', version: neptuneVersion
+ * }
+ * }</pre>
+ * Roots of the classpath which have no index (e.g. classes compiled without the processor) are scanned
+ * by the searching for widgets.
+ */
+@SupportedAnnotationTypes("*")
+public final class WidgetIndexProcessor extends AbstractProcessor {
+
+    public static final String WIDGET_INDEX = "META-INF/neptune/widgets";
+    private static final String[] FIND_ANNOTATIONS = {"org.openqa.selenium.support.FindBy",
+            "org.openqa.selenium.support.FindBys",
+            "org.openqa.selenium.support.FindAll"};
+    //types of the compilation are looked up by names. Priority.HIGHEST and Priority.LOWEST are constants
+    //which are inlined, so the processor doesn't load classes of widgets
+    private static final String WIDGET = "ru.tinkoff.qa.neptune.selenium.api.widget.Widget";
+    private static final String LABELED = "ru.tinkoff.qa.neptune.selenium.api.widget.Labeled";
+    private static final String PRIORITY = "ru.tinkoff.qa.neptune.selenium.api.widget.Priority";
+    private static final String NAME = "ru.tinkoff.qa.neptune.selenium.api.widget.Name";
+
+    private final Map<String, String> index = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement widget = processingEnv.getElementUtils().getTypeElement(WIDGET);
+        if (widget == null) {
+            return false;
+        }
+
+        if (!roundEnv.processingOver()) {
+            for (TypeElement type: ElementFilter.typesIn(roundEnv.getRootElements())) {
+                addToIndex(type, widget);
+            }
+            return false;
+        }
+
+        if (!index.isEmpty()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private void addToIndex(TypeElement type, TypeElement widget) {
+        if (type.getKind() == CLASS && !type.getModifiers().contains(ABSTRACT)
+                && processingEnv.getTypeUtils().isSubtype(erasure(type), erasure(widget))) {
+            String name = processingEnv.getElementUtils().getBinaryName(type).toString();
+            index.put(name, join("\t", name, findAnnotations(type), String.valueOf(priority(type)),
+                    String.valueOf(isLabeled(type)), widgetName(type)));
+        }
+
+        for (TypeElement nested: ElementFilter.typesIn(type.getEnclosedElements())) {
+            addToIndex(nested, widget);
+        }
+    }
+
+    private TypeMirror erasure(TypeElement type) {
+        return processingEnv.getTypeUtils().erasure(type.asType());
+    }
+
+    private static TypeElement superclassOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    private static boolean isWidget(TypeElement type) {
+        return type == null || type.getQualifiedName().contentEquals(WIDGET);
+    }
+
+    private static AnnotationMirror annotation(TypeElement type, String annotation) {
+        for (AnnotationMirror mirror: type.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static Object value(AnnotationMirror annotation) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry:
+                annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    //annotations are looked for the same way as FindByBuilder does it
+    private static String findAnnotations(TypeElement type) {
+        List<String> result = new ArrayList<>();
+        for (String findAnnotation: FIND_ANNOTATIONS) {
+            for (TypeElement current = type; !isWidget(current); current = superclassOf(current)) {
+                if (annotation(current, findAnnotation) != null) {
+                    result.add(findAnnotation.substring(findAnnotation.lastIndexOf('.') + 1));
+                    break;
+                }
+            }
+        }
+        return result.isEmpty() ? "-" : join(",", result);
+    }
+
+    //the priority is read the same way as Priority.Reader does it
+    private int priority(TypeElement type) {
+        AnnotationMirror priority = annotation(type, PRIORITY);
+        if (priority == null) {
+            return LOWEST;
+        }
+
+        Object value = value(priority);
+        if (!(value instanceof Integer) || (Integer) value < HIGHEST) {
+            processingEnv.getMessager().printMessage(WARNING, format("%s is annotated by @Priority with illegal value %s. " +
+                    "This value should be not lower than %s", type.getQualifiedName(), value, HIGHEST), type);
+            return LOWEST;
+        }
+        return (Integer) value;
+    }
+
+    private boolean isLabeled(TypeElement type) {
+        TypeElement labeled = processingEnv.getElementUtils().getTypeElement(LABELED);
+        return labeled != null && processingEnv.getTypeUtils().isSubtype(erasure(type), erasure(labeled));
+    }
+
+    //the name is read the same way as Widget.getWidgetName does it
+    private static String widgetName(TypeElement type) {
+        for (TypeElement current = type; !isWidget(current); current = superclassOf(current)) {
+            AnnotationMirror name = annotation(current, NAME);
+            if (name != null) {
+                return String.valueOf(value(name)).replaceAll("\\s", " ");
+            }
+        }
+        return type.getSimpleName().toString();
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(CLASS_OUTPUT, "", WIDGET_INDEX);
+            try (Writer writer = resource.openWriter()) {
+                for (String line: index.values()) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+        }
+        catch (IOException e) {
+            processingEnv.getMessager().printMessage(WARNING, format("It is impossible to write the index of widgets. " +
+                    "Widgets are found by the scanning of the classpath. %s", e.getMessage()));
+        }
+    }
+}
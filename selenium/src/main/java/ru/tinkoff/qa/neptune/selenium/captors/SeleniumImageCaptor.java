@@ -1,5 +1,6 @@
 package ru.tinkoff.qa.neptune.selenium.captors;
 
+import ru.tinkoff.qa.neptune.core.api.event.firing.Stateless;
 import ru.tinkoff.qa.neptune.core.api.event.firing.captors.ImageCaptor;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
@@ -11,6 +12,14 @@ import java.io.InputStream;
 
 import static java.lang.String.format;
 
+/**
+ * Takes screenshots and decodes them to {@link BufferedImage}. It is not loaded by SPI. {@link SeleniumScreenshotCaptor}
+ * is used by default. It passes bytes of screenshots to injectors without decoding and re-encoding.
+ * This captor may be added by {@link ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring#addCaptors(java.util.List)}
+ * when some {@link ru.tinkoff.qa.neptune.core.api.event.firing.captors.CapturedImageInjector} needs decoded images.
+ * Added captor is used by all threads.
+ */
+@Stateless
 public class SeleniumImageCaptor extends ImageCaptor<TakesScreenshot> {
 
     @Override
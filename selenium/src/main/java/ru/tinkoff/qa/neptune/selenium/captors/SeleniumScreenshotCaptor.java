@@ -0,0 +1,35 @@
+package ru.tinkoff.qa.neptune.selenium.captors;
+
+import ru.tinkoff.qa.neptune.core.api.event.firing.Stateless;
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.BytesCaptor;
+import ru.tinkoff.qa.neptune.core.api.event.firing.captors.CapturedBytes;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+
+import static java.lang.String.format;
+
+/**
+ * Takes PNG screenshots and passes bytes which are returned by a driver to injectors as they are.
+ */
+@Stateless
+public class SeleniumScreenshotCaptor extends BytesCaptor<TakesScreenshot> {
+
+    @Override
+    public void capture(TakesScreenshot caught, String message) {
+        super.capture(caught, format("Taken browser picture of '%s'", message));
+    }
+
+    @Override
+    protected CapturedBytes getData(TakesScreenshot caught) {
+        try {
+            return new CapturedBytes(caught.getScreenshotAs(OutputType.BYTES), "image/png", "png");
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    @Override
+    public Class<TakesScreenshot> getTypeToBeCaptured() {
+        return TakesScreenshot.class;
+    }
+}
@@ -0,0 +1,193 @@
+package ru.tinkoff.qa.neptune.selenium.functions.searching;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static ru.tinkoff.qa.neptune.core.api.AsIsCondition.AS_IS;
+import static ru.tinkoff.qa.neptune.core.api.utils.IsDescribedUtil.isDescribed;
+
+/**
+ * This is the condition which may be checked inside a browser. It keeps the javascript expression which is equivalent
+ * to the checking of a web element. The expression of the conjunction is a conjunction of expressions. Criteria
+ * which have no equivalent expression are kept separately. They are checked for elements which have been accepted
+ * by the browser.
+ *
+ * @param <T> is a type of a value to be checked
+ */
+final class BrowserCondition<T> implements Predicate<T> {
+
+    private final String description;
+    private final Predicate<T> check;
+    private final Script script;
+    private final Predicate<? super T> rest;
+
+    private BrowserCondition(String description, Predicate<T> check, @Nullable Script script,
+                             @Nullable Predicate<? super T> rest) {
+        this.description = description;
+        this.check = check;
+        this.script = script;
+        this.rest = rest;
+    }
+
+    /**
+     * Creates a condition which has the equivalent javascript expression.
+     *
+     * @param description of the condition
+     * @param check is the checking of a value which is performed by java
+     * @param script is the equivalent expression
+     * @param <T> is a type of a value to be checked
+     * @return created condition.
+     */
+    static <T> BrowserCondition<T> browserCondition(String description, Predicate<T> check, Script script) {
+        return new BrowserCondition<>(description, check, script, null);
+    }
+
+    private BrowserCondition<T> withoutScript(String description, Predicate<T> check) {
+        return new BrowserCondition<>(description, check, null, check);
+    }
+
+    @Nullable
+    Script getScript() {
+        return script;
+    }
+
+    /**
+     * @return criteria which have no equivalent javascript expression. {@code null} is returned when
+     * there are no such criteria.
+     */
+    @Nullable
+    Predicate<? super T> getRest() {
+        return rest;
+    }
+
+    private static <T> Predicate<? super T> bothOf(@Nullable Predicate<? super T> first, @Nullable Predicate<? super T> second) {
+        if (first == null) {
+            return second;
+        }
+
+        if (second == null) {
+            return first;
+        }
+        return (Predicate<T>) t -> first.test(t) && second.test(t);
+    }
+
+    @Override
+    public boolean test(T t) {
+        return check.test(t);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Predicate<T> and(Predicate<? super T> other) {
+        checkNotNull(other);
+        checkArgument(isDescribed(other),
+                "It seems given predicate doesn't describe any condition. Use method " +
+                        "StoryWriter.condition to describe the AND-condition or override the toString method");
+        if (AS_IS.equals(other)) {
+            return this;
+        }
+
+        String andDescription = format("%s, %s", description, other);
+        Predicate<T> andCheck = t -> check.test(t) && other.test(t);
+        if (!(other instanceof BrowserCondition)) {
+            return new BrowserCondition<>(andDescription, andCheck, script, bothOf(rest, other));
+        }
+
+        BrowserCondition<? super T> otherCondition = (BrowserCondition<? super T>) other;
+        Script andScript = script;
+        if (otherCondition.script != null) {
+            andScript = script == null ? otherCondition.script : Script.and(script, otherCondition.script);
+        }
+        return new BrowserCondition<>(andDescription, andCheck, andScript,
+                bothOf(rest, (Predicate<? super T>) otherCondition.rest));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Predicate<T> or(Predicate<? super T> other) {
+        checkNotNull(other);
+        checkArgument(isDescribed(other),
+                "It seems given predicate doesn't describe any condition. Use method " +
+                        "StoryWriter.condition to describe the OR-condition or override the toString method");
+        if (AS_IS.equals(other)) {
+            return this;
+        }
+
+        String orDescription = format("(%s) or (%s)", description, other);
+        Predicate<T> orCheck = t -> check.test(t) || other.test(t);
+        if (!(other instanceof BrowserCondition) || script == null || rest != null) {
+            return withoutScript(orDescription, orCheck);
+        }
+
+        BrowserCondition<? super T> otherCondition = (BrowserCondition<? super T>) other;
+        if (otherCondition.script == null || otherCondition.rest != null) {
+            return withoutScript(orDescription, orCheck);
+        }
+        return browserCondition(orDescription, orCheck, Script.or(script, otherCondition.script));
+    }
+
+    @Override
+    public Predicate<T> negate() {
+        String notDescription = format("not (%s)", description);
+        Predicate<T> notCheck = t -> !check.test(t);
+        if (script == null || rest != null) {
+            return withoutScript(notDescription, notCheck);
+        }
+        return browserCondition(notDescription, notCheck, Script.not(script));
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    /**
+     * This is the javascript expression which checks an element {@code e}. It may use functions of the object
+     * {@code h} and arguments of the script {@code a}.
+     */
+    interface Script {
+
+        /**
+         * Creates the expression which uses given values as arguments of the script.
+         *
+         * @param expression is the format of the expression. It should contain {@code %s} for each value.
+         *                   Indexes of arguments are substituted.
+         * @param values are values of arguments.
+         * @return created expression.
+         */
+        static Script withArguments(String expression, Object... values) {
+            return arguments -> {
+                Object[] indexes = new Object[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    indexes[i] = arguments.size();
+                    arguments.add(values[i]);
+                }
+                return format(expression, indexes);
+            };
+        }
+
+        static Script and(Script first, Script second) {
+            return arguments -> format("(%s) && (%s)", first.render(arguments), second.render(arguments));
+        }
+
+        static Script or(Script first, Script second) {
+            return arguments -> format("(%s) || (%s)", first.render(arguments), second.render(arguments));
+        }
+
+        static Script not(Script script) {
+            return arguments -> format("!(%s)", script.render(arguments));
+        }
+
+        /**
+         * Returns the expression.
+         *
+         * @param arguments of the script. Values which are used by the expression are added to the list.
+         * @return the text of the expression.
+         */
+        String render(List<Object> arguments);
+    }
+}
@@ -9,6 +9,8 @@ import java.util.regex.Pattern;
 
 import static ru.tinkoff.qa.neptune.core.api.AsIsCondition.AS_IS;
 import static ru.tinkoff.qa.neptune.core.api.StoryWriter.condition;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.BrowserCondition.Script.withArguments;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.BrowserCondition.browserCondition;
 import static ru.tinkoff.qa.neptune.selenium.properties.FlagProperties.FIND_ONLY_VISIBLE_ELEMENTS_WHEN_NO_CONDITION;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -42,7 +44,7 @@ public final class CommonConditions {
      * @return predicate that checks is some element visible or not
      */
     public static <T extends SearchContext> Predicate<T> shouldBeVisible() {
-        return condition("visible", t -> {
+        return browserCondition("visible", t -> {
             Class<?> tClass = t.getClass();
             if (WebElement.class.isAssignableFrom(tClass)) {
                 return WebElement.class.cast(t).isDisplayed();
@@ -62,7 +64,7 @@ public final class CommonConditions {
             throw new UnsupportedOperationException(format("It is impossible to get visibility of the instance of %s. Instance of " +
                             "%s or subclass of %s and %s is expected.", tClass.getName(), WebElement.class.getName(),
                     SearchContext.class.getName(), IsVisible.class.getName()));
-        });
+        }, withArguments("h.isDisplayed(e)"));
     }
 
     /**
@@ -72,7 +74,7 @@ public final class CommonConditions {
      * @return predicate that checks is some element enabled or not
      */
     public static <T extends SearchContext> Predicate<T> shouldBeEnabled() {
-        return condition("enabled", t -> {
+        return browserCondition("enabled", t -> {
             Class<?> tClass = t.getClass();
             if (WebElement.class.isAssignableFrom(tClass)) {
                 return WebElement.class.cast(t).isEnabled();
@@ -92,7 +94,7 @@ public final class CommonConditions {
             throw new UnsupportedOperationException(format("It is impossible to check is instance of %s enable or not. Instance of " +
                             "%s or subclass of %s and %s is expected.", tClass.getName(), WebElement.class.getName(),
                     SearchContext.class.getName(), IsEnabled.class.getName()));
-        });
+        }, withArguments("h.isEnabled(e)"));
     }
 
     /**
@@ -102,8 +104,9 @@ public final class CommonConditions {
     public static  Predicate<WebElement> shouldHaveText(String text) {
         checkArgument(!isBlank(text), "String which is used to check text " +
                 "of an element should not be null or empty. ");
-        return condition(format("has text '%s'", text),
-                webElement -> text.equals(webElement.getText()));
+        return browserCondition(format("has text '%s'", text),
+                webElement -> text.equals(webElement.getText()),
+                withArguments("h.getText(e) === a[%s]", text));
     }
 
     /**
@@ -132,7 +135,7 @@ public final class CommonConditions {
         checkArgument(!isBlank(attribute), "Attribute name should not be empty or null.");
         checkArgument(!isBlank(attrValue), "Attribute value should not be empty or null.");
 
-        return condition(format("has attribute '%s=\"%s\"'", attribute, attrValue), t -> {
+        return browserCondition(format("has attribute '%s=\"%s\"'", attribute, attrValue), t -> {
             Class<?> tClass = t.getClass();
             if (WebElement.class.isAssignableFrom(tClass)) {
                 return attrValue.equals(WebElement.class.cast(t).getAttribute(attribute));
@@ -153,7 +156,7 @@ public final class CommonConditions {
                             "the instance of %s. Instance of " +
                             "%s or subclass of %s and %s is expected.", attribute, tClass.getName(), WebElement.class.getName(),
                     SearchContext.class.getName(), HasAttribute.class.getName()));
-        });
+        }, withArguments("h.getAttribute(e, a[%s]) === a[%s]", attribute, attrValue));
     }
 
     /**
@@ -168,7 +171,7 @@ public final class CommonConditions {
         checkArgument(!isBlank(attribute), "Attribute name should not be empty or null.");
         checkArgument(!isBlank(attrValue), "Attribute value should not be empty or null.");
 
-        return condition(format("has attribute '%s' that contains string '%s'", attribute, attrValue), t -> {
+        return browserCondition(format("has attribute '%s' that contains string '%s'", attribute, attrValue), t -> {
             Class<?> tClass = t.getClass();
             if (WebElement.class.isAssignableFrom(tClass)) {
                 return ofNullable(WebElement.class.cast(t).getAttribute(attribute))
@@ -192,7 +195,7 @@ public final class CommonConditions {
                             "the instance of %s. Instance of " +
                             "%s or subclass of %s and %s is expected.", attribute, tClass.getName(), WebElement.class.getName(),
                     SearchContext.class.getName(), HasAttribute.class.getName()));
-        });
+        }, withArguments("h.contains(h.getAttribute(e, a[%s]), a[%s])", attribute, attrValue));
     }
 
     /**
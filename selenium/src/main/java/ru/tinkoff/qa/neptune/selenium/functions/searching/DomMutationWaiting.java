@@ -0,0 +1,154 @@
+package ru.tinkoff.qa.neptune.selenium.functions.searching;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.internal.WrapsDriver;
+import org.openqa.selenium.internal.WrapsElement;
+import ru.tinkoff.qa.neptune.core.api.conditions.PollingStrategy;
+
+import java.time.Duration;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.Math.min;
+import static java.time.Duration.ofSeconds;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static ru.tinkoff.qa.neptune.core.api.properties.PollingStrategyProperty.POLLING_STRATEGY_PROPERTY;
+
+/**
+ * This strategy of the waiting for elements blocks inside a browser until the DOM of a page is changed instead
+ * of sending commands to the browser at a fixed interval. It installs a {@code MutationObserver} by
+ * {@link JavascriptExecutor#executeAsyncScript(String, Object...)}. The script returns when some element, attribute
+ * or text is changed after the previous waiting, or when the max time of the waiting is expired.
+ * <p>
+ *     The next attempt is never made earlier than the fallback strategy would make it, so pages which are changed
+ *     continuously are not polled more often than usual. The fallback strategy is used instead of the waiting
+ *     for changes when the searching is performed from an object which can't execute scripts or when the script
+ *     is failed (e.g. the script timeout of the browser session is shorter than the max time of the waiting).
+ * </p>
+ * <p>
+ *     Changes which occur before the first waiting on a page are not observed. The max time of the waiting
+ *     limits the delay of the searching in this case. Both times are cut to the remaining time of the searching.
+ * </p>
+ *
+ * @see ru.tinkoff.qa.neptune.selenium.properties.FlagProperties#WAIT_FOR_DOM_MUTATIONS
+ */
+public final class DomMutationWaiting implements PollingStrategy {
+
+    static final String WAIT_FOR_DOM_MUTATION_SCRIPT = "var minMillis = arguments[0];\n" +
+            "var maxMillis = arguments[1];\n" +
+            "var callback = arguments[arguments.length - 1];\n" +
+            "var state = window.__neptuneDomMutations;\n" +
+            "if (!state) {\n" +
+            "    state = window.__neptuneDomMutations = {count: 0, seen: 0, listener: null};\n" +
+            "    new MutationObserver(function () {\n" +
+            "        state.count++;\n" +
+            "        if (state.listener) {\n" +
+            "            state.listener();\n" +
+            "        }\n" +
+            "    }).observe(document, {childList: true, subtree: true, attributes: true, characterData: true});\n" +
+            "}\n" +
+            "var started = new Date().getTime();\n" +
+            "var finished = false;\n" +
+            "function finish(changed) {\n" +
+            "    if (!finished) {\n" +
+            "        finished = true;\n" +
+            "        clearTimeout(timeout);\n" +
+            "        state.listener = null;\n" +
+            "        state.seen = state.count;\n" +
+            "        callback(changed);\n" +
+            "    }\n" +
+            "}\n" +
+            "function onMutation() {\n" +
+            "    state.listener = null;\n" +
+            "    setTimeout(function () {\n" +
+            "        finish(true);\n" +
+            "    }, Math.max(0, minMillis - (new Date().getTime() - started)));\n" +
+            "}\n" +
+            "var timeout = setTimeout(function () {\n" +
+            "    finish(false);\n" +
+            "}, maxMillis);\n" +
+            "if (state.count > state.seen) {\n" +
+            "    onMutation();\n" +
+            "} else {\n" +
+            "    state.listener = onMutation;\n" +
+            "}";
+
+    private static final Duration DEFAULT_MAX_WAITING = ofSeconds(1);
+
+    private final Duration maxWaiting;
+    private final PollingStrategy fallback;
+
+    private DomMutationWaiting(Duration maxWaiting, PollingStrategy fallback) {
+        this.maxWaiting = maxWaiting;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Creates the strategy of the waiting for changes of a page.
+     *
+     * @param maxWaiting is the max duration of the blocking inside a browser. It should not be longer than
+     *                   the script timeout of the browser session.
+     * @param fallback is the strategy which defines min duration between attempts. It is also used when
+     *                 it is not possible to wait for changes of a page.
+     * @return created strategy.
+     */
+    public static DomMutationWaiting domMutations(Duration maxWaiting, PollingStrategy fallback) {
+        checkArgument(maxWaiting != null && !maxWaiting.isNegative() && !maxWaiting.isZero(),
+                "Max time of the waiting for changes should be a positive duration");
+        checkArgument(fallback != null, "Fallback strategy of the polling is not defined");
+        return new DomMutationWaiting(maxWaiting, fallback);
+    }
+
+    /**
+     * Creates the strategy of the waiting for changes of a page. A browser is blocked up to 1 second.
+     * The strategy defined by the property {@code 'polling.strategy'} is used as the fallback one.
+     *
+     * @return created strategy.
+     */
+    public static DomMutationWaiting domMutations() {
+        return domMutations(DEFAULT_MAX_WAITING, POLLING_STRATEGY_PROPERTY.get());
+    }
+
+    static JavascriptExecutor executorOf(Object input) {
+        if (input instanceof WrapsElement) {
+            return executorOf(((WrapsElement) input).getWrappedElement());
+        }
+
+        if (input instanceof JavascriptExecutor) {
+            return (JavascriptExecutor) input;
+        }
+
+        if (input instanceof WrapsDriver) {
+            return executorOf(((WrapsDriver) input).getWrappedDriver());
+        }
+        return null;
+    }
+
+    @Override
+    public Duration sleepingAfter(int attempt) {
+        return fallback.sleepingAfter(attempt);
+    }
+
+    @Override
+    public void waitBeforeNextAttempt(Object input, int attempt, long remainingNanos) throws InterruptedException {
+        if (remainingNanos <= 0) {
+            return;
+        }
+
+        JavascriptExecutor executor = executorOf(input);
+        if (executor != null) {
+            long remainingMillis = NANOSECONDS.toMillis(remainingNanos);
+            try {
+                executor.executeAsyncScript(WAIT_FOR_DOM_MUTATION_SCRIPT,
+                        min(fallback.sleepingAfter(attempt).toMillis(), remainingMillis),
+                        min(maxWaiting.toMillis(), remainingMillis));
+                return;
+            }
+            catch (WebDriverException | UnsupportedOperationException e) {
+                //the page may be reloaded, the script timeout may be too short or scripts
+                //are not supported at all. The usual polling is performed
+            }
+        }
+        fallback.waitBeforeNextAttempt(input, attempt, remainingNanos);
+    }
+}
@@ -7,19 +7,14 @@ import net.sf.cglib.proxy.MethodInterceptor;
 import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
 import org.openqa.selenium.*;
-import org.openqa.selenium.support.FindAll;
-import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.FindBys;
-import org.reflections.Reflections;
+import ru.tinkoff.qa.neptune.selenium.functions.searching.WidgetIndex.Entry;
 
-import java.lang.reflect.Modifier;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
-import static ru.tinkoff.qa.neptune.selenium.functions.searching.FindByBuilder.getAnnotation;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.WidgetIndex.widgetEntries;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.WidgetPriorityComparator.widgetPriorityComparator;
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Optional.ofNullable;
@@ -30,14 +25,13 @@ import static net.sf.cglib.proxy.Enhancer.registerCallbacks;
 class FindWidgets<R extends Widget> implements Function<SearchContext, List<R>> {
 
     private static final FindByBuilder builder = new FindByBuilder();
-    private static final Reflections reflections = new Reflections("");
 
     final Class<? extends R> classOfAWidget;
-    private final Predicate<Class<? extends R>> classPredicate;
+    private final Predicate<Entry> classPredicate;
     private final String conditionString;
     private List<Class<? extends R>> classesToInstantiate;
 
-    FindWidgets(Class<R> classOfAWidget, String conditionString, Predicate<Class<? extends R>> classPredicate) {
+    FindWidgets(Class<R> classOfAWidget, String conditionString, Predicate<Entry> classPredicate) {
         checkArgument(classOfAWidget != null, "The class to be instantiated should be defined.");
         checkArgument(conditionString != null, "Description of the conditions should be defined.");
         this.classOfAWidget = classOfAWidget;
@@ -46,18 +40,7 @@ class FindWidgets<R extends Widget> implements Function<SearchContext, List<R>>
     }
 
     private FindWidgets(Class<R> classOfAWidget, String conditionString) {
-        this(classOfAWidget, conditionString, clazz -> !Modifier.isAbstract(clazz.getModifiers())
-
-                && (getAnnotation(clazz, FindBy.class) != null ||
-                getAnnotation(clazz, FindBys.class) != null ||
-                getAnnotation(clazz, FindAll.class) != null)
-
-                && (Arrays.stream(clazz.getDeclaredConstructors())
-                .filter(constructor -> {
-                    Class<?>[] parameters = constructor.getParameterTypes();
-                    return parameters.length == 1 &&
-                            WebElement.class.isAssignableFrom(parameters[0]);
-                }).collect(toList()).size() > 0));
+        this(classOfAWidget, conditionString, entry -> entry.isInstantiable() && entry.isAnnotated());
     }
 
 
@@ -68,16 +51,22 @@ class FindWidgets<R extends Widget> implements Function<SearchContext, List<R>>
     }
 
     private static <R extends Widget> List<Class<? extends R>> findSubclasses(Class<? extends R> classOfAWidget,
-                                                                              Predicate<Class<? extends R>> classPredicate) {
-        return reflections.getSubTypesOf(classOfAWidget).stream()
+                                                                              Predicate<Entry> classPredicate) {
+        //widgets are described by indexes which are written at the compile time and by the scanning of the rest
+        //of the classpath. Descriptions are cached, so classes are not checked by reflection for each searching
+        return widgetEntries().stream()
+                .filter(entry -> !classOfAWidget.equals(entry.getWidgetClass())
+                        && classOfAWidget.isAssignableFrom(entry.getWidgetClass()))
                 .filter(classPredicate)
-                .sorted(widgetPriorityComparator()).collect(toList());
+                .sorted(widgetPriorityComparator())
+                .map(entry -> (Class<? extends R>) entry.getWidgetClass())
+                .collect(toList());
     }
 
     List<Class<? extends R>> findSubclasses() {
         List<Class<? extends R>> resultList = findSubclasses(classOfAWidget, classPredicate);
 
-        if (classPredicate.test(classOfAWidget)) {
+        if (classPredicate.test(Entry.of(classOfAWidget))) {
             resultList.add(classOfAWidget);
         }
 
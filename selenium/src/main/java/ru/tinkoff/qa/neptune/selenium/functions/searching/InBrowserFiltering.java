@@ -0,0 +1,223 @@
+package ru.tinkoff.qa.neptune.selenium.functions.searching;
+
+import com.google.common.io.Resources;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.synchronizedMap;
+import static ru.tinkoff.qa.neptune.core.api.StoryWriter.condition;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.DomMutationWaiting.executorOf;
+
+/**
+ * This class is designed to check all found web elements by the single script instead of requests to the browser
+ * for each element. Elements which are not accepted by the script are removed from the list of found elements.
+ * Criteria which have no equivalent javascript expression are checked by java for remaining elements.
+ * All criteria are checked by java when elements can't be checked by the script (e.g. the searching finds
+ * widgets, the script is failed or scripts are not supported at all).
+ * <p>
+ *     Visibility and values of attributes are checked by atoms of the WebDriver. Atoms are installed into a page
+ *     once. They are installed again when the page is reloaded. Text of an element is calculated by
+ *     {@code innerText} approximately.
+ * </p>
+ *
+ * @param <T> is a type of found items
+ * @see ru.tinkoff.qa.neptune.selenium.properties.FlagProperties#EVALUATE_CONDITIONS_IN_BROWSER
+ */
+final class InBrowserFiltering<T extends SearchContext> implements Function<SearchContext, List<T>> {
+
+    private static final String FILTER_SCRIPT = "var h = window.__neptuneConditions;\n" +
+            "if (!h) {\n" +
+            "    return null;\n" +
+            "}\n" +
+            "var a = arguments;\n" +
+            "var elements = a[0];\n" +
+            "var result = [];\n" +
+            "for (var i = 0; i < elements.length; i++) {\n" +
+            "    var e = elements[i];\n" +
+            "    if (%s) {\n" +
+            "        result.push(i);\n" +
+            "    }\n" +
+            "}\n" +
+            "return result;";
+
+    private static final String INSTALL_SCRIPT = "window.__neptuneConditions = {\n" +
+            "    isDisplayed: %s,\n" +
+            "    getAttribute: %s,\n" +
+            "    isEnabled: function (e) {\n" +
+            "        return !(e.matches && e.matches(':disabled'));\n" +
+            "    },\n" +
+            "    getText: function (e) {\n" +
+            "        var text = typeof e.innerText === 'string' ? e.innerText : (e.textContent || '');\n" +
+            "        return text.replace(/\\u00a0/g, ' ').split('\\n').map(function (line) {\n" +
+            "            return line.replace(/[ \\t\\r\\f]+/g, ' ').trim();\n" +
+            "        }).join('\\n').trim();\n" +
+            "    },\n" +
+            "    contains: function (value, part) {\n" +
+            "        return value !== null && value !== undefined && String(value).indexOf(part) >= 0;\n" +
+            "    }\n" +
+            "};";
+
+    private static volatile String installScript;
+
+    //elements are checked by the remaining condition in any thread, e.g. in parallel. So the result of the script
+    //is bound to elements instead of the thread which has found them
+    private final Map<T, Boolean> acceptedByScript = synchronizedMap(new WeakHashMap<>());
+    private final Function<SearchContext, List<T>> transformation;
+    private final BrowserCondition<? super T> condition;
+
+    private InBrowserFiltering(Function<SearchContext, List<T>> transformation, BrowserCondition<? super T> condition) {
+        this.transformation = transformation;
+        this.condition = condition;
+    }
+
+    /**
+     * Checks is it possible to check items by the script.
+     *
+     * @param condition to check items
+     * @return {@code true} if the condition has the equivalent javascript expression or some part of
+     * the conjunction has it.
+     */
+    static boolean canBeFilteredInBrowser(Predicate<?> condition) {
+        return condition instanceof BrowserCondition
+                && ((BrowserCondition<?>) condition).getScript() != null
+                && getInstallScript() != null;
+    }
+
+    /**
+     * Creates the searching which checks found web elements by the single script.
+     *
+     * @param transformation is the searching for items
+     * @param condition to check items. It is expected that {@link #canBeFilteredInBrowser(Predicate)} returns
+     *                  {@code true} for the condition.
+     * @param <T> is a type of found items
+     * @return the searching which removes elements which are not accepted by the script.
+     */
+    static <T extends SearchContext> InBrowserFiltering<T> filterInBrowser(Function<SearchContext, List<T>> transformation,
+                                                                          Predicate<? super T> condition) {
+        return new InBrowserFiltering<>(transformation, (BrowserCondition<? super T>) condition);
+    }
+
+    private static String getInstallScript() {
+        if (installScript != null) {
+            return installScript.isEmpty() ? null : installScript;
+        }
+
+        synchronized (InBrowserFiltering.class) {
+            if (installScript == null) {
+                URL isDisplayed = RemoteWebElement.class.getResource("isDisplayed.js");
+                URL getAttribute = RemoteWebElement.class.getResource("getAttribute.js");
+                if (isDisplayed == null || getAttribute == null) {
+                    //atoms are not provided by the current version of selenium. Elements are checked by java
+                    installScript = "";
+                }
+                else {
+                    try {
+                        installScript = format(INSTALL_SCRIPT, Resources.toString(isDisplayed, UTF_8),
+                                Resources.toString(getAttribute, UTF_8));
+                    } catch (IOException e) {
+                        installScript = "";
+                    }
+                }
+            }
+            return installScript.isEmpty() ? null : installScript;
+        }
+    }
+
+    /**
+     * Returns the condition which is checked by java for elements which are found by this function.
+     * It has the same description as the original condition.
+     *
+     * @return criteria which are not checked by the script. All criteria are checked for elements which have not
+     * been accepted by the script during the last searching.
+     */
+    Predicate<T> remainingCondition() {
+        Predicate<? super T> rest = condition.getRest();
+        return condition(condition.toString(), t -> {
+            if (Boolean.TRUE.equals(acceptedByScript.get(t))) {
+                return rest == null || rest.test(t);
+            }
+            return condition.test(t);
+        });
+    }
+
+    @Override
+    public List<T> apply(SearchContext searchContext) {
+        List<T> found = transformation.apply(searchContext);
+        if (found == null) {
+            return null;
+        }
+
+        List<T> all = new ArrayList<>(found);
+        boolean isFiltered = filter(searchContext, found);
+        synchronized (acceptedByScript) {
+            all.forEach(t -> acceptedByScript.put(t, false));
+            if (isFiltered) {
+                found.forEach(t -> acceptedByScript.put(t, true));
+            }
+        }
+        return found;
+    }
+
+    private boolean filter(SearchContext searchContext, List<T> found) {
+        if (found.isEmpty() || !found.stream().allMatch(WebElement.class::isInstance)) {
+            return false;
+        }
+
+        JavascriptExecutor executor = executorOf(searchContext);
+        if (executor == null) {
+            return false;
+        }
+
+        List<Object> arguments = new ArrayList<>();
+        arguments.add(new ArrayList<>(found));
+        String script = format(FILTER_SCRIPT, condition.getScript().render(arguments));
+        try {
+            Object result = executor.executeScript(script, arguments.toArray());
+            if (result == null) {
+                //the page was reloaded or it is the first checking on the page
+                executor.executeScript(getInstallScript());
+                result = executor.executeScript(script, arguments.toArray());
+            }
+
+            if (!(result instanceof List)) {
+                return false;
+            }
+
+            Set<Integer> accepted = new HashSet<>();
+            for (Object index: (List<?>) result) {
+                if (!(index instanceof Number)) {
+                    return false;
+                }
+                accepted.add(((Number) index).intValue());
+            }
+
+            //the list is changed itself because it may describe found elements
+            for (int i = found.size() - 1; i >= 0; i--) {
+                if (!accepted.contains(i)) {
+                    found.remove(i);
+                }
+            }
+            return true;
+        }
+        catch (WebDriverException | UnsupportedOperationException e) {
+            //some element may be stale or scripts are not supported at all. Elements are checked by java
+            return false;
+        }
+    }
+}
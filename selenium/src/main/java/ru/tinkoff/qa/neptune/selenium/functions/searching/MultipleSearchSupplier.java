@@ -23,7 +23,12 @@ import static ru.tinkoff.qa.neptune.selenium.api.widget.Widget.getWidgetName;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonConditions.defaultPredicate;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonConditions.shouldBeLabeledBy;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonConditions.shouldHaveText;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.DomMutationWaiting.domMutations;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.FindLabeledWidgets.labeledWidgets;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.InBrowserFiltering.canBeFilteredInBrowser;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.InBrowserFiltering.filterInBrowser;
+import static ru.tinkoff.qa.neptune.selenium.properties.FlagProperties.EVALUATE_CONDITIONS_IN_BROWSER;
+import static ru.tinkoff.qa.neptune.selenium.properties.FlagProperties.WAIT_FOR_DOM_MUTATIONS;
 import static ru.tinkoff.qa.neptune.selenium.properties.WaitingProperties.ELEMENT_WAITING_DURATION;
 import static java.lang.String.format;
 import static java.util.List.of;
@@ -56,7 +61,19 @@ public final class MultipleSearchSupplier<R extends SearchContext> extends
     public static <T extends SearchContext> MultipleSearchSupplier<T> items(String description,
                                                                             Function<SearchContext,List<T>> transformation,
                                                                             Duration duration, Predicate<? super T> condition) {
-        return new MultipleSearchSupplier<>(getIterable(description, transformation, condition, duration, false, true));
+        Function<SearchContext, List<T>> toFind = transformation;
+        Predicate<? super T> toCheck = condition;
+        if (EVALUATE_CONDITIONS_IN_BROWSER.get() && canBeFilteredInBrowser(condition)) {
+            InBrowserFiltering<T> filtering = filterInBrowser(transformation, condition);
+            toFind = filtering;
+            toCheck = filtering.remainingCondition();
+        }
+
+        if (WAIT_FOR_DOM_MUTATIONS.get()) {
+            return new MultipleSearchSupplier<>(getIterable(description, toFind, toCheck, duration,
+                    domMutations(), false, true));
+        }
+        return new MultipleSearchSupplier<>(getIterable(description, toFind, toCheck, duration, false, true));
     }
 
     /**
@@ -21,9 +21,14 @@ import static ru.tinkoff.qa.neptune.selenium.api.widget.Widget.getWidgetName;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonConditions.defaultPredicate;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonConditions.shouldBeLabeledBy;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonConditions.shouldHaveText;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.DomMutationWaiting.domMutations;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.FindLabeledWidgets.labeledWidgets;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.FindWebElements.webElements;
 import static ru.tinkoff.qa.neptune.selenium.functions.searching.FindWidgets.widgets;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.InBrowserFiltering.canBeFilteredInBrowser;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.InBrowserFiltering.filterInBrowser;
+import static ru.tinkoff.qa.neptune.selenium.properties.FlagProperties.EVALUATE_CONDITIONS_IN_BROWSER;
+import static ru.tinkoff.qa.neptune.selenium.properties.FlagProperties.WAIT_FOR_DOM_MUTATIONS;
 import static ru.tinkoff.qa.neptune.selenium.properties.WaitingProperties.ELEMENT_WAITING_DURATION;
 import static java.lang.String.format;
 import static java.util.List.of;
@@ -68,8 +73,21 @@ public final class SearchSupplier<R extends SearchContext>
     public static <T extends SearchContext> SearchSupplier<T> item(String description,
                                                                    Function<SearchContext, List<T>> transformation,
                                                                    Duration duration, Predicate<? super T> condition) {
+        Function<SearchContext, List<T>> toFind = transformation;
+        Predicate<? super T> toCheck = condition;
+        if (EVALUATE_CONDITIONS_IN_BROWSER.get() && canBeFilteredInBrowser(condition)) {
+            InBrowserFiltering<T> filtering = filterInBrowser(transformation, condition);
+            toFind = filtering;
+            toCheck = filtering.remainingCondition();
+        }
+
+        if (WAIT_FOR_DOM_MUTATIONS.get()) {
+            return new SearchSupplier<>(getFromIterable(description,
+                    toFind, toCheck, duration, domMutations(), false, true,
+                    noSuchElementException(description, condition)));
+        }
         return new SearchSupplier<>(getFromIterable(description,
-                transformation, condition, duration, false, true,
+                toFind, toCheck, duration, false, true,
                 noSuchElementException(description, condition)));
     }
 
@@ -6,15 +6,36 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static ru.tinkoff.qa.neptune.core.api.conditions.PollingAttempt.currentAttempt;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
+/**
+ * Intercepts invocations of methods of a found web element. Properties of the element (text, values of attributes
+ * and css properties, visibility etc.) which are read during an attempt of the waiting are memoized until the attempt
+ * is finished. So several conditions or matchers which check the element during the same attempt send each request
+ * to the browser once. Memoized values are dropped when the element is clicked, submitted, cleared or edited.
+ * Properties are always read from the browser out of the waiting.
+ *
+ * @see ru.tinkoff.qa.neptune.core.api.conditions.PollingAttempt
+ */
 class WebElementInterceptor implements MethodInterceptor {
 
+    private static final Set<String> PROPERTY_READS = Set.of("getText", "getAttribute", "getCssValue",
+            "getTagName", "isDisplayed", "isEnabled", "isSelected");
+    private static final Set<String> ACTIONS = Set.of("click", "submit", "clear", "sendKeys");
+
     private final WebElement element;
     private final By by;
     private final String description;
+    private final Map<List<Object>, Object> snapshot = new HashMap<>();
+    private Object snapshotAttempt;
 
     WebElementInterceptor(WebElement element, By by, String description) {
         this.element = element;
@@ -45,6 +66,41 @@ class WebElementInterceptor implements MethodInterceptor {
             return result;
         }
 
-        return method.invoke(element, args);
+        Object attempt = currentAttempt().orElse(null);
+        String name = method.getName();
+        if (ACTIONS.contains(name)) {
+            clearSnapshot();
+        }
+
+        if (attempt == null || !PROPERTY_READS.contains(name)) {
+            return method.invoke(element, args);
+        }
+
+        List<Object> key = asList(name, asList(args));
+        synchronized (snapshot) {
+            if (attempt != snapshotAttempt) {
+                snapshot.clear();
+                snapshotAttempt = attempt;
+            }
+            else if (snapshot.containsKey(key)) {
+                return snapshot.get(key);
+            }
+        }
+
+        Object value = method.invoke(element, args);
+        synchronized (snapshot) {
+            //the snapshot may be dropped by an action while the property was being read
+            if (attempt == snapshotAttempt) {
+                snapshot.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    private void clearSnapshot() {
+        synchronized (snapshot) {
+            snapshot.clear();
+            snapshotAttempt = null;
+        }
     }
 }
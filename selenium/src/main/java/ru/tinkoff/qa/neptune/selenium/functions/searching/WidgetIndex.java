@@ -0,0 +1,230 @@
+package ru.tinkoff.qa.neptune.selenium.functions.searching;
+
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.reflections.Reflections;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.util.ConfigurationBuilder;
+import ru.tinkoff.qa.neptune.selenium.api.widget.Labeled;
+import ru.tinkoff.qa.neptune.selenium.api.widget.Priority;
+import ru.tinkoff.qa.neptune.selenium.api.widget.Widget;
+import ru.tinkoff.qa.neptune.selenium.api.widget.WidgetIndexProcessor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.util.*;
+
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Integer.parseInt;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.list;
+import static java.util.Collections.synchronizedMap;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
+import static org.reflections.util.ClasspathHelper.forPackage;
+import static ru.tinkoff.qa.neptune.selenium.api.widget.WidgetIndexProcessor.WIDGET_INDEX;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.FindByBuilder.getAnnotation;
+
+/**
+ * Reads indexes of widgets which are written by {@link WidgetIndexProcessor}. Roots of the classpath which have
+ * no index (e.g. classes or jars which are compiled without the processor) are scanned. Found widgets are described
+ * by {@link Entry} and cached for each class loader, so classes are loaded and checked once.
+ */
+final class WidgetIndex {
+
+    //entries refer to the class loader. Soft references let the class loader be collected
+    private static final Map<ClassLoader, SoftReference<List<Entry>>> WIDGETS = synchronizedMap(new WeakHashMap<>());
+
+    private WidgetIndex() {
+        super();
+    }
+
+    private static ClassLoader classLoader() {
+        return ofNullable(Thread.currentThread().getContextClassLoader())
+                .orElseGet(WidgetIndex.class::getClassLoader);
+    }
+
+    private static Entry entryOf(String line, ClassLoader classLoader) {
+        String[] values = line.split("\t");
+        String name = values[0].trim();
+        if (name.isEmpty()) {
+            return null;
+        }
+
+        Class<? extends Widget> widgetClass;
+        try {
+            Class<?> clazz = Class.forName(name, false, classLoader);
+            if (!Widget.class.isAssignableFrom(clazz)) {
+                return null;
+            }
+            widgetClass = clazz.asSubclass(Widget.class);
+        }
+        catch (ClassNotFoundException | LinkageError e) {
+            //the index may describe classes which are not available anymore
+            return null;
+        }
+
+        if (values.length < 4) {
+            return Entry.of(widgetClass);
+        }
+
+        try {
+            return new Entry(widgetClass, !"-".equals(values[1]), parseInt(values[2]), parseBoolean(values[3]));
+        }
+        catch (NumberFormatException e) {
+            return Entry.of(widgetClass);
+        }
+    }
+
+    private static List<Entry> readWidgets(ClassLoader classLoader) {
+        Map<String, Entry> result = new LinkedHashMap<>();
+        Set<String> indexedRoots = new HashSet<>();
+        List<URL> indexes;
+        try {
+            indexes = list(classLoader.getResources(WIDGET_INDEX));
+        }
+        catch (IOException e) {
+            indexes = List.of();
+        }
+
+        for (URL index: indexes) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    ofNullable(entryOf(line, classLoader))
+                            .ifPresent(entry -> result.putIfAbsent(entry.getWidgetClass().getName(), entry));
+                }
+                String url = index.toExternalForm();
+                indexedRoots.add(url.substring(0, url.length() - WIDGET_INDEX.length()));
+            }
+            catch (IOException e) {
+                //the root is scanned when its index can't be read
+            }
+        }
+
+        //the same roots are scanned as the searching scanned before indexes
+        List<URL> notIndexedRoots = forPackage("", classLoader).stream()
+                .filter(root -> !indexedRoots.contains(root.toExternalForm()))
+                .collect(toList());
+        if (!notIndexedRoots.isEmpty()) {
+            //super types which are not scanned are expanded, so widgets may extend widgets of indexed roots
+            new Reflections(new ConfigurationBuilder()
+                    .setUrls(notIndexedRoots)
+                    .addClassLoader(classLoader)
+                    .setScanners(new SubTypesScanner()))
+                    .getSubTypesOf(Widget.class)
+                    .stream()
+                    .filter(clazz -> !Modifier.isAbstract(clazz.getModifiers()))
+                    .forEach(clazz -> result.putIfAbsent(clazz.getName(), Entry.of(clazz)));
+        }
+        return unmodifiableList(new ArrayList<>(result.values()));
+    }
+
+    /**
+     * Returns non-abstract subclasses of {@link Widget} which are described by indexes or found by the scanning
+     * of roots of the classpath which have no index.
+     *
+     * @return list of found widgets.
+     */
+    static List<Entry> widgetEntries() {
+        ClassLoader classLoader = classLoader();
+        synchronized (WIDGETS) {
+            List<Entry> widgets = ofNullable(WIDGETS.get(classLoader)).map(SoftReference::get).orElse(null);
+            if (widgets == null) {
+                widgets = readWidgets(classLoader);
+                WIDGETS.put(classLoader, new SoftReference<>(widgets));
+            }
+            return widgets;
+        }
+    }
+
+    /**
+     * Describes a subclass of {@link Widget} by values which are used by the searching for widgets. Values
+     * of indexed classes are read from the index.
+     */
+    static final class Entry {
+        private final Class<? extends Widget> widgetClass;
+        private final boolean annotated;
+        private final boolean labeled;
+        private final boolean instantiable;
+        private volatile Integer priority;
+
+        private Entry(Class<? extends Widget> widgetClass, boolean annotated, Integer priority, boolean labeled) {
+            this.widgetClass = widgetClass;
+            this.annotated = annotated;
+            this.priority = priority;
+            this.labeled = labeled;
+            this.instantiable = !Modifier.isAbstract(widgetClass.getModifiers()) && hasWidgetConstructor(widgetClass);
+        }
+
+        private static boolean hasWidgetConstructor(Class<? extends Widget> widgetClass) {
+            try {
+                return Arrays.stream(widgetClass.getDeclaredConstructors()).anyMatch(constructor -> {
+                    Class<?>[] parameters = constructor.getParameterTypes();
+                    return parameters.length == 1 && WebElement.class.isAssignableFrom(parameters[0]);
+                });
+            }
+            catch (LinkageError e) {
+                //types of parameters may be absent
+                return false;
+            }
+        }
+
+        /**
+         * Describes a class by reflection.
+         *
+         * @param widgetClass is a subclass of {@link Widget}
+         * @return description of the class
+         */
+        static Entry of(Class<? extends Widget> widgetClass) {
+            return new Entry(widgetClass,
+                    getAnnotation(widgetClass, FindBy.class) != null
+                            || getAnnotation(widgetClass, FindBys.class) != null
+                            || getAnnotation(widgetClass, FindAll.class) != null,
+                    null,
+                    Labeled.class.isAssignableFrom(widgetClass));
+        }
+
+        Class<? extends Widget> getWidgetClass() {
+            return widgetClass;
+        }
+
+        /**
+         * @return {@code true} when the class or its superclass is annotated by any
+         * {@code org.openqa.selenium.support.Find*} annotation
+         */
+        boolean isAnnotated() {
+            return annotated;
+        }
+
+        /**
+         * @return the priority of the searching for the widget. The priority of a class which is not indexed is
+         * read when it is necessary, so a wrong value fails only the searching for this class.
+         */
+        int getPriority() {
+            if (priority == null) {
+                priority = Priority.Reader.getPriority(widgetClass);
+            }
+            return priority;
+        }
+
+        boolean isLabeled() {
+            return labeled;
+        }
+
+        /**
+         * @return {@code true} when the class is not abstract and it has a constructor with the only parameter
+         * of a type extending {@link WebElement}
+         */
+        boolean isInstantiable() {
+            return instantiable;
+        }
+    }
+}
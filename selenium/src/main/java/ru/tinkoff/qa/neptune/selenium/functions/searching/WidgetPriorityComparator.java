@@ -1,21 +1,19 @@
 package ru.tinkoff.qa.neptune.selenium.functions.searching;
 
-import ru.tinkoff.qa.neptune.selenium.api.widget.Widget;
+import ru.tinkoff.qa.neptune.selenium.functions.searching.WidgetIndex.Entry;
 
 import java.util.Comparator;
 
-import static ru.tinkoff.qa.neptune.selenium.api.widget.Priority.Reader.getPriority;
-
-class WidgetPriorityComparator implements Comparator<Class<? extends Widget>> {
+class WidgetPriorityComparator implements Comparator<Entry> {
 
     static WidgetPriorityComparator widgetPriorityComparator() {
         return new WidgetPriorityComparator();
     }
 
     @Override
-    public int compare(Class<? extends Widget> o1, Class<? extends Widget> o2) {
-        int priority1 = getPriority(o1);
-        int priority2 = getPriority(o2);
+    public int compare(Entry o1, Entry o2) {
+        int priority1 = o1.getPriority();
+        int priority2 = o2.getPriority();
         return Integer.compare(priority1, priority2);
     }
 }
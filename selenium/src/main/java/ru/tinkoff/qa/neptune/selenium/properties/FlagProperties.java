@@ -43,7 +43,26 @@ public enum FlagProperties implements PropertySupplier<Boolean> {
      * This enum item reads the property {@code 'force.window.maximizing.on.start'}. It means that browser window is
      * maximized on each starting when value is {@code true}.
      */
-    FORCE_WINDOW_MAXIMIZING_ON_START("force.window.maximizing.on.start");
+    FORCE_WINDOW_MAXIMIZING_ON_START("force.window.maximizing.on.start"),
+
+    /**
+     * This enum item reads the property {@code 'wait.for.dom.mutations'}. It means that the searching for elements
+     * waits for changes of a page between attempts instead of the sleeping when value is {@code true}.
+     * The script timeout of the browser session should not be shorter than 1 second in this case.
+     * @see ru.tinkoff.qa.neptune.selenium.functions.searching.DomMutationWaiting
+     * @see WebDriver.Timeouts#setScriptTimeout(long, java.util.concurrent.TimeUnit)
+     */
+    WAIT_FOR_DOM_MUTATIONS("wait.for.dom.mutations"),
+
+    /**
+     * This enum item reads the property {@code 'evaluate.conditions.in.browser'}. It means that the searching for
+     * web elements checks visibility, availability, text and attributes of all found elements by the single
+     * script when value is {@code true}. Other criteria are checked by usual requests to the browser.
+     * Text of an element is calculated by the script approximately. It is recommended to use the property when
+     * pages are big and elements are checked slowly.
+     * @see ru.tinkoff.qa.neptune.selenium.functions.searching.CommonConditions
+     */
+    EVALUATE_CONDITIONS_IN_BROWSER("evaluate.conditions.in.browser");
 
     private final String propertyName;
 
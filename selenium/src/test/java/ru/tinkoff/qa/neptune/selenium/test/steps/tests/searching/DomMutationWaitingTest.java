@@ -0,0 +1,108 @@
+package ru.tinkoff.qa.neptune.selenium.test.steps.tests.searching;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
+import org.openqa.selenium.internal.WrapsElement;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.selenium.test.BaseWebDriverTest;
+import ru.tinkoff.qa.neptune.selenium.test.RetryAnalyzer;
+
+import static java.lang.System.currentTimeMillis;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.openqa.selenium.By.className;
+import static ru.tinkoff.qa.neptune.core.api.conditions.PollingStrategy.fixed;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.DomMutationWaiting.domMutations;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.SearchSupplier.webElement;
+import static ru.tinkoff.qa.neptune.selenium.properties.FlagProperties.WAIT_FOR_DOM_MUTATIONS;
+
+public class DomMutationWaitingTest extends BaseWebDriverTest {
+
+    private static WebDriver scriptExecutingDriver() {
+        return mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        removeProperty(WAIT_FOR_DOM_MUTATIONS.getPropertyName());
+    }
+
+    @Test
+    public void scriptIsExecutedInsteadOfSleepingTest() throws InterruptedException {
+        WebDriver driver = scriptExecutingDriver();
+        long start = currentTimeMillis();
+        domMutations(ONE_SECOND, fixed(FIVE_SECONDS)).waitBeforeNextAttempt(driver, 1, FIVE_SECONDS.toNanos());
+
+        assertThat("Spent time in millis", currentTimeMillis() - start, lessThan(HALF_SECOND.toMillis()));
+        verify((JavascriptExecutor) driver).executeAsyncScript(anyString(),
+                eq(FIVE_SECONDS.toMillis()), eq(ONE_SECOND.toMillis()));
+    }
+
+    @Test
+    public void scriptIsExecutedByDriverOfWrappedElementTest() throws InterruptedException {
+        WebDriver driver = scriptExecutingDriver();
+        WebElement element = mock(WebElement.class, withSettings().extraInterfaces(WrapsDriver.class));
+        when(((WrapsDriver) element).getWrappedDriver()).thenReturn(driver);
+        WrapsElement widget = mock(WrapsElement.class);
+        when(widget.getWrappedElement()).thenReturn(element);
+
+        domMutations(ONE_SECOND, fixed(HALF_SECOND)).waitBeforeNextAttempt(widget, 1, FIVE_SECONDS.toNanos());
+        verify((JavascriptExecutor) driver).executeAsyncScript(anyString(),
+                eq(HALF_SECOND.toMillis()), eq(ONE_SECOND.toMillis()));
+    }
+
+    @Test
+    public void waitingIsCutToRemainingTimeTest() throws InterruptedException {
+        WebDriver driver = scriptExecutingDriver();
+        domMutations(ONE_SECOND, fixed(FIVE_SECONDS)).waitBeforeNextAttempt(driver, 1, HALF_SECOND.toNanos());
+        verify((JavascriptExecutor) driver).executeAsyncScript(anyString(),
+                eq(HALF_SECOND.toMillis()), eq(HALF_SECOND.toMillis()));
+
+        long start = currentTimeMillis();
+        domMutations(ONE_SECOND, fixed(FIVE_SECONDS)).waitBeforeNextAttempt(mock(WebElement.class), 1,
+                HALF_SECOND.toNanos());
+        assertThat("Spent time in millis", currentTimeMillis() - start, lessThan(ONE_SECOND.toMillis()));
+    }
+
+    @Test
+    public void sleepingWhenScriptCanNotBeExecutedTest() throws InterruptedException {
+        long start = currentTimeMillis();
+        domMutations(ONE_SECOND, fixed(HALF_SECOND)).waitBeforeNextAttempt(mock(WebElement.class), 1,
+                FIVE_SECONDS.toNanos());
+        assertThat("Spent time in millis", currentTimeMillis() - start, greaterThanOrEqualTo(HALF_SECOND.toMillis()));
+    }
+
+    @Test
+    public void sleepingWhenScriptIsFailedTest() throws InterruptedException {
+        WebDriver driver = scriptExecutingDriver();
+        when(((JavascriptExecutor) driver).executeAsyncScript(anyString(), any(), any()))
+                .thenThrow(new WebDriverException("Script timeout"));
+
+        long start = currentTimeMillis();
+        domMutations(ONE_SECOND, fixed(HALF_SECOND)).waitBeforeNextAttempt(driver, 1, FIVE_SECONDS.toNanos());
+        assertThat("Spent time in millis", currentTimeMillis() - start, greaterThanOrEqualTo(HALF_SECOND.toMillis()));
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class, retryAnalyzer = RetryAnalyzer.class)
+    public void searchingWithWaitingForMutationsTest() {
+        setProperty(WAIT_FOR_DOM_MUTATIONS.getPropertyName(), "true");
+        setStartBenchMark();
+        try {
+            seleniumSteps.find(webElement(className("fakeClass"), ONE_SECOND));
+        }
+        finally {
+            setEndBenchMark();
+            assertThat(getTimeDifference(), greaterThanOrEqualTo(ONE_SECOND.toMillis()));
+            assertThat(getTimeDifference() - ONE_SECOND.toMillis(), lessThan(HALF_SECOND.toMillis()));
+        }
+    }
+}
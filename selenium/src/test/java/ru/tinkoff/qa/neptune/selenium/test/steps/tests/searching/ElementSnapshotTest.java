@@ -0,0 +1,97 @@
+package ru.tinkoff.qa.neptune.selenium.test.steps.tests.searching;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.selenium.test.BaseWebDriverTest;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.openqa.selenium.By.tagName;
+import static ru.tinkoff.qa.neptune.core.api.StoryWriter.condition;
+import static ru.tinkoff.qa.neptune.core.api.conditions.ToGetSingleCheckedObject.getSingle;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonConditions.shouldBeVisible;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonConditions.shouldHaveAttribute;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonConditions.shouldHaveAttributeContains;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonConditions.shouldHaveText;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.MultipleSearchSupplier.webElements;
+
+public class ElementSnapshotTest extends BaseWebDriverTest {
+
+    private WebDriver driver;
+    private WebElement element;
+
+    private static Predicate<WebElement> visible() {
+        return shouldBeVisible();
+    }
+
+    @BeforeMethod
+    public void prepare() {
+        element = mock(WebElement.class);
+        when(element.getText()).thenReturn("Text");
+        when(element.getAttribute("class")).thenReturn("value");
+        when(element.isDisplayed()).thenReturn(true);
+        driver = mock(WebDriver.class);
+        when(driver.findElements(any())).thenReturn(List.of(element));
+    }
+
+    private WebElement findElement() {
+        return webElements(tagName("div"), HALF_SECOND, visible()).get().apply(driver).get(0);
+    }
+
+    @Test
+    public void propertiesAreReadOncePerAttemptTest() {
+        List<WebElement> found = webElements(tagName("div"), HALF_SECOND, visible()
+                .and(shouldHaveText("Text"))
+                .and(condition("has text 'Text' once more", e -> "Text".equals(e.getText())))
+                .and(shouldHaveAttribute("class", "value"))
+                .and(shouldHaveAttributeContains("class", "val")))
+                .get().apply(driver);
+
+        assertThat(found, hasSize(1));
+        verify(element, times(1)).isDisplayed();
+        verify(element, times(1)).getText();
+        verify(element, times(1)).getAttribute("class");
+    }
+
+    @Test
+    public void propertiesAreReadAgainByNextAttemptTest() {
+        WebElement found = findElement();
+        getSingle("Text", o -> found.getText(), condition("has text 'Text' twice",
+                s -> "Text".equals(found.getText())), HALF_SECOND, false, () -> new IllegalStateException("No text"))
+                .apply(new Object());
+        getSingle("Text", o -> found.getText(), HALF_SECOND, () -> new IllegalStateException("No text"))
+                .apply(new Object());
+
+        verify(element, times(2)).getText();
+    }
+
+    @Test
+    public void propertiesAreReadAgainAfterActionTest() {
+        WebElement found = findElement();
+        getSingle("Text", o -> {
+            found.getText();
+            found.click();
+            return found.getText();
+        }, HALF_SECOND, () -> new IllegalStateException("No text")).apply(new Object());
+
+        verify(element, times(2)).getText();
+    }
+
+    @Test
+    public void propertiesAreReadEachTimeOutOfWaitingTest() {
+        WebElement found = findElement();
+        found.getText();
+        found.getText();
+        found.isDisplayed();
+
+        verify(element, times(2)).getText();
+        verify(element, times(2)).isDisplayed();
+    }
+}
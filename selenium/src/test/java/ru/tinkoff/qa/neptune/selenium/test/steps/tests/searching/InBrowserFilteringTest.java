@@ -0,0 +1,159 @@
+package ru.tinkoff.qa.neptune.selenium.test.steps.tests.searching;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.selenium.test.BaseWebDriverTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+import static ru.tinkoff.qa.neptune.core.api.StoryWriter.condition;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonConditions.shouldBeVisible;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonConditions.shouldHaveAttribute;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.CommonConditions.shouldHaveText;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.MultipleSearchSupplier.items;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.SearchSupplier.item;
+import static ru.tinkoff.qa.neptune.selenium.properties.FlagProperties.EVALUATE_CONDITIONS_IN_BROWSER;
+
+public class InBrowserFilteringTest extends BaseWebDriverTest {
+
+    private static final Predicate<WebElement> VISIBLE_WITH_TEXT_AND_ATTRIBUTE = visible()
+            .and(shouldHaveText("Text"))
+            .and(shouldHaveAttribute("class", "value"));
+
+    private WebDriver driver;
+    private JavascriptExecutor executor;
+    private WebElement first;
+    private WebElement second;
+    private WebElement third;
+
+    private static Predicate<WebElement> visible() {
+        return shouldBeVisible();
+    }
+
+    @BeforeMethod
+    public void prepare() {
+        setProperty(EVALUATE_CONDITIONS_IN_BROWSER.getPropertyName(), "true");
+        driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        executor = (JavascriptExecutor) driver;
+        first = mock(WebElement.class);
+        second = mock(WebElement.class);
+        third = mock(WebElement.class);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        removeProperty(EVALUATE_CONDITIONS_IN_BROWSER.getPropertyName());
+    }
+
+    private List<WebElement> findElements(Predicate<? super WebElement> condition) {
+        return items("Elements", searchContext -> new ArrayList<>(List.of(first, second, third)),
+                HALF_SECOND, condition).get().apply(driver);
+    }
+
+    private void verifyNoRequestsToElements() {
+        verify(first, never()).isDisplayed();
+        verify(second, never()).isDisplayed();
+        verify(third, never()).isDisplayed();
+        verify(second, never()).getText();
+        verify(second, never()).getAttribute(anyString());
+    }
+
+    @Test
+    public void elementsAreCheckedBySingleScriptTest() {
+        when(executor.executeScript(anyString(), any())).thenReturn(List.of(1L, 2L));
+
+        assertThat(findElements(VISIBLE_WITH_TEXT_AND_ATTRIBUTE), contains(second, third));
+        verify(executor, times(1)).executeScript(anyString(), any());
+        verifyNoRequestsToElements();
+    }
+
+    @Test
+    public void firstElementIsCheckedBySingleScriptTest() {
+        when(executor.executeScript(anyString(), any())).thenReturn(List.of(1L, 2L));
+
+        assertThat(item("Element", searchContext -> new ArrayList<>(List.of(first, second, third)),
+                HALF_SECOND, VISIBLE_WITH_TEXT_AND_ATTRIBUTE).get().apply(driver), is(second));
+        verifyNoRequestsToElements();
+    }
+
+    @Test
+    public void conditionsAreInstalledIntoPageTest() {
+        when(executor.executeScript(anyString(), any())).thenReturn(null, null, List.of(0L));
+
+        assertThat(findElements(VISIBLE_WITH_TEXT_AND_ATTRIBUTE), contains(first));
+        verify(executor, times(1)).executeScript(contains("window.__neptuneConditions = {"), any());
+        verifyNoRequestsToElements();
+    }
+
+    @Test
+    public void restOfConditionIsCheckedForAcceptedElementsTest() {
+        when(executor.executeScript(anyString(), any())).thenReturn(List.of(0L, 1L));
+        when(first.getTagName()).thenReturn("span");
+        when(second.getTagName()).thenReturn("div");
+
+        assertThat(findElements(visible().and(condition("is div", e -> "div".equals(e.getTagName())))),
+                contains(second));
+        verify(third, never()).getTagName();
+        verifyNoRequestsToElements();
+    }
+
+    @Test
+    public void elementsAreCheckedOneByOneWhenScriptIsFailedTest() {
+        when(executor.executeScript(anyString(), any())).thenThrow(new WebDriverException("Stale element"));
+        when(second.isDisplayed()).thenReturn(true);
+
+        assertThat(findElements(visible()), contains(second));
+        verify(first).isDisplayed();
+        verify(third).isDisplayed();
+    }
+
+    @Test
+    public void acceptedElementIsCheckedByJavaWhenNextScriptIsFailedTest() {
+        when(executor.executeScript(anyString(), any())).thenReturn(List.of(1L))
+                .thenThrow(new WebDriverException("Stale element"));
+
+        Function<SearchContext, List<WebElement>> search = items("Elements",
+                searchContext -> new ArrayList<>(List.of(first, second, third)), HALF_SECOND, visible()).get();
+
+        assertThat(search.apply(driver), contains(second));
+        verify(second, never()).isDisplayed();
+
+        assertThat(search.apply(driver), empty());
+        verify(second, atLeastOnce()).isDisplayed();
+    }
+
+    @Test
+    public void conditionWithoutScriptIsCheckedOneByOneTest() {
+        when(second.isDisplayed()).thenReturn(true);
+
+        assertThat(findElements(visible().or(condition("is div", e -> "div".equals(e.getTagName())))),
+                contains(second));
+        verify(executor, never()).executeScript(anyString(), any());
+    }
+
+    @Test
+    public void elementsAreCheckedOneByOneWhenPropertyIsNotDefinedTest() {
+        removeProperty(EVALUATE_CONDITIONS_IN_BROWSER.getPropertyName());
+        when(second.isDisplayed()).thenReturn(true);
+
+        assertThat(findElements(visible()), contains(second));
+        verify(executor, never()).executeScript(anyString(), any());
+    }
+}
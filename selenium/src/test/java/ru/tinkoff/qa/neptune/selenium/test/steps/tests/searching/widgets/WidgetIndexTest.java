@@ -0,0 +1,177 @@
+package ru.tinkoff.qa.neptune.selenium.test.steps.tests.searching.widgets;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.selenium.api.widget.WidgetIndexProcessor;
+import ru.tinkoff.qa.neptune.selenium.api.widget.drafts.Button;
+import ru.tinkoff.qa.neptune.selenium.test.BaseWebDriverTest;
+import ru.tinkoff.qa.neptune.selenium.test.steps.tests.searching.widgets.buttons.CustomizedButton;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static javax.tools.ToolProvider.getSystemJavaCompiler;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static ru.tinkoff.qa.neptune.selenium.api.widget.WidgetIndexProcessor.WIDGET_INDEX;
+import static ru.tinkoff.qa.neptune.selenium.functions.searching.MultipleSearchSupplier.buttons;
+
+public class WidgetIndexTest extends BaseWebDriverTest {
+
+    private static final String SAMPLE_PACKAGE = "ru.tinkoff.qa.neptune.sample";
+
+    private Path directory;
+    private ClassLoader contextClassLoader;
+
+    private static JavaFileObject source(String className, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + SAMPLE_PACKAGE.replace('.', '/') + "/"
+                + className + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return "package " + SAMPLE_PACKAGE + ";\n" +
+                        "import org.openqa.selenium.WebElement;\n" +
+                        "import org.openqa.selenium.support.*;\n" +
+                        "import ru.tinkoff.qa.neptune.selenium.api.widget.*;\n" +
+                        "import ru.tinkoff.qa.neptune.selenium.api.widget.drafts.*;\n" + code;
+            }
+        };
+    }
+
+    @BeforeMethod
+    public void prepareDirectory() throws IOException {
+        directory = Files.createTempDirectory("widgets");
+        contextClassLoader = Thread.currentThread().getContextClassLoader();
+    }
+
+    @AfterMethod
+    public void restoreClassLoader() throws IOException {
+        Thread.currentThread().setContextClassLoader(contextClassLoader);
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted((path1, path2) -> path2.compareTo(path1)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void indexIsWrittenByProcessorTest() throws IOException {
+        JavaCompiler compiler = getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                    List.of("-d", directory.toString(), "-classpath", System.getProperty("java.class.path")),
+                    null,
+                    List.of(source("SampleButton", "@FindBy(tagName = \"button\")\n" +
+                                    "@Priority(2)\n" +
+                                    "@Name(\"Sample button\")\n" +
+                                    "public class SampleButton extends Button implements Labeled {\n" +
+                                    "    public SampleButton(WebElement element) {super(element);}\n" +
+                                    "    public void click() {}\n" +
+                                    "    public java.util.List<String> labels() {return null;}\n" +
+                                    "    public static class Inner extends SampleButton {\n" +
+                                    "        public Inner(WebElement element) {super(element);}\n" +
+                                    "    }\n" +
+                                    "}"),
+                            source("AbstractSampleLink", "@FindAll({@FindBy(tagName = \"a\")})\n" +
+                                    "public abstract class AbstractSampleLink extends Link {\n" +
+                                    "    public AbstractSampleLink(WebElement element) {super(element);}\n" +
+                                    "}"),
+                            source("NotAWidget", "public class NotAWidget {}")));
+            task.setProcessors(List.of(new WidgetIndexProcessor()));
+            assertThat(task.call(), is(true));
+        }
+
+        List<String> lines = Files.readAllLines(directory.resolve(WIDGET_INDEX), UTF_8);
+        assertThat(lines, contains(SAMPLE_PACKAGE + ".SampleButton\tFindBy\t2\ttrue\tSample button",
+                SAMPLE_PACKAGE + ".SampleButton$Inner\tFindBy\t" + Integer.MAX_VALUE + "\ttrue\tSample button"));
+    }
+
+    //indexes of parent class loaders are not visible, so the test doesn't depend on the index of compiled tests
+    private static ClassLoader isolatedClassLoader(ClassLoader parent, Path... roots) throws IOException {
+        URL[] urls = new URL[roots.length];
+        for (int i = 0; i < roots.length; i++) {
+            urls[i] = roots[i].toUri().toURL();
+        }
+
+        return new URLClassLoader(urls, parent) {
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                if (WIDGET_INDEX.equals(name)) {
+                    return findResources(name);
+                }
+                return super.getResources(name);
+            }
+        };
+    }
+
+    private List<String> classesOfFound() {
+        return seleniumSteps.find(buttons()).stream()
+                .map(button -> button.getClass().getSuperclass().getName())
+                .distinct()
+                .collect(toList());
+    }
+
+    @Test
+    public void indexedRootIsNotScannedTest() throws IOException {
+        Path scanned = Files.createTempDirectory(directory, "scanned");
+        Path indexed = Files.createTempDirectory(directory, "indexed");
+        JavaCompiler compiler = getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                    List.of("-proc:none", "-d", indexed.toString(),
+                            "-classpath", System.getProperty("java.class.path")),
+                    null,
+                    List.of(source("IndexedButton", "@FindBy(tagName = \"button\")\n" +
+                                    "public class IndexedButton extends Button {\n" +
+                                    "    public IndexedButton(WebElement element) {super(element);}\n" +
+                                    "    public void click() {}\n" +
+                                    "}"),
+                            source("NotIndexedButton", "@FindBy(tagName = \"button\")\n" +
+                                    "public class NotIndexedButton extends Button {\n" +
+                                    "    public NotIndexedButton(WebElement element) {super(element);}\n" +
+                                    "    public void click() {}\n" +
+                                    "}"),
+                            source("ScannedButton", "public class ScannedButton extends IndexedButton {\n" +
+                                    "    public ScannedButton(WebElement element) {super(element);}\n" +
+                                    "}")));
+            assertThat(task.call(), is(true));
+        }
+
+        //the widget of the root without index extends the indexed widget
+        Path scannedClass = scanned.resolve(SAMPLE_PACKAGE.replace('.', '/')).resolve("ScannedButton.class");
+        Files.createDirectories(scannedClass.getParent());
+        Files.move(indexed.resolve(SAMPLE_PACKAGE.replace('.', '/')).resolve("ScannedButton.class"), scannedClass);
+
+        Path index = indexed.resolve(WIDGET_INDEX);
+        Files.createDirectories(index.getParent());
+        Files.write(index, List.of(SAMPLE_PACKAGE + ".IndexedButton\tFindBy\t1\tfalse\tIndexed button",
+                SAMPLE_PACKAGE + ".AbsentButton\tFindBy\t1\tfalse\tAbsent button"), UTF_8);
+        Thread.currentThread().setContextClassLoader(isolatedClassLoader(contextClassLoader, indexed, scanned));
+
+        List<String> found = classesOfFound();
+        assertThat(found, hasItems(SAMPLE_PACKAGE + ".IndexedButton", SAMPLE_PACKAGE + ".ScannedButton",
+                CustomizedButton.class.getName()));
+        assertThat(found, not(hasItem(SAMPLE_PACKAGE + ".NotIndexedButton")));
+        //the class has the priority of the index. It has no annotation @Priority
+        assertThat(found.indexOf(SAMPLE_PACKAGE + ".IndexedButton"),
+                lessThan(found.indexOf(CustomizedButton.class.getName())));
+    }
+
+    @Test
+    public void allWidgetsAreFoundWithoutIndexTest() throws IOException {
+        Thread.currentThread().setContextClassLoader(isolatedClassLoader(contextClassLoader));
+
+        assertThat(classesOfFound().size(), greaterThan(1));
+    }
+}
@@ -1,11 +1,17 @@
 package ru.tinkoff.qa.neptune.testng.integration;
 
+import ru.tinkoff.qa.neptune.core.api.CreateWith;
+import ru.tinkoff.qa.neptune.core.api.GetStep;
+import ru.tinkoff.qa.neptune.core.api.PerformActionStep;
 import ru.tinkoff.qa.neptune.core.api.cleaning.Stoppable;
 import ru.tinkoff.qa.neptune.core.api.concurency.GroupingObjects;
+import ru.tinkoff.qa.neptune.core.api.concurency.ObjectContainer;
+import ru.tinkoff.qa.neptune.core.api.concurency.ObjectLease;
 import ru.tinkoff.qa.neptune.testng.integration.properties.RefreshEachTimeBefore;
 import org.testng.*;
 import org.testng.annotations.Ignore;
 import org.testng.annotations.Test;
+import org.testng.xml.XmlSuite;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
@@ -13,10 +19,25 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Thread.currentThread;
+import static java.lang.reflect.Modifier.isFinal;
 import static java.util.Optional.ofNullable;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static ru.tinkoff.qa.neptune.core.api.cleaning.Refreshable.refresh;
 import static ru.tinkoff.qa.neptune.core.api.concurency.GroupingObjects.addGroupingObjectForCurrentThread;
+import static ru.tinkoff.qa.neptune.core.api.concurency.ObjectLease.openLease;
+import static ru.tinkoff.qa.neptune.core.api.event.firing.StaticEventFiring.flushEvents;
+import static ru.tinkoff.qa.neptune.core.api.event.timing.StepLatencies.writeSummary;
+import static ru.tinkoff.qa.neptune.core.api.properties.StepPoolCapacityProperty.getStepPoolCapacity;
+import static ru.tinkoff.qa.neptune.core.api.proxy.ProxyFactory.createFreeObject;
+import static ru.tinkoff.qa.neptune.testng.integration.properties.TestNGPreWarmingProperty.PRE_WARMING_PROPERTY;
 import static ru.tinkoff.qa.neptune.testng.integration.properties.TestNGRefreshStrategyProperty.REFRESH_STRATEGY_PROPERTY;
 import static java.lang.reflect.Modifier.isStatic;
 import static java.util.Arrays.stream;
@@ -27,6 +48,7 @@ public class DefaultTestRunningListener implements IInvokedMethodListener, ISuit
     private final Set<Object> knownTests = new HashSet<>();
     private final List<Class<? extends Annotation>> refreshBeforeMethodsAnnotatedBy =
             new ArrayList<>(REFRESH_STRATEGY_PROPERTY.get().stream().map(RefreshEachTimeBefore::get).collect(toList()));
+    private final ThreadLocal<TestLease> testLease = new ThreadLocal<>();
 
     private static boolean isIgnored(Method method) {
         Class<?> declaredBy;
@@ -63,30 +85,181 @@ public class DefaultTestRunningListener implements IInvokedMethodListener, ISuit
 
     }
 
+    /**
+     * Step objects which are taken by the thread during invocation of {@code @BeforeMethod}-configurations,
+     * the test method and {@code @AfterMethod}-configurations are released when the last of them is finished.
+     * Objects taken by class/test/suite-level configurations are still released when the thread dies.
+     */
+    private void leaseIfNecessary(IInvokedMethod method) {
+        ITestNGMethod testNGMethod = method.getTestMethod();
+        if (!method.isTestMethod() && !testNGMethod.isBeforeMethodConfiguration()) {
+            return;
+        }
+
+        TestLease current = testLease.get();
+        if (current != null) {
+            if (!current.isTestFinished()) {
+                return;
+            }
+            //some @AfterMethod-configuration was not invoked
+            releaseLease();
+        }
+        testLease.set(new TestLease(openLease()));
+    }
+
+    private void releaseLeaseIfNecessary(IInvokedMethod method) {
+        TestLease current = testLease.get();
+        if (current == null) {
+            return;
+        }
+
+        ITestNGMethod testNGMethod = method.getTestMethod();
+        if (method.isTestMethod()) {
+            current.testFinished(ofNullable(testNGMethod.getTestClass())
+                    .map(iTestClass -> iTestClass.getAfterTestMethods().length).orElse(0));
+        }
+        else if (testNGMethod.isAfterMethodConfiguration() && current.isTestFinished()) {
+            current.afterMethodFinished();
+        }
+
+        if (current.isTestFinished() && current.afterMethodsLeft <= 0) {
+            releaseLease();
+        }
+    }
+
+    private void releaseLease() {
+        TestLease current = testLease.get();
+        testLease.remove();
+        current.lease.close();
+    }
+
     @Override
     public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
         ofNullable(testResult.getTestContext()).map(ITestContext::getSuite)
                 .ifPresent(GroupingObjects::addGroupingObjectForCurrentThread);
+        leaseIfNecessary(method);
         ofNullable(testResult.getInstance()).ifPresent(o ->
                 refreshIfNecessary(o, method.getTestMethod().getConstructorOrMethod().getMethod()));
     }
 
     @Override
     public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        //events of the test/configuration should be logged before its result is reported
+        flushEvents();
         if (!isIgnored(method.getTestMethod().getConstructorOrMethod()
                 .getMethod())) {
             Object instance = testResult.getInstance();
             knownTests.add(instance);
         }
+        releaseLeaseIfNecessary(method);
+    }
+
+    private static int countOfObjectsToPreWarm(ISuite suite) {
+        XmlSuite xmlSuite = suite.getXmlSuite();
+        return ofNullable(xmlSuite.getParallel())
+                .filter(XmlSuite.ParallelMode::isParallel)
+                .map(parallelMode -> max(xmlSuite.getThreadCount(), 1))
+                .orElse(1);
+    }
+
+    private static Set<Class<?>> stepClassesOf(ISuite suite) {
+        Set<Class<?>> result = new HashSet<>();
+        suite.getAllMethods().stream()
+                .map(ITestNGMethod::getRealClass)
+                .distinct()
+                .filter(aClass -> !isClassIgnored(aClass))
+                .forEach(aClass -> {
+                    Class<?> clazz = aClass;
+                    while (!clazz.equals(Object.class)) {
+                        stream(clazz.getDeclaredFields())
+                                .filter(field -> {
+                                    Class<?> type = field.getType();
+                                    int modifiers = field.getModifiers();
+                                    return !isStatic(modifiers) && !isFinal(modifiers)
+                                            && type.getAnnotation(CreateWith.class) != null
+                                            && (GetStep.class.isAssignableFrom(type)
+                                            || PerformActionStep.class.isAssignableFrom(type));
+                                })
+                                .forEach(field -> result.add(field.getType()));
+                        clazz = clazz.getSuperclass();
+                    }
+                });
+        return result;
+    }
+
+    /**
+     * Creates objects of step classes which are used by test classes of the suite. These objects are taken
+     * by threads of the suite later, so the first test of each thread doesn't wait for a browser launching etc.
+     */
+    private static void preWarm(ISuite suite) {
+        int count = countOfObjectsToPreWarm(suite);
+        List<Callable<ObjectContainer<?>>> tasks = new ArrayList<>();
+        stepClassesOf(suite).forEach(aClass -> {
+            int toCreate = ofNullable(getStepPoolCapacity(aClass)).map(capacity -> min(capacity, count))
+                    .orElse(count);
+            for (int i = 0; i < toCreate; i++) {
+                tasks.add(() -> createFreeObject(aClass, suite));
+            }
+        });
+
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        ExecutorService executor = newFixedThreadPool(min(count, tasks.size()));
+        try {
+            for (Future<ObjectContainer<?>> future: executor.invokeAll(tasks)) {
+                try {
+                    future.get();
+                }
+                catch (ExecutionException e) {
+                    //the object is going to be created by a test thread
+                    e.getCause().printStackTrace();
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            currentThread().interrupt();
+        }
+        finally {
+            executor.shutdownNow();
+        }
     }
 
     @Override
     public void onStart(ISuite suite) {
         addGroupingObjectForCurrentThread(suite);
+        if (PRE_WARMING_PROPERTY.get()) {
+            preWarm(suite);
+        }
     }
 
     @Override
     public void onFinish(ISuite suite) {
         knownTests.forEach(Stoppable::shutDown);
+        writeSummary();
+    }
+
+    private static final class TestLease {
+        private final ObjectLease lease;
+        private boolean testFinished;
+        private int afterMethodsLeft;
+
+        private TestLease(ObjectLease lease) {
+            this.lease = lease;
+        }
+
+        private boolean isTestFinished() {
+            return testFinished;
+        }
+
+        private void testFinished(int afterMethods) {
+            testFinished = true;
+            afterMethodsLeft = afterMethods;
+        }
+
+        private void afterMethodFinished() {
+            afterMethodsLeft--;
+        }
     }
 }
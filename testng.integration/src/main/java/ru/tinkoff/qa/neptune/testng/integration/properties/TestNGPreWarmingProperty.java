@@ -0,0 +1,32 @@
+package ru.tinkoff.qa.neptune.testng.integration.properties;
+
+import ru.tinkoff.qa.neptune.core.api.properties.PropertySupplier;
+
+public final class TestNGPreWarmingProperty implements PropertySupplier<Boolean> {
+
+    private static final String PROPERTY_NAME = "testng.pre.warm.step.objects";
+    public static final TestNGPreWarmingProperty PRE_WARMING_PROPERTY = new TestNGPreWarmingProperty();
+
+    private TestNGPreWarmingProperty() {
+        super();
+    }
+
+    @Override
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * This method reads the property {@code 'testng.pre.warm.step.objects'}. When it has value {@code true} then
+     * objects of step classes used by fields of test classes are created when a suite is started. Count of
+     * objects of each class is equal to the thread count of the suite when tests are run in parallel. One object
+     * of each class is created otherwise.
+     *
+     * @return value of the property. {@code false} is returned when the property is not defined.
+     */
+    @Override
+    public Boolean get() {
+        return returnOptionalFromEnvironment()
+                .map(Boolean::parseBoolean).orElse(false);
+    }
+}
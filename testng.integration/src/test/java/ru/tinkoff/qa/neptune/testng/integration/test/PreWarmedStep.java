@@ -0,0 +1,34 @@
+package ru.tinkoff.qa.neptune.testng.integration.test;
+
+import ru.tinkoff.qa.neptune.core.api.CreateWith;
+import ru.tinkoff.qa.neptune.core.api.GetStep;
+import ru.tinkoff.qa.neptune.core.api.ProviderOfEmptyParameters;
+import ru.tinkoff.qa.neptune.core.api.cleaning.PreWarmable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@CreateWith(provider = ProviderOfEmptyParameters.class)
+public class PreWarmedStep implements GetStep<PreWarmedStep>, PreWarmable {
+
+    static final AtomicInteger CREATED = new AtomicInteger();
+    static final AtomicInteger PRE_WARMED = new AtomicInteger();
+    static final AtomicInteger CREATED_BEFORE_FIRST_USE = new AtomicInteger(-1);
+
+    public PreWarmedStep() {
+        CREATED.incrementAndGet();
+    }
+
+    @Override
+    public void preWarm() {
+        PRE_WARMED.incrementAndGet();
+    }
+
+    public void use() {
+        CREATED_BEFORE_FIRST_USE.compareAndSet(-1, CREATED.get());
+        try {
+            Thread.sleep(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
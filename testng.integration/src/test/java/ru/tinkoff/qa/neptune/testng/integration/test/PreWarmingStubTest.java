@@ -0,0 +1,29 @@
+package ru.tinkoff.qa.neptune.testng.integration.test;
+
+import org.testng.annotations.Test;
+import ru.tinkoff.qa.neptune.testng.integration.BaseTestNgTest;
+
+public class PreWarmingStubTest extends BaseTestNgTest {
+
+    private PreWarmedStep preWarmedStep;
+
+    @Test
+    public void firstTest() {
+        preWarmedStep.use();
+    }
+
+    @Test
+    public void secondTest() {
+        preWarmedStep.use();
+    }
+
+    @Test
+    public void thirdTest() {
+        preWarmedStep.use();
+    }
+
+    @Test
+    public void fourthTest() {
+        preWarmedStep.use();
+    }
+}
@@ -0,0 +1,47 @@
+package ru.tinkoff.qa.neptune.testng.integration.test;
+
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static ru.tinkoff.qa.neptune.testng.integration.properties.TestNGPreWarmingProperty.PRE_WARMING_PROPERTY;
+
+public class TestNgPreWarmingTest {
+
+    @Test
+    public void preWarmingTest() {
+        PreWarmedStep.CREATED.set(0);
+        PreWarmedStep.PRE_WARMED.set(0);
+        PreWarmedStep.CREATED_BEFORE_FIRST_USE.set(-1);
+
+        XmlSuite suite = new XmlSuite();
+        suite.setName("PreWarmingSuite");
+        suite.setParallel(XmlSuite.ParallelMode.METHODS);
+        suite.setThreadCount(2);
+
+        XmlTest test = new XmlTest(suite);
+        test.setXmlClasses(List.of(new XmlClass(PreWarmingStubTest.class.getName())));
+
+        TestNG testNG = new TestNG();
+        testNG.setXmlSuites(List.of(suite));
+
+        PRE_WARMING_PROPERTY.accept("true");
+        try {
+            testNG.run();
+        }
+        finally {
+            System.getProperties().remove(PRE_WARMING_PROPERTY.getPropertyName());
+        }
+
+        assertThat("Count of created objects", PreWarmedStep.CREATED.get(), is(2));
+        assertThat("Count of pre-warmed objects", PreWarmedStep.PRE_WARMED.get(), is(2));
+        assertThat("Count of objects created before the first test", PreWarmedStep.CREATED_BEFORE_FIRST_USE.get(),
+                is(2));
+    }
+}